@@ -0,0 +1,49 @@
+package com.opencsv.benchmarks;
+
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes beans with {@link com.opencsv.bean.StatefulBeanToCsv}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanToCsvBenchmark {
+
+    @Param("10000")
+    public int rows;
+
+    private List<BenchmarkBean> beans;
+
+    @Setup
+    public void setUp() {
+        beans = BenchmarkData.beans(rows);
+    }
+
+    @Benchmark
+    public String write() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        StringWriter writer = new StringWriter();
+        new StatefulBeanToCsvBuilder<BenchmarkBean>(writer).build().write(beans);
+        return writer.toString();
+    }
+}
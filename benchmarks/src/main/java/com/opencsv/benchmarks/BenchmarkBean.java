@@ -0,0 +1,78 @@
+package com.opencsv.benchmarks;
+
+import com.opencsv.bean.CsvBindByName;
+
+/**
+ * A bean with fields of the types most commonly bound.
+ */
+public class BenchmarkBean {
+
+    /** The categories a bean can belong to. */
+    public enum Category { RETAIL, WHOLESALE, INTERNAL }
+
+    @CsvBindByName(column = "ID", required = true)
+    private long id;
+
+    @CsvBindByName(column = "NAME")
+    private String name;
+
+    @CsvBindByName(column = "AMOUNT")
+    private double amount;
+
+    @CsvBindByName(column = "ACTIVE")
+    private boolean active;
+
+    @CsvBindByName(column = "CATEGORY")
+    private Category category;
+
+    @CsvBindByName(column = "DESCRIPTION")
+    private String description;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,138 @@
+package com.opencsv.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the data sets the benchmarks run on.
+ * All data are generated from a fixed seed, so every run of a benchmark sees
+ * the same input.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 4180L;
+
+    private static final String[] WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf",
+            "hotel", "india", "juliett", "kilo", "lima", "mike", "november"
+    };
+
+    /** The kinds of input the parser and reader benchmarks run on. */
+    public enum Shape {
+        /** Ten short unquoted fields per record. */
+        UNQUOTED(10, false, false),
+        /** Ten quoted fields per record, some with separators and escaped quotes. */
+        QUOTED(10, true, false),
+        /** One hundred short unquoted fields per record. */
+        WIDE(100, false, false),
+        /** Ten quoted fields per record, some of which span several lines. */
+        MULTILINE(10, true, true);
+
+        private final int columns;
+        private final boolean quoted;
+        private final boolean multiline;
+
+        Shape(int columns, boolean quoted, boolean multiline) {
+            this.columns = columns;
+            this.quoted = quoted;
+            this.multiline = multiline;
+        }
+    }
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Generates the records of a data set.
+     *
+     * @param shape The kind of input
+     * @param rows  The number of records
+     * @return The fields of every record
+     */
+    public static List<String[]> records(Shape shape, int rows) {
+        Random random = new Random(SEED);
+        List<String[]> records = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            String[] record = new String[shape.columns];
+            for (int column = 0; column < record.length; column++) {
+                record[column] = field(random, shape);
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static String field(Random random, Shape shape) {
+        StringBuilder sb = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        int words = random.nextInt(shape.columns > 10 ? 2 : 6);
+        for (int i = 0; i < words; i++) {
+            sb.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (shape.quoted) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    sb.append(", ").append(random.nextInt(1000));
+                    break;
+                case 1:
+                    sb.insert(0, '"').append('"');
+                    break;
+                case 2:
+                    if (shape.multiline) {
+                        sb.append('\n').append(WORDS[random.nextInt(WORDS.length)]);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats records as CSV text, quoting fields as RFC 4180 requires.
+     *
+     * @param records The records to format
+     * @return The CSV text, with "\n" after every record
+     */
+    public static String toCsv(List<String[]> records) {
+        StringBuilder sb = new StringBuilder();
+        for (String[] record : records) {
+            for (int i = 0; i < record.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                String field = record[i];
+                if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0) {
+                    sb.append('"').append(field.replace("\"", "\"\"")).append('"');
+                } else {
+                    sb.append(field);
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generates beans for the bean binding benchmarks.
+     *
+     * @param rows The number of beans
+     * @return The beans
+     */
+    public static List<BenchmarkBean> beans(int rows) {
+        Random random = new Random(SEED);
+        List<BenchmarkBean> beans = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            BenchmarkBean bean = new BenchmarkBean();
+            bean.setId(row);
+            bean.setName(WORDS[random.nextInt(WORDS.length)] + ' ' + WORDS[random.nextInt(WORDS.length)]);
+            bean.setAmount(random.nextDouble() * 10000);
+            bean.setActive(random.nextBoolean());
+            bean.setCategory(BenchmarkBean.Category.values()[random.nextInt(BenchmarkBean.Category.values().length)]);
+            bean.setDescription(field(random, Shape.QUOTED));
+            beans.add(bean);
+        }
+        return beans;
+    }
+}
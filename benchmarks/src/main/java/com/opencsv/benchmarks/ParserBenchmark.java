@@ -0,0 +1,64 @@
+package com.opencsv.benchmarks;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.ICSVParser;
+import com.opencsv.RFC4180ParserBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits physical lines into fields with the two {@link ICSVParser}
+ * implementations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    /** The parser implementations compared. */
+    public enum ParserType { CSV_PARSER, RFC4180_PARSER }
+
+    @Param
+    public ParserType parserType;
+
+    @Param
+    public BenchmarkData.Shape shape;
+
+    @Param("10000")
+    public int rows;
+
+    private String[] lines;
+    private ICSVParser parser;
+
+    @Setup
+    public void setUp() {
+        String csv = BenchmarkData.toCsv(BenchmarkData.records(shape, rows));
+        lines = csv.substring(0, csv.length() - 1).split("\n", -1);
+        parser = parserType == ParserType.CSV_PARSER
+                ? new CSVParserBuilder().withEscapeChar(ICSVParser.NULL_CHARACTER).build()
+                : new RFC4180ParserBuilder().build();
+    }
+
+    @Benchmark
+    public void parseLineMulti(Blackhole blackhole) throws IOException {
+        for (String line : lines) {
+            blackhole.consume(parser.parseLineMulti(line));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.opencsv.benchmarks;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.exceptions.CsvException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads records with {@link CSVReader}, with and without the character
+ * buffer tokenizer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReaderBenchmark {
+
+    @Param
+    public BenchmarkData.Shape shape;
+
+    @Param({"false", "true"})
+    public boolean charBufferTokenizer;
+
+    @Param("10000")
+    public int rows;
+
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        csv = BenchmarkData.toCsv(BenchmarkData.records(shape, rows));
+    }
+
+    private CSVReader newReader() {
+        return new CSVReaderBuilder(new StringReader(csv))
+                .withCSVParser(new RFC4180ParserBuilder().build())
+                .withCharBufferTokenizer(charBufferTokenizer)
+                .build();
+    }
+
+    @Benchmark
+    public void readNext(Blackhole blackhole) throws IOException, CsvException {
+        try (CSVReader reader = newReader()) {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                blackhole.consume(record);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String[]> readAll() throws IOException, CsvException {
+        try (CSVReader reader = newReader()) {
+            return reader.readAll();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.opencsv.benchmarks;
+
+import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams beans with {@link com.opencsv.bean.CsvToBean} from a
+ * {@link Reader} that delivers its input slowly, as a network connection
+ * would.
+ * <p>The time per operation is dominated by the reader. What matters is the
+ * CPU time reported in the secondary results: {@code consumerCpuMillis} is
+ * the time the thread consuming the stream spent on the CPU, most of which
+ * is waiting for beans, and {@code processCpuMillis} is the time all threads
+ * together spent on the CPU.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlowReaderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean orderedResults;
+
+    @Param("2000")
+    public int rows;
+
+    /** The number of characters the reader delivers at once. */
+    @Param("256")
+    public int chunkSize;
+
+    /** The time the reader takes for every chunk. */
+    @Param("1")
+    public int delayMillis;
+
+    private String csv;
+
+    /** The CPU time used by one operation, in milliseconds. */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CpuTime {
+        public double consumerCpuMillis;
+        public double processCpuMillis;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            consumerCpuMillis = 0;
+            processCpuMillis = 0;
+        }
+    }
+
+    /**
+     * Delivers a string a few characters at a time, taking its time for
+     * every read, and never claims to have more ready.
+     */
+    private static class SlowReader extends StringReader {
+        private final int chunkSize;
+        private final long delayMillis;
+
+        SlowReader(String s, int chunkSize, long delayMillis) {
+            super(s);
+            this.chunkSize = chunkSize;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            return super.read(cbuf, off, Math.min(len, chunkSize));
+        }
+
+        @Override
+        public boolean ready() {
+            return false;
+        }
+    }
+
+    @Setup
+    public void setUp() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        StringWriter writer = new StringWriter();
+        new StatefulBeanToCsvBuilder<BenchmarkBean>(writer).build().write(BenchmarkData.beans(rows));
+        csv = writer.toString();
+    }
+
+    private static long processCpuTime() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return os instanceof com.sun.management.OperatingSystemMXBean
+                ? ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime()
+                : 0L;
+    }
+
+    @Benchmark
+    public void stream(CpuTime cpuTime, Blackhole blackhole) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long consumerStart = threads.getCurrentThreadCpuTime();
+        long processStart = processCpuTime();
+
+        new CsvToBeanBuilder<BenchmarkBean>(new SlowReader(csv, chunkSize, delayMillis))
+                .withType(BenchmarkBean.class)
+                .withOrderedResults(orderedResults)
+                .build()
+                .stream()
+                .forEach(blackhole::consume);
+
+        cpuTime.consumerCpuMillis += (threads.getCurrentThreadCpuTime() - consumerStart) / 1e6;
+        cpuTime.processCpuMillis += (processCpuTime() - processStart) / 1e6;
+    }
+}
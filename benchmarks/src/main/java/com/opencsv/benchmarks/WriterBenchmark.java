@@ -0,0 +1,59 @@
+package com.opencsv.benchmarks;
+
+import com.opencsv.CSVWriterBuilder;
+import com.opencsv.ICSVWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes records with {@link com.opencsv.CSVWriter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriterBenchmark {
+
+    @Param
+    public BenchmarkData.Shape shape;
+
+    @Param({"true", "false"})
+    public boolean applyQuotesToAll;
+
+    @Param("10000")
+    public int rows;
+
+    private List<String[]> records;
+
+    @Setup
+    public void setUp() {
+        records = BenchmarkData.records(shape, rows);
+    }
+
+    @Benchmark
+    public String writeNext() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (ICSVWriter csvWriter = new CSVWriterBuilder(writer).build()) {
+            for (String[] record : records) {
+                csvWriter.writeNext(record, applyQuotesToAll);
+            }
+        }
+        return writer.toString();
+    }
+}
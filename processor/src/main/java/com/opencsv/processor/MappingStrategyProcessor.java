@@ -0,0 +1,470 @@
+package com.opencsv.processor;
+
+import com.opencsv.bean.AbstractGeneratedMappingStrategy;
+import com.opencsv.bean.CsvBindAndJoinByName;
+import com.opencsv.bean.CsvBindAndJoinByNames;
+import com.opencsv.bean.CsvBindAndJoinByPosition;
+import com.opencsv.bean.CsvBindAndJoinByPositions;
+import com.opencsv.bean.CsvBindAndSplitByName;
+import com.opencsv.bean.CsvBindAndSplitByNames;
+import com.opencsv.bean.CsvBindAndSplitByPosition;
+import com.opencsv.bean.CsvBindAndSplitByPositions;
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvBindByNames;
+import com.opencsv.bean.CsvBindByPosition;
+import com.opencsv.bean.CsvBindByPositions;
+import com.opencsv.bean.CsvCustomBindByName;
+import com.opencsv.bean.CsvCustomBindByNames;
+import com.opencsv.bean.CsvCustomBindByPosition;
+import com.opencsv.bean.CsvCustomBindByPositions;
+import com.opencsv.bean.CsvDate;
+import com.opencsv.bean.CsvDates;
+import com.opencsv.bean.CsvIgnore;
+import com.opencsv.bean.CsvNumber;
+import com.opencsv.bean.CsvNumbers;
+import com.opencsv.bean.CsvRecurse;
+import com.opencsv.bean.processor.PreAssignmentProcessor;
+import com.opencsv.bean.validators.PreAssignmentValidator;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates a {@link com.opencsv.bean.MappingStrategy} at compile time for
+ * every bean bound with {@link CsvBindByName} or {@link CsvBindByPosition}.
+ * <p>The strategy for a bean {@code com.example.Person} is
+ * {@code com.example.PersonMappingStrategy}, and for a nested bean
+ * {@code com.example.Outer.Inner} it is
+ * {@code com.example.Outer_InnerMappingStrategy}. It extends
+ * {@link AbstractGeneratedMappingStrategy}, creates beans with their
+ * constructor and assigns and reads member variables through their accessor
+ * methods or directly, with the conversions written out, so neither the
+ * bean nor its annotations are ever looked at through reflection. It is
+ * used by passing it to
+ * {@link com.opencsv.bean.CsvToBeanBuilder#withMappingStrategy(com.opencsv.bean.MappingStrategy)}
+ * or
+ * {@link com.opencsv.bean.StatefulBeanToCsvBuilder#withMappingStrategy(com.opencsv.bean.MappingStrategy)}.</p>
+ * <p>Only the default conversion of strings, primitives, their wrappers,
+ * {@link java.math.BigDecimal} and {@link java.math.BigInteger} is written
+ * out, for the default profile. A bean that needs more, for instance a
+ * locale, a date or number format, splitting, joining, recursion, a custom
+ * converter, a processor or a validator, is reported in a note and left to
+ * the reflective mapping strategies, as is a bean whose member variables or
+ * constructor cannot be reached from its own package.</p>
+ *
+ * @since 5.5
+ */
+public class MappingStrategyProcessor extends AbstractProcessor {
+
+    /** Appended to the name of a bean to name its strategy. */
+    static final String SUFFIX = "MappingStrategy";
+
+    /** Annotations that need conversions the generated code does not do. */
+    private static final List<Class<?>> UNSUPPORTED_ANNOTATIONS = Arrays.asList(
+            CsvBindByNames.class, CsvBindByPositions.class,
+            CsvCustomBindByName.class, CsvCustomBindByNames.class,
+            CsvCustomBindByPosition.class, CsvCustomBindByPositions.class,
+            CsvBindAndSplitByName.class, CsvBindAndSplitByNames.class,
+            CsvBindAndSplitByPosition.class, CsvBindAndSplitByPositions.class,
+            CsvBindAndJoinByName.class, CsvBindAndJoinByNames.class,
+            CsvBindAndJoinByPosition.class, CsvBindAndJoinByPositions.class,
+            CsvDate.class, CsvDates.class, CsvNumber.class, CsvNumbers.class,
+            CsvRecurse.class, PreAssignmentProcessor.class, PreAssignmentValidator.class);
+
+    /** The expression converting {@code value} for each supported type, by type name. */
+    private static final Map<String, String> PARSERS = new HashMap<>();
+    static {
+        PARSERS.put("byte", "Byte.parseByte(value.trim())");
+        PARSERS.put("short", "Short.parseShort(value.trim())");
+        PARSERS.put("int", "Integer.parseInt(value.trim())");
+        PARSERS.put("long", "Long.parseLong(value.trim())");
+        PARSERS.put("float", "Float.parseFloat(value.trim())");
+        PARSERS.put("double", "Double.parseDouble(value.trim())");
+        PARSERS.put("boolean", "toBoolean(value)");
+        PARSERS.put("char", "toCharacter(value)");
+        PARSERS.put("java.lang.Byte", "Byte.valueOf(value.trim())");
+        PARSERS.put("java.lang.Short", "Short.valueOf(value.trim())");
+        PARSERS.put("java.lang.Integer", "Integer.valueOf(value.trim())");
+        PARSERS.put("java.lang.Long", "Long.valueOf(value.trim())");
+        PARSERS.put("java.lang.Float", "Float.valueOf(value.trim())");
+        PARSERS.put("java.lang.Double", "Double.valueOf(value.trim())");
+        PARSERS.put("java.lang.Boolean", "toBoolean(value)");
+        PARSERS.put("java.lang.Character", "toCharacter(value)");
+        PARSERS.put("java.lang.String", "value");
+        PARSERS.put("java.math.BigDecimal", "new java.math.BigDecimal(value.trim())");
+        PARSERS.put("java.math.BigInteger", "new java.math.BigInteger(value.trim())");
+    }
+
+    /** The beans already dealt with, by qualified name. */
+    private final Set<String> processedTypes = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(
+                CsvBindByName.class.getCanonicalName(),
+                CsvBindByPosition.class.getCanonicalName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> beans = new LinkedHashSet<>();
+        for(TypeElement annotation : annotations) {
+            for(VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                beans.add((TypeElement) field.getEnclosingElement());
+            }
+        }
+        for(TypeElement bean : beans) {
+            if(processedTypes.add(bean.getQualifiedName().toString())) {
+                try {
+                    generate(bean);
+                } catch (UnsupportedBeanException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                            String.format("No mapping strategy generated for %s: %s",
+                                    bean.getQualifiedName(), e.getMessage()),
+                            e.element == null ? bean : e.element);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            String.format("Writing the mapping strategy for %s failed: %s",
+                                    bean.getQualifiedName(), e.getMessage()),
+                            bean);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A bean, or one of its member variables, that the generated code cannot
+     * handle.
+     */
+    private static class UnsupportedBeanException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        UnsupportedBeanException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+
+    /** A member variable bound to a column. */
+    private static class Binding {
+        private final VariableElement field;
+        private final String type;
+        private final boolean required;
+        private final String column;
+        private final int position;
+        private String setter, getter;
+
+        Binding(VariableElement field, String type, boolean required, String column, int position) {
+            this.field = field;
+            this.type = type;
+            this.required = required;
+            this.column = column;
+            this.position = position;
+        }
+    }
+
+    private void generate(TypeElement bean) throws UnsupportedBeanException, IOException {
+        checkBean(bean);
+
+        // Collect all member variables, including inherited ones, the same
+        // way the reflective strategies do
+        List<VariableElement> fields = new ArrayList<>();
+        for(TypeElement t = bean; t != null; t = superclass(t)) {
+            fields.addAll(ElementFilter.fieldsIn(t.getEnclosedElements()));
+        }
+
+        // Position annotations take precedence, as in
+        // OpencsvUtils.determineMappingStrategy()
+        boolean byPosition = fields.stream().anyMatch(f -> f.getAnnotation(CsvBindByPosition.class) != null);
+        List<Binding> bindings = new ArrayList<>();
+        for(VariableElement field : fields) {
+            checkAnnotations(field);
+            Binding binding = byPosition ? bindByPosition(field) : bindByName(field);
+            if(binding != null) {
+                determineAccess(bean, binding);
+                bindings.add(binding);
+            }
+        }
+        Set<Object> columns = new HashSet<>();
+        for(Binding binding : bindings) {
+            if(!columns.add(byPosition ? binding.position : binding.column.toUpperCase().trim())) {
+                throw new UnsupportedBeanException(binding.field, "more than one field is bound to the same column");
+            }
+        }
+
+        writeStrategy(bean, bindings, byPosition);
+    }
+
+    private void checkBean(TypeElement bean) throws UnsupportedBeanException {
+        if(bean.getKind() != ElementKind.CLASS || bean.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedBeanException(bean, "only concrete classes can be instantiated");
+        }
+        if(!bean.getTypeParameters().isEmpty()) {
+            throw new UnsupportedBeanException(bean, "generic classes are not supported");
+        }
+        for(Element e = bean; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if(e.getModifiers().contains(Modifier.PRIVATE)
+                    || e.getEnclosingElement() instanceof TypeElement && !e.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedBeanException(bean, "the class is private or an inner class");
+            }
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(bean.getEnclosedElements());
+        if(constructors.stream().noneMatch(c -> c.getParameters().isEmpty()
+                && !c.getModifiers().contains(Modifier.PRIVATE))) {
+            throw new UnsupportedBeanException(bean, "the class has no accessible constructor without parameters");
+        }
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if(superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    private void checkAnnotations(VariableElement field) throws UnsupportedBeanException {
+        for(Class<?> annotation : UNSUPPORTED_ANNOTATIONS) {
+            for(AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                if(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                        .contentEquals(annotation.getCanonicalName())) {
+                    throw new UnsupportedBeanException(field, "@" + annotation.getSimpleName() + " is not supported");
+                }
+            }
+        }
+    }
+
+    /**
+     * @param field A member variable
+     * @return Whether the member variable is ignored in the default profile
+     */
+    private static boolean isIgnored(VariableElement field) {
+        CsvIgnore ignore = field.getAnnotation(CsvIgnore.class);
+        return ignore != null && Arrays.asList(ignore.profiles()).contains("");
+    }
+
+    private Binding bindByName(VariableElement field) throws UnsupportedBeanException {
+        CsvBindByName annotation = field.getAnnotation(CsvBindByName.class);
+        if(annotation == null || isIgnored(field) || !Arrays.asList(annotation.profiles()).contains("")) {
+            return null;
+        }
+        checkDefaultConversion(field, annotation.locale(), annotation.writeLocale(), annotation.capture(), annotation.format());
+        String column = annotation.column().trim().isEmpty() ? field.getSimpleName().toString() : annotation.column();
+        return new Binding(field, checkType(field), annotation.required(), column, -1);
+    }
+
+    private Binding bindByPosition(VariableElement field) throws UnsupportedBeanException {
+        CsvBindByPosition annotation = field.getAnnotation(CsvBindByPosition.class);
+        if(annotation == null || isIgnored(field) || !Arrays.asList(annotation.profiles()).contains("")) {
+            return null;
+        }
+        checkDefaultConversion(field, annotation.locale(), annotation.writeLocale(), annotation.capture(), annotation.format());
+        if(annotation.position() < 0) {
+            throw new UnsupportedBeanException(field, "negative positions are not supported");
+        }
+        return new Binding(field, checkType(field), annotation.required(), null, annotation.position());
+    }
+
+    private static void checkDefaultConversion(VariableElement field, String... attributes) throws UnsupportedBeanException {
+        if(field.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedBeanException(field, "static fields are not supported");
+        }
+        if(Stream.of(attributes).anyMatch(a -> !a.isEmpty())) {
+            throw new UnsupportedBeanException(field, "locales, capture and format are not supported");
+        }
+    }
+
+    private String checkType(VariableElement field) throws UnsupportedBeanException {
+        TypeMirror type = field.asType();
+        String name = type.getKind() == TypeKind.DECLARED
+                ? ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString()
+                : type.toString();
+        if(!PARSERS.containsKey(name)) {
+            throw new UnsupportedBeanException(field, "fields of type " + type + " are not supported");
+        }
+        return name;
+    }
+
+    /**
+     * Chooses accessor methods where the reflective strategies would use
+     * them, and otherwise the member variable itself.
+     */
+    private void determineAccess(TypeElement bean, Binding binding) throws UnsupportedBeanException {
+        VariableElement field = binding.field;
+        TypeElement declaringClass = (TypeElement) field.getEnclosingElement();
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(declaringClass)).stream()
+                .filter(m -> m.getModifiers().contains(Modifier.PUBLIC) && !m.getModifiers().contains(Modifier.STATIC))
+                .collect(Collectors.toList());
+
+        for(ExecutableElement m : methods) {
+            if(m.getSimpleName().contentEquals("get" + capitalized) && m.getParameters().isEmpty()) {
+                if(!processingEnv.getTypeUtils().isSameType(m.getReturnType(), field.asType())) {
+                    throw new UnsupportedBeanException(m, "accessors of a different type are not supported");
+                }
+                binding.getter = m.getSimpleName() + "()";
+            }
+            else if(m.getSimpleName().contentEquals("set" + capitalized) && m.getParameters().size() == 1) {
+                TypeMirror parameter = m.getParameters().get(0).asType();
+                if(processingEnv.getTypeUtils().isSameType(parameter, field.asType())) {
+                    binding.setter = m.getSimpleName().toString();
+                }
+                else if(parameter.getKind() == TypeKind.DECLARED
+                        && ((TypeElement) ((DeclaredType) parameter).asElement()).getQualifiedName()
+                        .contentEquals(Optional.class.getName())) {
+                    throw new UnsupportedBeanException(m, "accessors of a different type are not supported");
+                }
+            }
+        }
+
+        if(binding.getter == null || binding.setter == null) {
+            Set<Modifier> modifiers = field.getModifiers();
+            boolean samePackage = processingEnv.getElementUtils().getPackageOf(declaringClass)
+                    .equals(processingEnv.getElementUtils().getPackageOf(bean));
+            if(modifiers.contains(Modifier.PRIVATE)
+                    || !modifiers.contains(Modifier.PUBLIC) && !samePackage
+                    || binding.setter == null && modifiers.contains(Modifier.FINAL)) {
+                throw new UnsupportedBeanException(field, "the field needs a public getter and setter or must be accessible from its package");
+            }
+            if(binding.getter == null) {
+                binding.getter = name;
+            }
+        }
+    }
+
+    /**
+     * @param bean        A bean
+     * @param packageName The package of the bean
+     * @return The qualified name of the strategy generated for the bean
+     */
+    static String strategyName(TypeElement bean, String packageName) {
+        String qualifiedName = bean.getQualifiedName().toString();
+        String nestedName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + nestedName.replace('.', '_') + SUFFIX;
+    }
+
+    private void writeStrategy(TypeElement bean, List<Binding> bindings, boolean byPosition) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(bean).getQualifiedName().toString();
+        String qualifiedName = strategyName(bean, packageName);
+        String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        String beanName = bean.getQualifiedName().toString();
+
+        try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, bean).openWriter();
+            PrintWriter out = new PrintWriter(writer)) {
+            if(!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("/**%n");
+            out.printf(" * Maps {@link %s} without reflection.%n", beanName);
+            out.printf(" * <p>Generated by %s. Do not edit.</p>%n", MappingStrategyProcessor.class.getName());
+            out.printf(" */%n");
+            out.printf("public final class %s extends %s<%s> {%n%n",
+                    simpleName, AbstractGeneratedMappingStrategy.class.getName(), beanName);
+
+            out.printf("    public %s() {%n", simpleName);
+            out.printf("        super(%s.class,%n", beanName);
+            out.printf("                new String[] {%s},%n", bindings.stream()
+                    .map(b -> quote(b.field.getSimpleName().toString()))
+                    .collect(Collectors.joining(", ")));
+            out.printf("                new Class<?>[] {%s},%n", bindings.stream()
+                    .map(b -> b.type + ".class")
+                    .collect(Collectors.joining(", ")));
+            out.printf("                new boolean[] {%s},%n", bindings.stream()
+                    .map(b -> Boolean.toString(b.required))
+                    .collect(Collectors.joining(", ")));
+            if(byPosition) {
+                out.printf("                null,%n");
+                out.printf("                new int[] {%s});%n", bindings.stream()
+                        .map(b -> Integer.toString(b.position))
+                        .collect(Collectors.joining(", ")));
+            }
+            else {
+                out.printf("                new String[] {%s},%n", bindings.stream()
+                        .map(b -> quote(b.column))
+                        .collect(Collectors.joining(", ")));
+                out.printf("                null);%n");
+            }
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    protected %s newBean() {%n", beanName);
+            out.printf("        return new %s();%n", beanName);
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    protected void setValue(%s bean, int field, String value) {%n", beanName);
+            out.printf("        switch (field) {%n");
+            for(int i = 0; i < bindings.size(); i++) {
+                Binding b = bindings.get(i);
+                String converted = PARSERS.get(b.type);
+                if(b.setter != null) {
+                    out.printf("            case %d: bean.%s(%s); break;%n", i, b.setter, converted);
+                }
+                else {
+                    out.printf("            case %d: bean.%s = %s; break;%n", i, b.field.getSimpleName(), converted);
+                }
+            }
+            out.printf("            default: throw new IndexOutOfBoundsException(Integer.toString(field));%n");
+            out.printf("        }%n");
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    protected String getValue(%s bean, int field) {%n", beanName);
+            out.printf("        switch (field) {%n");
+            for(int i = 0; i < bindings.size(); i++) {
+                Binding b = bindings.get(i);
+                String value = "bean." + b.getter;
+                if(b.field.asType().getKind().isPrimitive()) {
+                    value = "String.valueOf(" + value + ")";
+                }
+                else if(!b.type.equals(String.class.getName())) {
+                    value = "java.util.Objects.toString(" + value + ", null)";
+                }
+                out.printf("            case %d: return %s;%n", i, value);
+            }
+            out.printf("            default: throw new IndexOutOfBoundsException(Integer.toString(field));%n");
+            out.printf("        }%n");
+            out.printf("    }%n");
+            out.printf("}%n");
+        }
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for(char c : s.toCharArray()) {
+            if(c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            }
+            else if(c < ' ' || c > '~') {
+                sb.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
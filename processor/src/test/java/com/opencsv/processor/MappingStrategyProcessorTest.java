@@ -0,0 +1,189 @@
+package com.opencsv.processor;
+
+import com.opencsv.bean.CsvToBean;
+import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.bean.MappingStrategy;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappingStrategyProcessorTest {
+
+    private static final String NAME_BEAN = "package beans;\n"
+            + "import com.opencsv.bean.*;\n"
+            + "public class Person {\n"
+            + "    @CsvBindByName(required = true) String name;\n"
+            + "    @CsvBindByName(column = \"years\") private int age;\n"
+            + "    @CsvBindByName private Boolean member;\n"
+            + "    @CsvBindByName public java.math.BigDecimal balance;\n"
+            + "    @CsvBindByName(profiles = \"other\") String other;\n"
+            + "    @CsvIgnore @CsvBindByName String ignored;\n"
+            + "    int unbound;\n"
+            + "    public int getAge() { return age; }\n"
+            + "    public void setAge(int age) { this.age = age; }\n"
+            + "    public Boolean getMember() { return member; }\n"
+            + "    public void setMember(Boolean member) { this.member = member; }\n"
+            + "    public static class Nested {\n"
+            + "        @CsvBindByPosition(position = 2) public Long id;\n"
+            + "        @CsvBindByPosition(position = 0, required = true) public char code;\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String UNSUPPORTED_BEAN = "package beans;\n"
+            + "import com.opencsv.bean.*;\n"
+            + "public class Dated {\n"
+            + "    @CsvBindByName @CsvDate(\"yyyy-MM-dd\") java.util.Date date;\n"
+            + "}\n";
+
+    private Path output;
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+    private ClassLoader loader;
+
+    private static class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String name, String code) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    @BeforeEach
+    public void compile() throws IOException {
+        output = Files.createTempDirectory("opencsv-processor");
+        diagnostics = new DiagnosticCollector<>();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output.toFile()));
+            List<File> classPath = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                    .map(File::new).collect(Collectors.toList());
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classPath);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, null, null,
+                    Arrays.asList(new Source("beans.Person", NAME_BEAN), new Source("beans.Dated", UNSUPPORTED_BEAN)));
+            task.setProcessors(Collections.singletonList(new MappingStrategyProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        }
+        loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private MappingStrategy<Object> strategy(String name) throws ReflectiveOperationException {
+        return (MappingStrategy<Object>) loader.loadClass(name).getConstructor().newInstance();
+    }
+
+    @Test
+    public void testBindingByName() throws ReflectiveOperationException, CsvException {
+        MappingStrategy<Object> strategy = strategy("beans.PersonMappingStrategy");
+        List<Object> beans = new CsvToBeanBuilder<>(new StringReader(
+                "NAME,Years,member,balance,other\nAnna, 42 ,yes,1.50,x\nBert,,,,\n"))
+                .withMappingStrategy(strategy)
+                .build().parse();
+        assertEquals(2, beans.size());
+        Class<?> person = loader.loadClass("beans.Person");
+        assertEquals("Anna", FieldUtils.readDeclaredField(beans.get(0), "name", true));
+        assertEquals(42, person.getMethod("getAge").invoke(beans.get(0)));
+        assertEquals(Boolean.TRUE, person.getMethod("getMember").invoke(beans.get(0)));
+        assertEquals(new java.math.BigDecimal("1.50"), person.getField("balance").get(beans.get(0)));
+        assertNull(FieldUtils.readDeclaredField(beans.get(0), "other", true));
+        assertEquals(0, person.getMethod("getAge").invoke(beans.get(1)));
+        assertNull(person.getMethod("getMember").invoke(beans.get(1)));
+
+        StringWriter writer = new StringWriter();
+        new StatefulBeanToCsvBuilder<>(writer).withMappingStrategy(strategy).build().write(beans);
+        assertEquals("\"BALANCE\",\"MEMBER\",\"NAME\",\"YEARS\"\n"
+                + "\"1.50\",\"true\",\"Anna\",\"42\"\n"
+                + "\"\",\"\",\"Bert\",\"0\"\n", writer.toString());
+    }
+
+    @Test
+    public void testPaddedHeaderNamesAreMatched() throws ReflectiveOperationException, CsvException {
+        List<Object> beans = new CsvToBeanBuilder<>(new StringReader(
+                " name , Years\t,member\nAnna,42,yes\n"))
+                .withMappingStrategy(strategy("beans.PersonMappingStrategy"))
+                .build().parse();
+        assertEquals(1, beans.size());
+        Class<?> person = loader.loadClass("beans.Person");
+        assertEquals("Anna", FieldUtils.readDeclaredField(beans.get(0), "name", true));
+        assertEquals(42, person.getMethod("getAge").invoke(beans.get(0)));
+        assertEquals(Boolean.TRUE, person.getMethod("getMember").invoke(beans.get(0)));
+    }
+
+    @Test
+    public void testErrorsAreReportedLikeTheReflectiveStrategies() throws ReflectiveOperationException {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> new CsvToBeanBuilder<>(new StringReader("years\n1\n"))
+                .withMappingStrategy(strategy("beans.PersonMappingStrategy"))
+                .build().parse());
+        assertTrue(e.getCause() instanceof CsvRequiredFieldEmptyException);
+
+        CsvToBean<Object> csvToBean = new CsvToBeanBuilder<>(new StringReader("name,years\n,1\nAnna,x\nBert\n"))
+                .withMappingStrategy(strategy("beans.PersonMappingStrategy"))
+                .withThrowExceptions(false)
+                .build();
+        assertTrue(csvToBean.parse().isEmpty());
+        assertEquals(Arrays.asList(
+                CsvRequiredFieldEmptyException.class,
+                CsvDataTypeMismatchException.class,
+                CsvRequiredFieldEmptyException.class),
+                csvToBean.getCapturedExceptions().stream()
+                        .sorted(Comparator.comparingLong(CsvException::getLineNumber))
+                        .map(Object::getClass)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBindingByPosition() throws ReflectiveOperationException, CsvException {
+        MappingStrategy<Object> strategy = strategy("beans.Person_NestedMappingStrategy");
+        List<Object> beans = new CsvToBeanBuilder<>(new StringReader("a,b,7\nz\n"))
+                .withMappingStrategy(strategy)
+                .build().parse();
+        Class<?> nested = loader.loadClass("beans.Person$Nested");
+        assertEquals('a', nested.getField("code").get(beans.get(0)));
+        assertEquals(7L, nested.getField("id").get(beans.get(0)));
+        assertNull(nested.getField("id").get(beans.get(1)));
+
+        StringWriter writer = new StringWriter();
+        new StatefulBeanToCsvBuilder<>(writer).withMappingStrategy(strategy).build().write(beans);
+        assertEquals("\"a\",\"\",\"7\"\n\"z\",\"\",\"\"\n", writer.toString());
+    }
+
+    @Test
+    public void testUnsupportedBeansAreLeftToReflection() {
+        assertFalse(Files.exists(output.resolve("beans/DatedMappingStrategy.java")));
+        assertTrue(diagnostics.getDiagnostics().stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                && d.getMessage(Locale.ROOT).contains("beans.Dated")
+                && d.getMessage(Locale.ROOT).contains("@CsvDate")));
+        assertTrue(Files.exists(output.resolve("beans/PersonMappingStrategy.java")));
+    }
+}
@@ -4,6 +4,7 @@ import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,6 +33,21 @@ public abstract class AbstractCSVParser implements ICSVParser {
      */
     protected String pending;
 
+    /**
+     * The columns for which values are created, or {@code null} for all
+     * columns.
+     *
+     * @since 5.5
+     */
+    protected BitSet columnProjection;
+
+    /**
+     * The index within the record of the field held in {@link #pending}.
+     *
+     * @since 5.5
+     */
+    protected int pendingColumn;
+
     /**
      * Common constructor.
      *
@@ -124,4 +140,23 @@ public abstract class AbstractCSVParser implements ICSVParser {
     public String getPendingText() {
         return StringUtils.defaultString(pending);
     }
+
+    @Override
+    public void setColumnProjection(BitSet columns) {
+        columnProjection = columns == null ? null : (BitSet) columns.clone();
+    }
+
+    @Override
+    public BitSet getColumnProjection() {
+        return columnProjection == null ? null : (BitSet) columnProjection.clone();
+    }
+
+    /**
+     * @param column The zero-based index of a column in the record
+     * @return Whether a value should be created for the column
+     * @since 5.5
+     */
+    protected boolean isProjected(int column) {
+        return columnProjection == null || columnProjection.get(column);
+    }
 }
@@ -0,0 +1,44 @@
+package com.opencsv;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * An {@link InputStreamReader} that remembers its stream and character set,
+ * so that a {@link CSVReader} can tokenize the bytes before they are decoded.
+ * Once the stream has been handed to a
+ * {@link com.opencsv.stream.reader.ByteBufferTokenizer}, this reader must
+ * not be read from any more.
+ *
+ * @since 5.5
+ */
+class ByteSourceReader extends InputStreamReader {
+
+    private final InputStream inputStream;
+    private final Charset charset;
+
+    /**
+     * @param inputStream The source of the CSV data
+     * @param charset     The character set of the data
+     */
+    ByteSourceReader(InputStream inputStream, Charset charset) {
+        super(inputStream, charset);
+        this.inputStream = inputStream;
+        this.charset = charset;
+    }
+
+    /**
+     * @return The stream this reader decodes
+     */
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * @return The character set of the stream
+     */
+    Charset getCharset() {
+        return charset;
+    }
+}
@@ -197,11 +197,12 @@ public class CSVParser extends AbstractCSVParser {
             if (pending != null) {
                 String s = pending;
                 pending = null;
-                return new String[]{s};
+                return new String[]{isProjected(pendingColumn) ? s : null};
             }
             return null;
         }
 
+        final int firstColumn = pending != null ? pendingColumn : 0;
         final List<String> tokensOnThisLine = tokensOnLastCompleteLine <= 0 ? new ArrayList<>() : new ArrayList<>((tokensOnLastCompleteLine + 1) * 2);
         final StringFragmentCopier sfc = new StringFragmentCopier(nextLine);
         boolean inQuotes = false;
@@ -231,12 +232,16 @@ public class CSVParser extends AbstractCSVParser {
                 }
                 inField = !inField;
             } else if (c == separator && !(inQuotes && !ignoreQuotations)) {
-                tokensOnThisLine.add(convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField));
+                tokensOnThisLine.add(takeToken(sfc, fromQuotedField, firstColumn + tokensOnThisLine.size()));
                 fromQuotedField = false;
                 inField = false;
             } else {
+                // Everything up to the next escape, quote or separator is
+                // treated the same way, so take the whole run at once.
+                final int runStart = sfc.i - 1;
+                sfc.skipToStructuralCharacter(escape, quotechar, separator);
                 if (!strictQuotes || (inQuotes && !ignoreQuotations)) {
-                    sfc.appendPrev();
+                    sfc.appendRun(runStart);
                     inField = true;
                     fromQuotedField = true;
                 }
@@ -250,6 +255,7 @@ public class CSVParser extends AbstractCSVParser {
                     // continuing a quoted section, re-append newline
                     sfc.append('\n');
                     pending = sfc.peekOutput();
+                    pendingColumn = firstColumn + tokensOnThisLine.size();
                     break line_done; // this partial content is not to be added to field list yet
                 } else {
                     throw new IOException(String.format(
@@ -260,7 +266,7 @@ public class CSVParser extends AbstractCSVParser {
                 inField = false;
             }
 
-            tokensOnThisLine.add(convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField));
+            tokensOnThisLine.add(takeToken(sfc, fromQuotedField, firstColumn + tokensOnThisLine.size()));
         }
 
         tokensOnLastCompleteLine = tokensOnThisLine.size();
@@ -293,6 +299,24 @@ public class CSVParser extends AbstractCSVParser {
         }
     }
 
+    /**
+     * Takes the token collected so far out of the copier.
+     * No string is created for a column outside of the projection.
+     *
+     * @param sfc             The copier holding the token
+     * @param fromQuotedField Whether the token was quoted
+     * @param column          The index of the token in the record
+     * @return The token, or {@code null} if it is empty and should be null
+     *   or if the column is not projected
+     */
+    private String takeToken(StringFragmentCopier sfc, boolean fromQuotedField, int column) {
+        if (!isProjected(column)) {
+            sfc.clearOutput();
+            return null;
+        }
+        return convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField);
+    }
+
     private String convertEmptyToNullIfNeeded(String s, boolean fromQuotedField) {
         if (s.isEmpty() && shouldConvertEmptyToNull(fromQuotedField)) {
             return null;
@@ -469,6 +493,46 @@ public class CSVParser extends AbstractCSVParser {
             }
         }
 
+        /**
+         * Advances over all characters that are neither of the given
+         * characters.
+         *
+         * @param escape    The escape character
+         * @param quotechar The quote character
+         * @param separator The separator
+         */
+        public void skipToStructuralCharacter(char escape, char quotechar, char separator) {
+            final String s = input;
+            final int length = s.length();
+            int j = i;
+            while (j < length) {
+                final char c = s.charAt(j);
+                if (c == separator || c == quotechar || c == escape) {
+                    break;
+                }
+                j++;
+            }
+            i = j;
+        }
+
+        /**
+         * Appends the input from the given index up to the current index in
+         * one step, which is equivalent to calling {@link #appendPrev()}
+         * after every character.
+         *
+         * @param from The index of the first character to append
+         */
+        public void appendRun(int from) {
+            if (pendingSubstrTo == pendingSubstrFrom) {
+                pendingSubstrFrom = from;
+                pendingSubstrTo = i;
+            } else if (pendingSubstrTo == from) {
+                pendingSubstrTo = i;
+            } else {
+                materializeBuilder().append(input, from, i);
+            }
+        }
+
         public boolean isEmptyOutput() {
             return pendingSubstrFrom >= pendingSubstrTo && (sb == null || sb.length() == 0);
         }
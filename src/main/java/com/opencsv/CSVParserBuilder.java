@@ -17,6 +17,7 @@ package com.opencsv;
 
 
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import java.util.BitSet;
 import java.util.Locale;
 import org.apache.commons.lang3.ObjectUtils;
 
@@ -43,6 +44,7 @@ public class CSVParserBuilder {
     private boolean ignoreQuotations = ICSVParser.DEFAULT_IGNORE_QUOTATIONS;
     private CSVReaderNullFieldIndicator nullFieldIndicator = CSVReaderNullFieldIndicator.NEITHER;
     private Locale errorLocale = Locale.getDefault();
+    private BitSet columnProjection = null;
 
 
     /**
@@ -135,7 +137,7 @@ public class CSVParserBuilder {
      */
     public CSVParser build() {
 
-        return new CSVParser(
+        final CSVParser parser = new CSVParser(
                 separator,
                 quoteChar,
                 escapeChar,
@@ -144,6 +146,8 @@ public class CSVParserBuilder {
                 ignoreQuotations,
                 nullFieldIndicator,
                 errorLocale);
+        parser.setColumnProjection(columnProjection);
+        return parser;
     }
 
     /**
@@ -217,4 +221,46 @@ public class CSVParserBuilder {
     public CSVReaderNullFieldIndicator nullFieldIndicator() {
         return nullFieldIndicator;
     }
+
+    /**
+     * Restricts the columns for which the parser creates values.
+     * All other columns are returned as {@code null}.
+     *
+     * @param columns The zero-based indexes of the columns wanted. If no
+     *                columns are given, values are created for all columns.
+     * @return {@code this}
+     * @see ICSVParser#setColumnProjection(BitSet)
+     * @since 5.5
+     */
+    public CSVParserBuilder withColumnProjection(final int... columns) {
+        this.columnProjection = toBitSet(columns);
+        return this;
+    }
+
+    /**
+     * @return The columns for which values are created, or {@code null} if
+     *   values are created for all columns
+     * @since 5.5
+     */
+    public BitSet getColumnProjection() {
+        return columnProjection == null ? null : (BitSet) columnProjection.clone();
+    }
+
+    /**
+     * Converts column indexes to a projection.
+     *
+     * @param columns The zero-based indexes of columns
+     * @return A bit set with all of the columns, or {@code null} if there
+     *   are none
+     */
+    static BitSet toBitSet(int[] columns) {
+        if (columns == null || columns.length == 0) {
+            return null;
+        }
+        BitSet bitSet = new BitSet();
+        for (int column : columns) {
+            bitSet.set(column);
+        }
+        return bitSet;
+    }
 }
@@ -19,7 +19,10 @@ package com.opencsv;
 import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.*;
 import com.opencsv.processor.RowProcessor;
+import com.opencsv.stream.reader.ByteBufferTokenizer;
+import com.opencsv.stream.reader.CharBufferTokenizer;
 import com.opencsv.stream.reader.LineReader;
+import com.opencsv.stream.reader.RecordTokenizer;
 import com.opencsv.validators.LineValidatorAggregator;
 import com.opencsv.validators.RowValidatorAggregator;
 import org.apache.commons.lang3.ObjectUtils;
@@ -64,8 +67,36 @@ public class CSVReader implements Closeable, Iterable<String[]> {
     private static final int MAX_WIDTH = 100;
     protected ICSVParser parser;
     protected int skipLines;
+    /**
+     * The reader the input is read from.
+     *
+     * @deprecated Since 5.5, {@link #lineReader} and {@link #tokenizer} read
+     *   ahead from this reader into buffers of their own, so it is no longer
+     *   positioned after the last line returned. Reading from it directly
+     *   skips input and leaves the data already buffered to be returned
+     *   later. It is only meant to be closed.
+     */
+    @Deprecated
     protected BufferedReader br;
+
+    /**
+     * Reads the lines of the input from {@link #br}, unless
+     * {@link #tokenizer} is used.
+     * Since 5.5 it reads ahead into a buffer of its own, so it must be the
+     * only one reading from {@link #br}, and it cannot be replaced by a new
+     * {@link LineReader} on the same reader without losing the input
+     * buffered so far.
+     */
     protected LineReader lineReader;
+
+    /**
+     * The engine that reads records directly from a buffer, if one was
+     * requested. If this is {@code null}, lines are read through
+     * {@link #lineReader} and tokenized by {@link #parser}.
+     *
+     * @since 5.5
+     */
+    protected RecordTokenizer tokenizer;
     protected boolean hasNext = true;
     protected boolean linesSkipped;
     protected boolean keepCR;
@@ -81,6 +112,8 @@ public class CSVReader implements Closeable, Iterable<String[]> {
     private final LineValidatorAggregator lineValidatorAggregator;
     private final RowValidatorAggregator rowValidatorAggregator;
     private final RowProcessor rowProcessor;
+    private ArrayRecord arrayRecord;
+    private CsvMetricsListener metricsListener;
 
     /**
      * Constructs CSVReader using defaults for all parameters.
@@ -103,7 +136,8 @@ public class CSVReader implements Closeable, Iterable<String[]> {
                 Locale.getDefault(),
                 new LineValidatorAggregator(),
                 new RowValidatorAggregator(),
-                null);
+                null,
+                false);
     }
 
     /**
@@ -121,10 +155,15 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      * @param lineValidatorAggregator contains all the custom defined line validators.
      * @param rowValidatorAggregator  contains all the custom defined row validators.
      * @param rowProcessor            Custom row processor to run on all columns on a csv record.
+     * @param useCharBufferTokenizer  True to read records with a
+     *                                {@link CharBufferTokenizer}, or a
+     *                                {@link ByteBufferTokenizer} if the input
+     *                                is a byte stream it supports, instead of
+     *                                reading lines and parsing them
      */
     CSVReader(Reader reader, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader, int multilineLimit,
               Locale errorLocale, LineValidatorAggregator lineValidatorAggregator, RowValidatorAggregator rowValidatorAggregator,
-              RowProcessor rowProcessor) {
+              RowProcessor rowProcessor, boolean useCharBufferTokenizer) {
         this.br =
                 (reader instanceof BufferedReader ?
                         (BufferedReader) reader :
@@ -139,6 +178,57 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         this.lineValidatorAggregator = lineValidatorAggregator;
         this.rowValidatorAggregator = rowValidatorAggregator;
         this.rowProcessor = rowProcessor;
+        if (useCharBufferTokenizer) {
+            this.tokenizer = createTokenizer(reader);
+        }
+    }
+
+    /**
+     * Creates the tokenizer that reads directly from the input.
+     * If the input is a byte stream in a character set that
+     * {@link ByteBufferTokenizer} supports, the bytes are tokenized before
+     * they are decoded. Otherwise a {@link CharBufferTokenizer} reads from
+     * {@link #br}. The separator, quote character, null field indicator and
+     * column projection are taken from the parser. If the parser is a
+     * {@link CSVParser} that ignores quotations, fields are never treated as
+     * quoted.
+     *
+     * @param reader The reader the CSVReader was constructed with
+     * @return A new tokenizer
+     */
+    private RecordTokenizer createTokenizer(Reader reader) {
+        final char separator = parser.getSeparator();
+        final char quotechar = tokenizerQuoteChar(parser);
+        RecordTokenizer recordTokenizer;
+        if (reader instanceof ByteSourceReader
+                && ByteBufferTokenizer.isSupported(((ByteSourceReader) reader).getCharset(), separator, quotechar)) {
+            ByteSourceReader source = (ByteSourceReader) reader;
+            recordTokenizer = new ByteBufferTokenizer(source.getInputStream(), source.getCharset(), separator, quotechar,
+                    parser.nullFieldIndicator(), keepCR, multilineLimit, errorLocale,
+                    ByteBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        } else {
+            recordTokenizer = new CharBufferTokenizer(br, separator, quotechar,
+                    parser.nullFieldIndicator(), keepCR, multilineLimit, errorLocale,
+                    CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        }
+        recordTokenizer.setColumnProjection(parser.getColumnProjection());
+        return recordTokenizer;
+    }
+
+    /**
+     * Determines the quote character a {@link RecordTokenizer} should use
+     * to read input the way the parser would.
+     *
+     * @param parser The parser whose settings are to be followed
+     * @return The quote character of the parser, or
+     *   {@link ICSVParser#NULL_CHARACTER} if the parser is a
+     *   {@link CSVParser} that ignores quotations
+     */
+    static char tokenizerQuoteChar(ICSVParser parser) {
+        if (parser instanceof CSVParser && ((CSVParser) parser).isIgnoreQuotations()) {
+            return ICSVParser.NULL_CHARACTER;
+        }
+        return parser.getQuotechar();
     }
 
     /**
@@ -204,6 +294,57 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         return flexibleRead(true, true);
     }
 
+    /**
+     * Reads the next record as a {@link CsvRecord} view instead of a new
+     * string array.
+     * <p>The record returned is reused by the next call to this method and
+     * is only valid until the next read operation of any kind on this
+     * reader. When the reader was built with
+     * {@link CSVReaderBuilder#withCharBufferTokenizer(boolean)}, no
+     * {@link RowProcessor} and no {@link RowValidator}, the fields are views
+     * of the tokenizer's buffer and no string is created for a field unless
+     * it is asked for. In all other cases the record wraps the array
+     * {@link #readNext()} would have returned.</p>
+     * <p>Validators are run exactly as with {@link #readNext()}.</p>
+     *
+     * @return The next record, or {@code null} if there is no more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @since 5.5
+     */
+    public CsvRecord readNextRecord() throws IOException, CsvValidationException {
+        if (tokenizer == null || !peekedLines.isEmpty()
+                || rowProcessor != null || !rowValidatorAggregator.isEmpty()) {
+            String[] result = readNext();
+            if (result == null) {
+                return null;
+            }
+            if (arrayRecord == null) {
+                arrayRecord = new ArrayRecord();
+            }
+            arrayRecord.fields = result;
+            return arrayRecord;
+        }
+
+        boolean recordRead;
+        try {
+            recordRead = advanceTokenizer();
+            for (OrderedObject<String> orderedObject : peekedLines) {
+                validateLine(orderedObject.getOrdinal(), orderedObject.getElement());
+            }
+        } catch (IOException | CsvValidationException e) {
+            reportException(e);
+            throw e;
+        } finally {
+            peekedLines.clear();
+        }
+        if (!recordRead) {
+            return null;
+        }
+        recordsRead++;
+        return tokenizer;
+    }
+
     /**
      * Reads the next line from the buffer and converts to a string array without
      * running the custom defined validators.  This is called by the bean readers when
@@ -229,6 +370,30 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      */
     private void primeNextRecord() throws IOException {
 
+        if (tokenizer != null) {
+            primeNextRecordFromTokenizer();
+        } else if (metricsListener == null) {
+            primeNextRecordFromLines();
+        } else {
+            final long start = System.nanoTime();
+            final long linesBefore = linesRead + (linesSkipped ? 0 : skipLines);
+            final long inputBefore = lineReader.getCharactersRead();
+            primeNextRecordFromLines();
+            if (peekedLine != null) {
+                metricsListener.recordRead(linesRead - linesBefore,
+                        lineReader.getCharactersRead() - inputBefore, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Reads the lines of the next record through {@link #lineReader} and
+     * combines the results of the parser.
+     * The results are stored in {@link #peekedLines} and {@link #peekedLine}.
+     *
+     * @throws IOException If bad things happen during the read
+     */
+    private void primeNextRecordFromLines() throws IOException {
         int linesInThisRecord = 0;
         long lastSuccessfulLineRead = linesRead+1;
         do {
@@ -280,6 +445,71 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         } while (parser.isPending());
     }
 
+    /**
+     * Reads the next record through {@link #tokenizer}.
+     * The results are stored in {@link #peekedLines} and {@link #peekedLine}.
+     * The physical lines of the record are only reconstructed if there are
+     * line validators to run on them.
+     *
+     * @throws IOException If bad things happen during the read
+     */
+    private void primeNextRecordFromTokenizer() throws IOException {
+        if (advanceTokenizer()) {
+            peekedLine = tokenizer.getFields();
+        }
+    }
+
+    /**
+     * Advances {@link #tokenizer} to the next record and stores the physical
+     * lines read in {@link #peekedLines}, but leaves the fields of the record
+     * in the tokenizer.
+     *
+     * @return Whether a record was read
+     * @throws IOException If bad things happen during the read
+     */
+    private boolean advanceTokenizer() throws IOException {
+        final long start = metricsListener == null ? 0 : System.nanoTime();
+        final long inputBefore = metricsListener == null ? 0 : tokenizer.getInputConsumed();
+        if (!linesSkipped) {
+            tokenizer.skipLines(skipLines);
+            linesSkipped = true;
+        }
+
+        long lastSuccessfulLineRead = tokenizer.getLinesRead() + 1;
+        boolean recordRead;
+        try {
+            recordRead = tokenizer.nextRecord();
+        } catch (CsvMalformedLineException | CsvMultilineLimitBrokenException e) {
+            throw e;
+        } catch (IOException e) {
+            if (tokenizer.isRecordIncomplete() || !indicatesClosedReader(e)) {
+                throw e;
+            }
+            recordRead = false;
+        }
+        linesRead = tokenizer.getLinesRead();
+
+        if (!recordRead) {
+            hasNext = false;
+            peekedLines.add(new OrderedObject<>(lastSuccessfulLineRead, null));
+            return false;
+        }
+        if (metricsListener != null) {
+            metricsListener.recordRead(linesRead - lastSuccessfulLineRead + 1,
+                    tokenizer.getInputConsumed() - inputBefore, System.nanoTime() - start);
+        }
+
+        if (lineValidatorAggregator.isEmpty()) {
+            peekedLines.add(new OrderedObject<>(lastSuccessfulLineRead, null));
+        } else {
+            long lineNumber = lastSuccessfulLineRead;
+            for (String line : tokenizer.getRecordText().split(keepCR ? "\n" : "\r\n|\r|\n", -1)) {
+                peekedLines.add(new OrderedObject<>(lineNumber++, line));
+            }
+        }
+        return true;
+    }
+
     /**
      * Runs all line validators on the input.
      *
@@ -334,32 +564,53 @@ public class CSVReader implements Closeable, Iterable<String[]> {
 
     /**
      * Reads the next line from the file.
+     * <p>The end of input is detected by the read itself. If
+     * {@link #verifyReader()} is {@code true}, an {@link IOException} thrown
+     * before any part of the line has been read that merely indicates the
+     * reader can no longer be read from also ends the input (see
+     * {@link #indicatesClosedReader(IOException)}).</p>
      *
      * @return The next line from the file without trailing newline, or null if
      * there is no more input.
      * @throws IOException If bad things happen during the read
      */
     protected String getNextLine() throws IOException {
-        if (isClosed()) {
-            hasNext = false;
-            return null;
-        }
-
         if (!this.linesSkipped) {
             for (int i = 0; i < skipLines; i++) {
-                lineReader.readLine();
+                if (readLineOrNull() == null) {
+                    hasNext = false;
+                    return null;
+                }
                 linesRead++;
             }
             this.linesSkipped = true;
         }
-        String nextLine = lineReader.readLine();
+        String nextLine = readLineOrNull();
         if (nextLine == null) {
             hasNext = false;
         } else {
             linesRead++;
         }
 
-        return hasNext ? nextLine : null;
+        return nextLine;
+    }
+
+    /**
+     * Reads one line through {@link #lineReader}, treating exceptions that
+     * indicate a closed reader as the end of input.
+     *
+     * @return The next line, or {@code null} if there is no more input
+     * @throws IOException If bad things happen during the read
+     */
+    private String readLineOrNull() throws IOException {
+        try {
+            return lineReader.readLine();
+        } catch (IOException e) {
+            if (!lineReader.isLineIncomplete() && indicatesClosedReader(e)) {
+                return null;
+            }
+            throw e;
+        }
     }
 
     /**
@@ -371,6 +622,32 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         return multilineLimit;
     }
 
+    /**
+     * Checks to see if an exception thrown while reading only means that the
+     * reader can no longer be read from.
+     * <p>If {@link #verifyReader()} is {@code true}, such exceptions end the
+     * input just as the end of the stream does. Certain {@link IOException}s
+     * will be passed out nonetheless, as they are indicative of a real
+     * problem, not that the file has already been closed.
+     * These exceptions are:<ul>
+     *     <li>CharacterCodingException</li>
+     *     <li>CharConversionException</li>
+     *     <li>FileNotFoundException</li>
+     *     <li>UnsupportedEncodingException</li>
+     *     <li>UTFDataFormatException</li>
+     *     <li>ZipException</li>
+     *     <li>MalformedInputException</li>
+     * </ul></p>
+     *
+     * @param e The exception thrown while reading
+     * @return {@code true} if the exception should be treated as the end of
+     *   input, {@code false} if it should be passed out
+     * @since 5.5
+     */
+    protected boolean indicatesClosedReader(IOException e) {
+        return verifyReader && !PASSTHROUGH_EXCEPTIONS.contains(e.getClass());
+    }
+
     /**
      * Checks to see if the file is closed.
      * <p>Certain {@link IOException}s will be passed out, as they are
@@ -389,7 +666,13 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      * @throws IOException If {@link #verifyReader()} was set to {@code true}
      *   certain {@link IOException}s will still be passed out as they are
      *   indicative of a problem, not end of file.
+     * @deprecated The reader no longer probes the input before every line.
+     *   The end of input is detected by the read itself, and exceptions are
+     *   judged by {@link #indicatesClosedReader(IOException)}. Since data are
+     *   read ahead in bulk, this method only reflects the state of the
+     *   underlying reader, not of the data already buffered.
      */
+    @Deprecated
     protected boolean isClosed() throws IOException {
         if (!verifyReader) {
             return false;
@@ -554,6 +837,55 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         }
     }
 
+    /**
+     * Restricts the columns for which values are created.
+     * <p>All other columns of every record read after this call, including a
+     * header, are returned as {@code null}. The length of the records and
+     * the indexes of the columns do not change. The projection is passed on
+     * to the parser, so it takes effect only if the parser supports it, as
+     * all parsers in opencsv do.</p>
+     *
+     * @param columns The zero-based indexes of the columns wanted, or
+     *   {@code null} for all columns
+     * @see ICSVParser#setColumnProjection(BitSet)
+     * @since 5.5
+     */
+    public void setColumnProjection(BitSet columns) {
+        parser.setColumnProjection(columns);
+        if (tokenizer != null) {
+            tokenizer.setColumnProjection(columns);
+        }
+    }
+
+    /**
+     * @return The zero-based indexes of the columns for which values are
+     *   created, or {@code null} if values are created for all columns
+     * @since 5.5
+     */
+    public BitSet getColumnProjection() {
+        return parser.getColumnProjection();
+    }
+
+    /**
+     * Sets the listener that is told about every record read, with the
+     * number of lines it spans, the input consumed and the time taken, and
+     * about every exception raised while reading.
+     *
+     * @param metricsListener The listener, or {@code null} to measure nothing
+     * @since 5.5
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * @return The listener for metrics, or {@code null} if there is none
+     * @since 5.5
+     */
+    public CsvMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
     /**
      * Returns the next line from the input without removing it from the
      * CSVReader and not running any validators.
@@ -594,15 +926,20 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      */
     private String[] flexibleRead(boolean popLine, boolean validate) throws IOException, CsvValidationException {
 
-        if(peekedLines.isEmpty()) {
-            primeNextRecord();
-        }
+        try {
+            if(peekedLines.isEmpty()) {
+                primeNextRecord();
+            }
 
-        if(validate) {
-            for(OrderedObject<String> orderedObject : peekedLines) {
-                validateLine(orderedObject.getOrdinal(), orderedObject.getElement());
+            if(validate) {
+                for(OrderedObject<String> orderedObject : peekedLines) {
+                    validateLine(orderedObject.getOrdinal(), orderedObject.getElement());
+                }
+                validateResult(peekedLine, linesRead);
             }
-            validateResult(peekedLine, linesRead);
+        } catch (IOException | CsvValidationException e) {
+            reportException(e);
+            throw e;
         }
 
         String[] result = peekedLine;
@@ -617,4 +954,43 @@ public class CSVReader implements Closeable, Iterable<String[]> {
 
         return result;
     }
+
+    /**
+     * Passes an exception on to the metrics listener, if there is one.
+     *
+     * @param e The exception raised while reading
+     */
+    private void reportException(Exception e) {
+        if (metricsListener != null) {
+            metricsListener.exceptionCaught(e);
+        }
+    }
+
+    /**
+     * A {@link CsvRecord} over a string array, for reads that cannot use the
+     * tokenizer's buffer directly.
+     */
+    private static final class ArrayRecord implements CsvRecord {
+        private String[] fields;
+
+        @Override
+        public int size() {
+            return fields.length;
+        }
+
+        @Override
+        public CharSequence get(int index) {
+            return fields[index];
+        }
+
+        @Override
+        public String getString(int index) {
+            return fields[index];
+        }
+
+        @Override
+        public String[] materialize() {
+            return fields.clone();
+        }
+    }
 }
@@ -18,13 +18,19 @@ package com.opencsv;
 
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import com.opencsv.processor.RowProcessor;
+import com.opencsv.stream.reader.ByteBufferTokenizer;
+import com.opencsv.stream.reader.CharBufferTokenizer;
 import com.opencsv.validators.LineValidator;
 import com.opencsv.validators.LineValidatorAggregator;
 import com.opencsv.validators.RowValidator;
 import com.opencsv.validators.RowValidatorAggregator;
 import org.apache.commons.lang3.ObjectUtils;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.BitSet;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -63,6 +69,9 @@ public class CSVReaderBuilder {
     private LineValidatorAggregator lineValidatorAggregator = new LineValidatorAggregator();
     private RowValidatorAggregator rowValidatorAggregator = new RowValidatorAggregator();
     private RowProcessor rowProcessor = null;
+    private boolean useCharBufferTokenizer = false;
+    private BitSet columnProjection = null;
+    private CsvMetricsListener metricsListener = null;
 
     /**
      * Sets the reader to an underlying CSV source.
@@ -77,6 +86,28 @@ public class CSVReaderBuilder {
         this.reader = reader;
     }
 
+    /**
+     * Sets a byte stream in the given character set as the underlying CSV
+     * source.
+     * <p>The stream is decoded just as an {@link InputStreamReader} would
+     * decode it. If records are read with
+     * {@link #withCharBufferTokenizer(boolean)}, however, and the character
+     * set is one that {@link ByteBufferTokenizer} supports, the bytes are
+     * tokenized before they are decoded, and only the fields asked for are
+     * decoded at all.</p>
+     *
+     * @param inputStream The byte stream of an underlying CSV source
+     * @param charset     The character set of the stream. If null, the
+     *                    default character set is used.
+     * @since 5.5
+     */
+    public CSVReaderBuilder(final InputStream inputStream, final Charset charset) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("inputstream.null"));
+        }
+        this.reader = new ByteSourceReader(inputStream, ObjectUtils.defaultIfNull(charset, Charset.defaultCharset()));
+    }
+
     /**
      * Used by unit tests.
      *
@@ -145,8 +176,13 @@ public class CSVReaderBuilder {
      */
     public CSVReader build() {
         final ICSVParser parser = getOrCreateCsvParser();
-        return new CSVReader(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale,
-                lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
+        final CSVReader csvReader = new CSVReader(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale,
+                lineValidatorAggregator, rowValidatorAggregator, rowProcessor, useCharBufferTokenizer);
+        if (columnProjection != null) {
+            csvReader.setColumnProjection(columnProjection);
+        }
+        csvReader.setMetricsListener(metricsListener);
+        return csvReader;
     }
 
     /**
@@ -302,4 +338,90 @@ public class CSVReaderBuilder {
         this.rowProcessor = rowProcessor;
         return this;
     }
+
+    /**
+     * Reads records with a {@link CharBufferTokenizer} instead of reading
+     * lines and passing them to the parser.
+     * <p>The tokenizer scans the input once from a reusable character buffer
+     * and does not create intermediate {@link String}s for lines or for the
+     * pending text of multiline records, which makes it considerably faster
+     * on large inputs.</p>
+     * <p>The tokenizer understands the grammar of RFC 4180, as
+     * {@link RFC4180Parser} does. It takes the separator, the quote character
+     * and the null field indicator from the parser, but the parser itself is
+     * not used, so the escape character and the other options that only
+     * {@link CSVParser} supports are ignored.</p>
+     * <p>If the builder was given an {@link InputStream} in a character set
+     * that {@link ByteBufferTokenizer} supports, that tokenizer scans the
+     * bytes instead, before they are decoded.</p>
+     *
+     * @param useCharBufferTokenizer Whether the tokenizer should be used
+     * @return {@code this}
+     * @since 5.5
+     */
+    public CSVReaderBuilder withCharBufferTokenizer(boolean useCharBufferTokenizer) {
+        this.useCharBufferTokenizer = useCharBufferTokenizer;
+        return this;
+    }
+
+    /**
+     * @return Whether records will be read with a {@link CharBufferTokenizer}
+     * @since 5.5
+     */
+    public boolean isUseCharBufferTokenizer() {
+        return useCharBufferTokenizer;
+    }
+
+    /**
+     * Restricts the columns for which the reader creates values.
+     * <p>Records are still split completely, but only the columns given are
+     * copied out of the input. All other columns are returned as
+     * {@code null}, so column indexes stay the same. This saves allocations
+     * roughly in proportion to the number of columns left out.</p>
+     * <p>The projection is set on the parser, including a parser passed to
+     * {@link #withCSVParser(ICSVParser)}, and applies to every record read,
+     * including a header. To choose columns by header name, use
+     * {@link CSVReaderHeaderAwareBuilder#withHeaderProjection(String...)}.</p>
+     *
+     * @param columns The zero-based indexes of the columns wanted. If no
+     *                columns are given, values are created for all columns.
+     * @return {@code this}
+     * @see ICSVParser#setColumnProjection(BitSet)
+     * @since 5.5
+     */
+    public CSVReaderBuilder withColumnProjection(int... columns) {
+        this.columnProjection = CSVParserBuilder.toBitSet(columns);
+        return this;
+    }
+
+    /**
+     * @return The columns for which values are created, or {@code null} if
+     *   values are created for all columns
+     * @since 5.5
+     */
+    public BitSet getColumnProjection() {
+        return columnProjection == null ? null : (BitSet) columnProjection.clone();
+    }
+
+    /**
+     * Sets a listener for counters and timings of the records read.
+     * <p>By default there is no listener and nothing is measured.</p>
+     *
+     * @param metricsListener The listener, or {@code null} for none
+     * @return {@code this}
+     * @see CSVReader#setMetricsListener(CsvMetricsListener)
+     * @since 5.5
+     */
+    public CSVReaderBuilder withMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
+    /**
+     * @return The listener for metrics, or {@code null} if there is none
+     * @since 5.5
+     */
+    public CsvMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
 }
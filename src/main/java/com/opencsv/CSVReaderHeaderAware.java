@@ -6,6 +6,7 @@ import com.opencsv.validators.RowValidatorAggregator;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -21,6 +22,7 @@ import java.util.ResourceBundle;
 public class CSVReaderHeaderAware extends CSVReader {
 
     private final Map<String, Integer> headerIndex = new HashMap<>();
+    private final String[] headerProjection;
 
     /**
      * Constructor with supplied reader.
@@ -30,6 +32,7 @@ public class CSVReaderHeaderAware extends CSVReader {
      */
     public CSVReaderHeaderAware(Reader reader) throws IOException {
         super(reader);
+        this.headerProjection = null;
         initializeHeader();
     }
 
@@ -46,12 +49,22 @@ public class CSVReaderHeaderAware extends CSVReader {
      * @param errorLocale    Set the locale for error messages. If null, the default locale is used.
      * @param lineValidatorAggregator contains all the custom defined line validators.
      * @param rowValidatorAggregator  contains all the custom defined row validators.
+     * @param useCharBufferTokenizer  True to read records with a
+     *                                {@link com.opencsv.stream.reader.CharBufferTokenizer}
+     *                                instead of reading lines and parsing them
+     * @param headerProjection        The names of the only headers whose
+     *                                values should be read, or {@code null}
+     *                                for all headers
      * @throws IOException   If bad things happen while initializing the header
+     * @throws IllegalArgumentException If a header in the projection does not
+     *   exist
      */
     CSVReaderHeaderAware(Reader reader, int skipLines, ICSVParser parser, boolean keepCR, boolean verifyReader,
                          int multilineLimit, Locale errorLocale, LineValidatorAggregator lineValidatorAggregator,
-                         RowValidatorAggregator rowValidatorAggregator) throws IOException {
-        super(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale, lineValidatorAggregator, rowValidatorAggregator, null);
+                         RowValidatorAggregator rowValidatorAggregator, boolean useCharBufferTokenizer,
+                         String[] headerProjection) throws IOException {
+        super(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale, lineValidatorAggregator, rowValidatorAggregator, null, useCharBufferTokenizer);
+        this.headerProjection = headerProjection;
         initializeHeader();
     }
 
@@ -138,6 +151,20 @@ public class CSVReaderHeaderAware extends CSVReader {
         for (int i = 0; i < headers.length; i++) {
             headerIndex.put(headers[i], i);
         }
+        if (headerProjection != null) {
+            BitSet columns = new BitSet(headers.length);
+            for (String headerName : headerProjection) {
+                Integer index = headerIndex.get(headerName);
+                if (index == null) {
+                    throw new IllegalArgumentException(String.format(
+                            ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                    .getString("header.nonexistant"),
+                            headerName));
+                }
+                columns.set(index);
+            }
+            setColumnProjection(columns);
+        }
     }
 
 }
@@ -1,7 +1,10 @@
 package com.opencsv;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.BitSet;
 
 /**
  * Builder for CSVReaderHeaderAware. No transformations on the original parameters accepted by CSVReaderBuilder.
@@ -11,6 +14,8 @@ import java.io.Reader;
  */
 public class CSVReaderHeaderAwareBuilder extends CSVReaderBuilder {
 
+    private String[] headerProjection = null;
+
     /**
      * Constructor for CSVReaderHeaderAwareBuilder.
      *
@@ -20,14 +25,62 @@ public class CSVReaderHeaderAwareBuilder extends CSVReaderBuilder {
         super(reader);
     }
 
+    /**
+     * Constructor for CSVReaderHeaderAwareBuilder.
+     *
+     * @param inputStream The byte stream of an underlying CSV source
+     * @param charset     The character set of the stream. If null, the
+     *                    default character set is used.
+     * @see CSVReaderBuilder#CSVReaderBuilder(InputStream, Charset)
+     * @since 5.5
+     */
+    public CSVReaderHeaderAwareBuilder(InputStream inputStream, Charset charset) {
+        super(inputStream, charset);
+    }
+
+    /**
+     * Restricts the columns for which the reader creates values to those
+     * under the given headers.
+     * <p>The header is always read completely. The values of all other
+     * columns are {@code null} in every record read afterwards. Columns
+     * chosen by index with {@link #withColumnProjection(int...)} are added
+     * to these, and are also only applied after the header has been
+     * read.</p>
+     *
+     * @param headerNames The names of the headers wanted. If no names are
+     *                    given, values are created for all columns.
+     * @return {@code this}
+     * @since 5.5
+     */
+    public CSVReaderHeaderAwareBuilder withHeaderProjection(String... headerNames) {
+        this.headerProjection = headerNames == null || headerNames.length == 0 ? null : headerNames.clone();
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException If a header given to
+     *   {@link #withHeaderProjection(String...)} does not exist
+     */
     @Override
     public CSVReaderHeaderAware build() throws RuntimeException {
         final ICSVParser parser = getOrCreateCsvParser();
+        final CSVReaderHeaderAware csvReader;
         try {
-            return new CSVReaderHeaderAware(getReader(), getSkipLines(), parser, keepCarriageReturn(), isVerifyReader(),
-                    getMultilineLimit(), getErrorLocale(), getLineValidatorAggregator(), getRowValidatorAggregator());
+            csvReader = new CSVReaderHeaderAware(getReader(), getSkipLines(), parser, keepCarriageReturn(), isVerifyReader(),
+                    getMultilineLimit(), getErrorLocale(), getLineValidatorAggregator(), getRowValidatorAggregator(),
+                    isUseCharBufferTokenizer(), headerProjection);
         } catch (IOException e) {
             throw new RuntimeException("Failed to initialize CSVReaderHeaderAware", e);
         }
+        BitSet columns = getColumnProjection();
+        if (columns != null) {
+            BitSet headerColumns = csvReader.getColumnProjection();
+            if (headerColumns != null) {
+                columns.or(headerColumns);
+            }
+            csvReader.setColumnProjection(columns);
+        }
+        csvReader.setMetricsListener(getMetricsListener());
+        return csvReader;
     }
 }
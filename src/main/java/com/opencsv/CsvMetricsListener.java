@@ -0,0 +1,94 @@
+package com.opencsv;
+
+import com.opencsv.bean.BeanField;
+
+/**
+ * Receives counters and timings from the readers, the bean converters and the
+ * bean writers of opencsv.
+ * <p>All methods do nothing by default, so an implementation only overrides
+ * what it wants to measure. A listener is registered with
+ * {@link CSVReaderBuilder#withMetricsListener(CsvMetricsListener)},
+ * {@link com.opencsv.bean.CsvToBeanBuilder#withMetricsListener(CsvMetricsListener)}
+ * or
+ * {@link com.opencsv.bean.StatefulBeanToCsvBuilder#withMetricsListener(CsvMetricsListener)}.
+ * If no listener is registered, nothing is measured, so the clock is not
+ * even read.</p>
+ * <p>Beans are converted in parallel, so all methods except
+ * {@link #recordRead(long, long, long)} may be called from several threads
+ * at once, and implementations must be thread-safe.</p>
+ *
+ * @since 5.5
+ */
+public interface CsvMetricsListener {
+
+    /**
+     * Called by {@link CSVReader} for every record it reads.
+     *
+     * @param lines      The number of physical lines the record spans. More
+     *                   than one means the record is a multiline record.
+     * @param input      The amount of input consumed, in characters, or in
+     *                   bytes if the reader tokenizes a byte stream itself
+     *                   (see {@link CSVReaderBuilder#withCharBufferTokenizer(boolean)}).
+     *                   The first record includes any lines skipped before
+     *                   it.
+     * @param parseNanos The time taken to read and split the record
+     */
+    default void recordRead(long lines, long input, long parseNanos) {}
+
+    /**
+     * Called after a value of the input has been converted and assigned to a
+     * field of a bean.
+     *
+     * @param field The field the value was assigned to
+     * @param nanos The time taken for conversion and assignment
+     */
+    default void fieldRead(BeanField<?, ?> field, long nanos) {}
+
+    /**
+     * Called after a field of a bean has been converted for output.
+     *
+     * @param field The field that was converted
+     * @param nanos The time taken for conversion
+     */
+    default void fieldWritten(BeanField<?, ?> field, long nanos) {}
+
+    /**
+     * Called by {@link com.opencsv.bean.CsvToBean} for every bean it emits.
+     * Records that are filtered out, rejected by a verifier or fail to
+     * convert are not counted.
+     *
+     * @param nanos The time taken to create, populate and verify the bean
+     */
+    default void beanRead(long nanos) {}
+
+    /**
+     * Called by {@link com.opencsv.bean.StatefulBeanToCsv} for every bean
+     * converted to a line of output.
+     *
+     * @param nanos The time taken to convert the bean
+     */
+    default void beanWritten(long nanos) {}
+
+    /**
+     * Called whenever a record or a bean has been submitted for parallel
+     * conversion.
+     *
+     * @param pendingTasks   The number of submissions that no thread has
+     *                       started on yet
+     * @param pendingResults The number of finished results waiting to be
+     *                       passed on, either to the consumer or, if the
+     *                       order of the input is kept, to be put back in
+     *                       order
+     */
+    default void queueDepth(int pendingTasks, int pendingResults) {}
+
+    /**
+     * Called for every exception raised while reading or converting a record,
+     * whether it is thrown or captured by the exception handler. The
+     * exceptions of a {@link com.opencsv.exceptions.CsvChainedException} are
+     * reported one by one.
+     *
+     * @param e The exception
+     */
+    default void exceptionCaught(Exception e) {}
+}
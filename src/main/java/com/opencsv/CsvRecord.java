@@ -0,0 +1,60 @@
+package com.opencsv;
+
+/**
+ * A read-only view of one record read by a {@link CSVReader}.
+ * <p>A record obtained from {@link CSVReader#readNextRecord()} is a flyweight:
+ * the reader reuses the same instance for every record, and the fields it
+ * returns may be slices of the reader's internal buffer. Both are therefore
+ * only valid until the next read operation on the reader. Fields that are
+ * never looked at cost nothing beyond the tokenization itself. If a field or
+ * the whole record must outlive the next read, copy it with
+ * {@link #getString(int)}, {@link CharSequence#toString()} or
+ * {@link #materialize()}.</p>
+ * <p>Empty fields are returned as {@code null} under the same conditions as
+ * with {@link CSVReader#readNext()}.</p>
+ *
+ * @since 5.5
+ */
+public interface CsvRecord {
+
+    /**
+     * @return The number of fields in the record
+     */
+    int size();
+
+    /**
+     * Returns one field of the record without copying it.
+     *
+     * @param index The zero-based index of the field
+     * @return A view of the field that is valid until the next read, or
+     *   {@code null} if the field is null
+     * @throws IndexOutOfBoundsException If there is no field with this index
+     */
+    CharSequence get(int index);
+
+    /**
+     * Returns a copy of one field of the record.
+     *
+     * @param index The zero-based index of the field
+     * @return The value of the field, or {@code null} if the field is null
+     * @throws IndexOutOfBoundsException If there is no field with this index
+     */
+    default String getString(int index) {
+        CharSequence field = get(index);
+        return field == null ? null : field.toString();
+    }
+
+    /**
+     * Copies all fields of the record.
+     *
+     * @return An array of the values of all fields, exactly as
+     *   {@link CSVReader#readNext()} would have returned it
+     */
+    default String[] materialize() {
+        String[] fields = new String[size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = getString(i);
+        }
+        return fields;
+    }
+}
@@ -5,6 +5,7 @@ import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import java.io.IOException;
 
 import static com.opencsv.enums.CSVReaderNullFieldIndicator.NEITHER;
+import java.util.BitSet;
 import java.util.Locale;
 
 /**
@@ -159,4 +160,30 @@ public interface ICSVParser {
      * @since 4.2
      */
     void setErrorLocale(Locale errorLocale);
+
+    /**
+     * Restricts the columns for which values are created.
+     * <p>Every record is still split completely, and quotes are tracked as
+     * usual, but only the columns in the projection are copied into
+     * {@link String}s. All other columns are returned as {@code null}, so
+     * the indexes of the columns and the length of the array returned stay
+     * the same.</p>
+     * <p>The default implementation ignores the projection, and all columns
+     * are returned.</p>
+     *
+     * @param columns The zero-based indexes of the columns wanted, or
+     *   {@code null} for all columns
+     * @since 5.5
+     */
+    default void setColumnProjection(BitSet columns) {}
+
+    /**
+     * @return The zero-based indexes of the columns for which values are
+     *   created, or {@code null} if values are created for all columns
+     * @see #setColumnProjection(BitSet)
+     * @since 5.5
+     */
+    default BitSet getColumnProjection() {
+        return null;
+    }
 }
@@ -0,0 +1,622 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.stream.reader.ByteBufferTokenizer;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CSV file that is mapped into memory and parsed in parallel.
+ * <p>The file is divided into chunks of roughly equal size that begin at
+ * line breaks. Since a quoted field may contain line breaks, the beginning of
+ * a chunk is not necessarily the beginning of a record. All chunks are
+ * therefore first scanned in parallel, each from both of the states the
+ * input can be in after a line break: between records, or inside a quoted
+ * field. Once all chunks are scanned, the real state at every chunk boundary
+ * follows from the states before it, and each boundary is moved forward to
+ * the beginning of the next record. Every chunk is then parsed by its own
+ * {@link ByteBufferTokenizer}. The tokenizer copies the mapped bytes into
+ * its buffer one window at a time, so no chunk is ever read onto the heap
+ * as a whole.</p>
+ * <p>The records are available through {@link #spliterator()} and
+ * {@link #stream(boolean)}. The spliterator splits along chunk boundaries,
+ * so a parallel stream parses the chunks on as many threads as the stream
+ * uses. It is {@link Spliterator#ORDERED ordered}, so operations that respect
+ * encounter order, such as
+ * {@link Stream#forEachOrdered(java.util.function.Consumer)}, see the records
+ * in file order. An {@link Stream#unordered() unordered} stream is spared the
+ * cost of putting them back in order.</p>
+ * <p>The file is read according to RFC 4180, just as with
+ * {@link CSVReaderBuilder#withCharBufferTokenizer(boolean)}. The character
+ * set must be one that {@link ByteBufferTokenizer} supports. Chunks only
+ * begin after line feeds, so a file that uses nothing but carriage returns
+ * to end lines is read in one chunk.</p>
+ * <p>A header is not treated differently from any other record. It is the
+ * first record of the file unless it is skipped with
+ * {@link MappedCsvFileBuilder#withSkipLines(int)}.</p>
+ * <p>Instances are created with {@link MappedCsvFileBuilder}.</p>
+ *
+ * @since 5.5
+ */
+public class MappedCsvFile implements Closeable {
+
+    /** The smallest chunk that is worth a thread of its own. */
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+
+    /** The largest chunk that is mapped into memory in one piece. */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    /** Chunks per processor, so that faster threads can take on more work. */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private static final int SCAN_BLOCK_SIZE = 8192;
+
+    // States of the scanner. After a line feed, the input is always either
+    // at the start of a record or inside quotes.
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+    private static final int AFTER_CARRIAGE_RETURN = 4;
+    private static final int STATE_MASK = 7;
+    private static final int RECORD_END = 8;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final char separator;
+    private final char quotechar;
+    private final CSVReaderNullFieldIndicator nullFieldIndicator;
+    private final boolean keepCR;
+    private final int multilineLimit;
+    private final Locale errorLocale;
+    private final BitSet columnProjection;
+    private final List<Chunk> chunks;
+
+    /**
+     * Opens, maps and scans the file.
+     * This constructor is only meant to be used by
+     * {@link MappedCsvFileBuilder}.
+     *
+     * @param path           The file to be read
+     * @param charset        The character set of the file
+     * @param parser         The parser whose separator, quote character,
+     *                       null field indicator and column projection are
+     *                       used
+     * @param keepCR         True to keep carriage returns in data read, false
+     *                       otherwise
+     * @param multilineLimit The maximum number of lines in one record. Less
+     *                       than one means no limit.
+     * @param errorLocale    The locale for error messages. If null, the
+     *                       default locale is used.
+     * @param chunkCount     The number of chunks to divide the file into, or
+     *                       zero to choose it from the size of the file and
+     *                       the number of processors
+     * @param skipLines      The number of lines to skip at the beginning of
+     *                       the file
+     * @throws IOException If the file cannot be opened or read
+     * @throws IllegalArgumentException If the character set is not supported
+     */
+    MappedCsvFile(Path path, Charset charset, ICSVParser parser, boolean keepCR, int multilineLimit,
+                  Locale errorLocale, int chunkCount, int skipLines) throws IOException {
+        this.charset = charset;
+        this.separator = parser.getSeparator();
+        this.quotechar = CSVReader.tokenizerQuoteChar(parser);
+        this.nullFieldIndicator = parser.nullFieldIndicator();
+        this.keepCR = keepCR;
+        this.multilineLimit = multilineLimit;
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        this.columnProjection = parser.getColumnProjection();
+        if (!ByteBufferTokenizer.isSupported(charset, separator, quotechar)) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale).getString("charset.not.ascii.compatible"),
+                    charset.name()));
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.chunks = findChunks(chunkCount, skipLines);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Divides the file into chunks that begin at records.
+     *
+     * @param chunkCount The number of chunks wanted, or zero to choose
+     * @param skipLines  The number of lines before the first chunk
+     * @return The chunks in file order
+     * @throws IOException If the file cannot be read
+     */
+    private List<Chunk> findChunks(int chunkCount, int skipLines) throws IOException {
+        final long size = channel.size();
+        final long start = findDataStart(skipLines);
+        final long dataSize = size - start;
+        if (dataSize == 0) {
+            return Collections.emptyList();
+        }
+
+        long wanted = chunkCount > 0 ? chunkCount
+                : Math.min((long) Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR,
+                (dataSize + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        wanted = Math.max(wanted, (dataSize + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+        wanted = Math.min(wanted, dataSize);
+
+        // Nominal boundaries, each moved to just after the next line feed
+        List<Long> boundaryList = new ArrayList<>();
+        boundaryList.add(start);
+        for (long i = 1; i < wanted; i++) {
+            long boundary = findLineStart(start + dataSize / wanted * i + Math.min(i, dataSize % wanted));
+            if (boundary > boundaryList.get(boundaryList.size() - 1) && boundary < size) {
+                boundaryList.add(boundary);
+            }
+        }
+        boundaryList.add(size);
+        final long[] boundaries = boundaryList.stream().mapToLong(Long::longValue).toArray();
+
+        // Scan all chunks in parallel
+        final ChunkScan[] scans;
+        try {
+            scans = IntStream.range(0, boundaries.length - 1).parallel()
+                    .mapToObj(i -> scan(boundaries[i], boundaries[i + 1]))
+                    .toArray(ChunkScan[]::new);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Determine where records really begin
+        final long[] starts = new long[scans.length];
+        final long[] linesBefore = new long[scans.length];
+        final long[] recordsBefore = new long[scans.length];
+        boolean inQuotes = false;
+        long lines = skipLines, records = 0;
+        for (int i = 0; i < scans.length; i++) {
+            ChunkScan scan = scans[i];
+            if (!inQuotes) {
+                starts[i] = boundaries[i];
+                linesBefore[i] = lines;
+                recordsBefore[i] = records;
+            } else if (scan.firstRecordFromQuoted >= 0) {
+                starts[i] = scan.firstRecordFromQuoted;
+                linesBefore[i] = lines + scan.linesBeforeFirstRecordFromQuoted;
+                recordsBefore[i] = records + 1;
+            } else {
+                starts[i] = -1;
+            }
+            lines += scan.lines;
+            records += inQuotes ? scan.recordsFromQuoted : scan.recordsFromStart;
+            inQuotes = inQuotes ? scan.endsQuotedFromQuoted : scan.endsQuotedFromStart;
+        }
+
+        List<Chunk> result = new ArrayList<>(scans.length);
+        long end = size;
+        for (int i = scans.length - 1; i >= 0; i--) {
+            if (starts[i] >= 0 && starts[i] < end) {
+                result.add(new Chunk(starts[i], end, linesBefore[i], recordsBefore[i]));
+                end = starts[i];
+            }
+        }
+        Collections.reverse(result);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Finds the position after the given number of lines, counting line
+     * breaks as {@link ByteBufferTokenizer#skipLines(int)} does.
+     *
+     * @param skipLines The number of lines to skip
+     * @return The position of the first byte after the skipped lines, or
+     *   the size of the file if it has no more lines
+     * @throws IOException If the file cannot be read
+     */
+    private long findDataStart(int skipLines) throws IOException {
+        final long size = channel.size();
+        if (skipLines <= 0) {
+            return 0;
+        }
+        ByteBuffer block = ByteBuffer.allocate(SCAN_BLOCK_SIZE);
+        long position = 0;
+        int skipped = 0;
+        boolean previousWasCarriageReturn = false;
+        while (position < size) {
+            block.clear();
+            int read = channel.read(block, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++, position++) {
+                final byte c = block.get(i);
+                if (previousWasCarriageReturn) {
+                    previousWasCarriageReturn = false;
+                    if (c == '\n') {
+                        // Belongs to the line ended by the carriage return
+                        continue;
+                    }
+                }
+                if (skipped == skipLines) {
+                    return position;
+                }
+                if (c == '\n') {
+                    skipped++;
+                } else if (c == '\r' && !keepCR) {
+                    skipped++;
+                    previousWasCarriageReturn = true;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Finds the beginning of the first line that starts at or after the
+     * given position.
+     *
+     * @param position A position in the file
+     * @return The position directly after the next line feed, or the size
+     *   of the file if there is none
+     * @throws IOException If the file cannot be read
+     */
+    private long findLineStart(long position) throws IOException {
+        final long size = channel.size();
+        if (position == 0) {
+            return 0;
+        }
+        ByteBuffer block = ByteBuffer.allocate(SCAN_BLOCK_SIZE);
+        long blockStart = position - 1;
+        while (blockStart < size) {
+            block.clear();
+            int read = channel.read(block, blockStart);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (block.get(i) == '\n') {
+                    return blockStart + i + 1;
+                }
+            }
+            blockStart += read;
+        }
+        return size;
+    }
+
+    /**
+     * Maps a part of the file into memory.
+     *
+     * @param start The first byte to be mapped
+     * @param end   The position after the last byte to be mapped
+     * @return The mapped bytes
+     * @throws IOException If the file cannot be mapped
+     */
+    private ByteBuffer map(long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("mapped.chunk.too.large"),
+                    start, end));
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * Scans one chunk for line and record boundaries, once as if the chunk
+     * began between records and once as if it began inside quotes.
+     *
+     * @param start The first byte of the chunk, which follows a line feed
+     * @param end   The position after the last byte of the chunk
+     * @return The results of the scan
+     */
+    private ChunkScan scan(long start, long end) {
+        final ByteBuffer bytes;
+        try {
+            bytes = map(start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final ChunkScan scan = new ChunkScan();
+        final byte[] block = new byte[SCAN_BLOCK_SIZE];
+        int fromStart = FIELD_START;
+        int fromQuoted = QUOTED;
+        boolean recordEndedFromQuoted = false;
+        boolean previousWasCarriageReturn = false;
+        long position = start;
+        while (bytes.hasRemaining()) {
+            final int length = Math.min(block.length, bytes.remaining());
+            bytes.get(block, 0, length);
+            for (int i = 0; i < length; i++, position++) {
+                final int c = block[i] & 0xFF;
+
+                if (c == '\n') {
+                    if (keepCR || !previousWasCarriageReturn) {
+                        scan.lines++;
+                    }
+                } else if (c == '\r' && !keepCR) {
+                    scan.lines++;
+                }
+                previousWasCarriageReturn = c == '\r';
+
+                int next = step(fromStart, c);
+                if ((next & RECORD_END) != 0) {
+                    scan.recordsFromStart++;
+                }
+                fromStart = next & STATE_MASK;
+
+                next = step(fromQuoted, c);
+                if (recordEndedFromQuoted && scan.firstRecordFromQuoted < 0) {
+                    // The record ended with a carriage return. It is
+                    // followed either by a line feed that belongs to it or
+                    // by the next record.
+                    if (c == '\n') {
+                        scan.firstRecordFromQuoted = position + 1;
+                        scan.linesBeforeFirstRecordFromQuoted = scan.lines;
+                    } else {
+                        scan.firstRecordFromQuoted = position;
+                    }
+                }
+                if ((next & RECORD_END) != 0) {
+                    scan.recordsFromQuoted++;
+                    if (!recordEndedFromQuoted) {
+                        recordEndedFromQuoted = true;
+                        scan.linesBeforeFirstRecordFromQuoted = scan.lines;
+                        if (c == '\n') {
+                            scan.firstRecordFromQuoted = position + 1;
+                        }
+                    }
+                }
+                fromQuoted = next & STATE_MASK;
+            }
+        }
+        if (recordEndedFromQuoted && scan.firstRecordFromQuoted < 0) {
+            scan.firstRecordFromQuoted = end;
+        }
+        scan.endsQuotedFromStart = fromStart == QUOTED;
+        scan.endsQuotedFromQuoted = fromQuoted == QUOTED;
+        return scan;
+    }
+
+    /**
+     * Advances the scanner by one byte, following the grammar of
+     * {@link ByteBufferTokenizer}.
+     *
+     * @param state The current state
+     * @param c     The next byte of input
+     * @return The next state, combined with {@link #RECORD_END} if the byte
+     *   ends a record
+     */
+    private int step(int state, int c) {
+        if (state == AFTER_CARRIAGE_RETURN && c == '\n') {
+            return FIELD_START;
+        }
+        switch (state) {
+            case QUOTED:
+                return c == quotechar ? QUOTE_IN_QUOTED : QUOTED;
+            case QUOTE_IN_QUOTED:
+                if (c == quotechar) {
+                    return QUOTED;
+                }
+                break;
+            case AFTER_CARRIAGE_RETURN:
+            case FIELD_START:
+                if (c == quotechar && quotechar != ICSVParser.NULL_CHARACTER) {
+                    return QUOTED;
+                }
+                break;
+            default:
+                break;
+        }
+        if (c == separator) {
+            return FIELD_START;
+        }
+        if (c == '\n') {
+            return FIELD_START | RECORD_END;
+        }
+        if (c == '\r' && !keepCR) {
+            return AFTER_CARRIAGE_RETURN | RECORD_END;
+        }
+        return UNQUOTED;
+    }
+
+    /**
+     * @return The number of chunks the file has been divided into
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Creates a spliterator over all records of the file.
+     * Reading a record may throw an {@link UncheckedIOException} wrapping
+     * the {@link IOException} the tokenizer threw, for example a
+     * {@link com.opencsv.exceptions.CsvMalformedLineException}.
+     *
+     * @return A new spliterator that splits along chunk boundaries
+     */
+    public Spliterator<String[]> spliterator() {
+        return new ChunkSpliterator(0, chunks.size(), null);
+    }
+
+    /**
+     * Creates a stream over all records of the file.
+     *
+     * @param parallel Whether the stream should be parallel
+     * @return A new stream of records
+     * @see #spliterator()
+     */
+    public Stream<String[]> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    /**
+     * Closes the file. Records can no longer be read afterwards.
+     *
+     * @throws IOException If the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Creates a tokenizer for one chunk.
+     *
+     * @param chunk The chunk to be read
+     * @return A tokenizer positioned at the first record of the chunk
+     * @throws IOException If the chunk cannot be mapped
+     */
+    private ByteBufferTokenizer openChunk(Chunk chunk) throws IOException {
+        ByteBufferTokenizer tokenizer = new ByteBufferTokenizer(
+                new ByteBufferInputStream(map(chunk.start, chunk.end)), charset,
+                separator, quotechar, nullFieldIndicator, keepCR, multilineLimit, errorLocale,
+                ByteBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        tokenizer.setColumnProjection(columnProjection);
+        tokenizer.setPrecedingInput(chunk.linesBefore, chunk.recordsBefore);
+        return tokenizer;
+    }
+
+    /** A part of the file that begins at a record. */
+    private static final class Chunk {
+        private final long start;
+        private final long end;
+        private final long linesBefore;
+        private final long recordsBefore;
+
+        Chunk(long start, long end, long linesBefore, long recordsBefore) {
+            this.start = start;
+            this.end = end;
+            this.linesBefore = linesBefore;
+            this.recordsBefore = recordsBefore;
+        }
+    }
+
+    /** What the scan of one chunk found. */
+    private static final class ChunkScan {
+        private long lines;
+        private long recordsFromStart;
+        private long recordsFromQuoted;
+        private boolean endsQuotedFromStart;
+        private boolean endsQuotedFromQuoted;
+        private long firstRecordFromQuoted = -1;
+        private long linesBeforeFirstRecordFromQuoted;
+    }
+
+    /**
+     * A spliterator over the records of a range of chunks.
+     * It splits off the first half of its chunks, including the chunk it is
+     * currently reading, which keeps it a valid ordered spliterator.
+     */
+    private final class ChunkSpliterator implements Spliterator<String[]> {
+        private int next;
+        private final int end;
+        private ByteBufferTokenizer tokenizer;
+
+        ChunkSpliterator(int next, int end, ByteBufferTokenizer tokenizer) {
+            this.next = next;
+            this.end = end;
+            this.tokenizer = tokenizer;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String[]> action) {
+            try {
+                for (;;) {
+                    if (tokenizer == null) {
+                        if (next >= end) {
+                            return false;
+                        }
+                        tokenizer = openChunk(chunks.get(next++));
+                    }
+                    if (tokenizer.nextRecord()) {
+                        action.accept(tokenizer.getFields());
+                        return true;
+                    }
+                    tokenizer = null;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Spliterator<String[]> trySplit() {
+            final int remaining = end - next;
+            if (remaining < (tokenizer == null ? 2 : 1)) {
+                return null;
+            }
+            final int middle = next + remaining / 2;
+            ChunkSpliterator prefix = new ChunkSpliterator(next, middle, tokenizer);
+            tokenizer = null;
+            next = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long records = tokenizer == null ? 0 : 1;
+            if (next < end) {
+                long recordsAtEnd = end < chunks.size()
+                        ? chunks.get(end).recordsBefore
+                        : chunks.get(end - 1).recordsBefore + 1 + (end - next);
+                records += Math.max(recordsAtEnd - chunks.get(next).recordsBefore, end - next);
+            }
+            return records;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    /**
+     * Reads from a buffer of bytes, so a {@link ByteBufferTokenizer} can copy
+     * a mapped chunk into its own buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer bytes;
+
+        ByteBufferInputStream(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return bytes.hasRemaining() ? bytes.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!bytes.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, bytes.remaining());
+            bytes.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return bytes.remaining();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Builder for creating a {@link MappedCsvFile}.
+ * <p><code>
+ * try (MappedCsvFile file = new MappedCsvFileBuilder(path)<br>
+ * .withCSVParser(new RFC4180ParserBuilder().withSeparator(';').build())<br>
+ * .build()) {<br>
+ * file.stream(true).forEachOrdered(...);<br>
+ * }
+ * </code></p>
+ *
+ * @since 5.5
+ */
+public class MappedCsvFileBuilder {
+
+    private final Path path;
+    private Charset charset = StandardCharsets.UTF_8;
+    private ICSVParser icsvParser = null;
+    private boolean keepCR;
+    private int multilineLimit = CSVReader.DEFAULT_MULTILINE_LIMIT;
+    private Locale errorLocale = Locale.getDefault();
+    private int chunkCount = 0;
+    private int skipLines = CSVReader.DEFAULT_SKIP_LINES;
+
+    /**
+     * Sets the file to be read.
+     *
+     * @param path The CSV file
+     */
+    public MappedCsvFileBuilder(final Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("path.null"));
+        }
+        this.path = path;
+    }
+
+    /**
+     * Sets the character set of the file. The default is UTF-8.
+     *
+     * @param charset The character set of the file
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withCharset(final Charset charset) {
+        this.charset = ObjectUtils.defaultIfNull(charset, StandardCharsets.UTF_8);
+        return this;
+    }
+
+    /**
+     * Sets the parser whose separator, quote character, null field indicator
+     * and column projection are used.
+     * The parser itself is not used, so as with
+     * {@link CSVReaderBuilder#withCharBufferTokenizer(boolean)} the options
+     * that only {@link CSVParser} supports are ignored. The default is an
+     * {@link RFC4180Parser} with default settings.
+     *
+     * @param icsvParser The parser that provides the settings for reading
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withCSVParser(final ICSVParser icsvParser) {
+        this.icsvParser = icsvParser;
+        return this;
+    }
+
+    /**
+     * Sets if carriage returns are kept or discarded.
+     *
+     * @param keepCR True to keep carriage returns, false to discard.
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withKeepCarriageReturn(boolean keepCR) {
+        this.keepCR = keepCR;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of lines allowed in a multiline record.
+     *
+     * @param multilineLimit No more than this number of lines is allowed in a
+     *                       single input record. The default is
+     *                       {@link CSVReader#DEFAULT_MULTILINE_LIMIT}.
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withMultilineLimit(int multilineLimit) {
+        this.multilineLimit = multilineLimit;
+        return this;
+    }
+
+    /**
+     * Sets the locale for all error messages.
+     *
+     * @param errorLocale Locale for error messages
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withErrorLocale(Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        return this;
+    }
+
+    /**
+     * Sets the number of chunks the file is divided into.
+     * Chunks can only begin at line breaks, so a file may end up with fewer
+     * chunks than requested. By default, the number of chunks is chosen from
+     * the size of the file and the number of processors available.
+     *
+     * @param chunkCount The number of chunks, or zero for the default
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withChunkCount(int chunkCount) {
+        this.chunkCount = Math.max(chunkCount, 0);
+        return this;
+    }
+
+    /**
+     * Sets the number of lines to skip at the beginning of the file, for
+     * example a header.
+     * As with {@link CSVReaderBuilder#withSkipLines(int)}, these are lines,
+     * not records: quotes are not considered while skipping them. Skipped
+     * lines still count towards the line numbers in error messages.
+     *
+     * @param skipLines The number of lines to skip. The default is
+     *                  {@link CSVReader#DEFAULT_SKIP_LINES}.
+     * @return {@code this}
+     */
+    public MappedCsvFileBuilder withSkipLines(int skipLines) {
+        this.skipLines = Math.max(skipLines, 0);
+        return this;
+    }
+
+    /**
+     * Opens the file and finds the chunks it is divided into.
+     *
+     * @return The mapped file, which must be closed after use
+     * @throws IOException If the file cannot be opened or read
+     * @throws IllegalArgumentException If the character set does not encode
+     *   line breaks, the separator and the quote character as single ASCII
+     *   bytes
+     */
+    public MappedCsvFile build() throws IOException {
+        final ICSVParser parser = ObjectUtils.defaultIfNull(icsvParser,
+                new RFC4180ParserBuilder().build());
+        return new MappedCsvFile(path, charset, parser, keepCR, multilineLimit, errorLocale, chunkCount, skipLines);
+    }
+}
@@ -110,20 +110,33 @@ public class RFC4180Parser extends AbstractCSVParser {
             if (pending != null) {
                 String s = pending;
                 pending = null;
-                return new String[]{s};
+                return new String[]{isProjected(pendingColumn) ? s : null};
             }
             return null;
         }
 
+        final int firstColumn = multi && pending != null ? pendingColumn : 0;
         String lineToProcess = multi && pending != null ? pending + nextLine : nextLine;
         pending = null;
 
         if (!StringUtils.contains(lineToProcess, quotechar)) {
             elements = handleEmptySeparators(tokenizeStringIntoArray(lineToProcess));
+            if (columnProjection != null) {
+                for (int i = 0; i < elements.length; i++) {
+                    if (!isProjected(firstColumn + i)) {
+                        elements[i] = null;
+                    }
+                }
+            }
         } else {
             elements = handleEmptySeparators(splitWhileNotInQuotes(lineToProcess, multi));
+            if (pending != null) {
+                pendingColumn = firstColumn + elements.length;
+            }
             for (int i = 0; i < elements.length; i++) {
-                if (StringUtils.contains(elements[i], quotechar)) {
+                if (!isProjected(firstColumn + i)) {
+                    elements[i] = null;
+                } else if (StringUtils.contains(elements[i], quotechar)) {
                     elements[i] = handleQuotes(elements[i]);
                 }
             }
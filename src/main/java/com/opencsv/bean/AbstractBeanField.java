@@ -26,9 +26,14 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * This base bean takes over the responsibility of converting the supplied
@@ -81,6 +86,18 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
      */
     protected FieldAccess<Object> fieldAccess;
 
+    /**
+     * The processors of the {@link PreAssignmentProcessor} annotations on
+     * the field, in the order they are applied.
+     */
+    private List<PreAssignment<StringProcessor>> processors = Collections.emptyList();
+
+    /**
+     * The validators of the {@link PreAssignmentValidator} annotations on
+     * the field, in the order they are applied.
+     */
+    private List<PreAssignment<StringValidator>> validators = Collections.emptyList();
+
     /**
      * Default nullary constructor, so derived classes aren't forced to create
      * a constructor identical to this one.
@@ -110,6 +127,7 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
         this.converter = converter;
         fieldAccess = new FieldAccess<>(this.field);
+        resolvePreAssignment();
     }
 
     @Override
@@ -124,6 +142,31 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
     public void setField(Field field) {
         this.field = field;
         fieldAccess = new FieldAccess<>(this.field);
+        resolvePreAssignment();
+    }
+
+    /**
+     * Looks up the processors and validators annotated on the field and
+     * creates them, so this is done once per field and not once per value.
+     */
+    private void resolvePreAssignment() {
+        if (field == null) {
+            processors = Collections.emptyList();
+            validators = Collections.emptyList();
+            return;
+        }
+        List<PreAssignment<StringProcessor>> newProcessors = new ArrayList<>();
+        for (PreAssignmentProcessor processor : field.getAnnotationsByType(PreAssignmentProcessor.class)) {
+            newProcessors.add(new PreAssignment<>(processor.processor(), processor.paramString(),
+                    StringProcessor::setParameterString, StringProcessor::isThreadSafe));
+        }
+        List<PreAssignment<StringValidator>> newValidators = new ArrayList<>();
+        for (PreAssignmentValidator validator : field.getAnnotationsByType(PreAssignmentValidator.class)) {
+            newValidators.add(new PreAssignment<>(validator.validator(), validator.paramString(),
+                    StringValidator::setParameterString, StringValidator::isThreadSafe));
+        }
+        processors = newProcessors;
+        validators = newValidators;
     }
 
     @Override
@@ -165,46 +208,135 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
                             field.getName()));
         }
 
-        PreAssignmentProcessor[] processors = field.getAnnotationsByType(PreAssignmentProcessor.class);
-
         String fieldValue = value;
 
-        for (PreAssignmentProcessor processor : processors) {
-            fieldValue = preProcessValue(processor, fieldValue);
+        for (PreAssignment<StringProcessor> processor : processors) {
+            fieldValue = processor.get().processString(fieldValue);
         }
 
-        PreAssignmentValidator[] validators = field.getAnnotationsByType(PreAssignmentValidator.class);
-
-        for (PreAssignmentValidator validator : validators) {
-            validateValue(validator, fieldValue);
+        for (PreAssignment<StringValidator> validator : validators) {
+            validator.get().validate(fieldValue, this);
         }
 
-        assignValueToField(bean, convert(fieldValue), header);
+        if (!assignWithoutBoxing(bean, fieldValue)) {
+            assignValueToField(bean, convert(fieldValue), header);
+        }
     }
 
-    private String preProcessValue(PreAssignmentProcessor processor, String value) throws CsvValidationException {
+    /**
+     * Converts and assigns a value in one step, sparing primitive fields the
+     * boxing that {@link #convert(String)} and
+     * {@link #assignValueToField(Object, Object, String)} require.
+     *
+     * @param bean  The bean in which the field is located
+     * @param value The string from the CSV file, already processed and
+     *              validated
+     * @return Whether the value has been dealt with. If not, nothing has
+     *   happened, and it is converted and assigned as usual.
+     * @throws CsvDataTypeMismatchException If the value cannot be converted
+     *   to the type of the field
+     */
+    private boolean assignWithoutBoxing(Object bean, String value)
+            throws CsvDataTypeMismatchException {
         try {
-            StringProcessor stringProcessor = processor.processor().newInstance();
-            stringProcessor.setParameterString(processor.paramString());
-            return stringProcessor.processString(value);
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new CsvValidationException(String.format(
-                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                            .getString("validator.instantiation.impossible"),
-                    processor.processor().getName(), field.getName()));
+            return assignPrimitive(bean, value);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            CsvBeanIntrospectionException csve =
+                    new CsvBeanIntrospectionException(bean, field,
+                            e.getLocalizedMessage());
+            csve.initCause(e);
+            throw csve;
+        } catch (IllegalArgumentException e2) {
+            CsvDataTypeMismatchException csve =
+                    new CsvDataTypeMismatchException(value, field.getType());
+            csve.initCause(e2);
+            throw csve;
         }
     }
 
-    private void validateValue(PreAssignmentValidator validator, String value) throws CsvValidationException {
-        try {
-            StringValidator stringValidator = validator.validator().newInstance();
-            stringValidator.setParameterString(validator.paramString());
-            stringValidator.validate(value, this);
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new CsvValidationException(String.format(
-                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                            .getString("validator.instantiation.impossible"),
-                    validator.validator().getName(), field.getName()));
+    /**
+     * Converts a value for a primitive field and assigns it without boxing
+     * it, if this bean field knows how.
+     * The result must be the same as that of {@link #convert(String)}
+     * followed by {@link #assignValueToField(Object, Object, String)}.
+     * By default, nothing is done.
+     *
+     * @param bean  The bean in which the field is located
+     * @param value The string from the CSV file, already processed and
+     *              validated
+     * @return Whether the value has been dealt with
+     * @throws CsvDataTypeMismatchException If the value cannot be converted
+     *   to the type of the field
+     * @throws IllegalAccessException If the field cannot be written
+     * @throws InvocationTargetException If the setter throws an exception
+     * @since 5.5
+     */
+    boolean assignPrimitive(Object bean, String value)
+            throws CsvDataTypeMismatchException, IllegalAccessException, InvocationTargetException {
+        return false;
+    }
+
+    /**
+     * A processor or validator of a field, created once and reused for
+     * every value of the field: shared by all threads if it is thread-safe,
+     * otherwise once for every thread. Bean fields with processors or
+     * validators are never shared between mapping strategies, so neither is
+     * this.
+     * If it cannot be created, every attempt to use it fails.
+     *
+     * @param <S> The type of the processor or validator
+     */
+    private final class PreAssignment<S> {
+        private final Class<? extends S> type;
+        private final String paramString;
+        private final BiConsumer<S, String> setParameterString;
+        private final S shared;
+        private final ThreadLocal<S> perThread;
+
+        PreAssignment(Class<? extends S> type, String paramString,
+                      BiConsumer<S, String> setParameterString, Predicate<S> isThreadSafe) {
+            this.type = type;
+            this.paramString = paramString;
+            this.setParameterString = setParameterString;
+            S first = null;
+            try {
+                first = instantiate();
+            } catch (CsvValidationException e) {
+                // Reported again whenever the field is assigned a value
+            }
+            if (first != null && isThreadSafe.test(first)) {
+                shared = first;
+                perThread = null;
+            } else {
+                shared = null;
+                perThread = new ThreadLocal<>();
+                perThread.set(first);
+            }
+        }
+
+        private S instantiate() throws CsvValidationException {
+            try {
+                S instance = type.newInstance();
+                setParameterString.accept(instance, paramString);
+                return instance;
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new CsvValidationException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("validator.instantiation.impossible"),
+                        type.getName(), field.getName()));
+            }
+        }
+
+        S get() throws CsvValidationException {
+            if (shared != null) {
+                return shared;
+            }
+            S instance = perThread.get();
+            if (instance == null) {
+                instance = instantiate();
+                perThread.set(instance);
+            }
+            return instance;
         }
     }
 
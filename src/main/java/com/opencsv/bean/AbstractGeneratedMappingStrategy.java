@@ -0,0 +1,332 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.ICSVParser;
+import com.opencsv.exceptions.CsvChainedException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvFieldAssignmentException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * The base class of the mapping strategies generated at compile time by the
+ * annotation processor in the module {@code opencsv-processor}.
+ * <p>A generated strategy maps one bean type whose member variables are
+ * bound with {@link CsvBindByName} or {@link CsvBindByPosition} and need no
+ * more than the default conversion. Instead of finding the bindings through
+ * reflection when the type is set, it is handed them as arrays, and instead
+ * of converting and assigning values through {@link BeanField}s, it reads
+ * and writes the member variables of the bean directly in
+ * {@link #setValue(Object, int, String)} and {@link #getValue(Object, int)}.
+ * The bound member variables are numbered in the order of these arrays.</p>
+ * <p>Reading and writing otherwise follow {@link HeaderColumnNameMappingStrategy}
+ * or {@link ColumnPositionMappingStrategy}, depending on the binding, for the
+ * default profile. Fields cannot be ignored after the fact, and the order of
+ * the columns on writing is the natural order of their names or positions.</p>
+ *
+ * @param <T> The type of the bean being mapped
+ * @since 5.5
+ */
+public abstract class AbstractGeneratedMappingStrategy<T> implements MappingStrategy<T> {
+
+    private final Class<T> type;
+    private final String[] fieldNames;
+    private final Class<?>[] fieldTypes;
+    private final boolean[] required;
+
+    /** The column name of every field if bound by name, otherwise {@code null}. */
+    private final String[] columnNames;
+
+    /** The column position of every field if bound by position, otherwise {@code null}. */
+    private final int[] columnPositions;
+
+    /**
+     * The field bound to every column of the input, or -1. For binding by
+     * position, this never changes.
+     */
+    private int[] columnFields;
+
+    /** The fields in the order they are written. */
+    private final int[] writeOrder;
+
+    private boolean strictColumnNumber = true;
+    private Locale errorLocale = Locale.getDefault();
+
+    /**
+     * Initializes the strategy with its bindings.
+     * Exactly one of {@code columnNames} and {@code columnPositions} must be
+     * given, and every array has one entry for every bound field.
+     *
+     * @param type            The type of the bean
+     * @param fieldNames      The names of the bound member variables, for
+     *                        error messages
+     * @param fieldTypes      The types of the bound member variables
+     * @param required        Whether a value is required for each field
+     * @param columnNames     The column names bound to the fields, or
+     *                        {@code null} if they are bound by position
+     * @param columnPositions The column positions bound to the fields, or
+     *                        {@code null} if they are bound by name
+     */
+    protected AbstractGeneratedMappingStrategy(
+            Class<T> type, String[] fieldNames, Class<?>[] fieldTypes,
+            boolean[] required, String[] columnNames, int[] columnPositions) {
+        this.type = type;
+        this.fieldNames = fieldNames;
+        this.fieldTypes = fieldTypes;
+        this.required = required;
+        this.columnNames = columnNames == null ? null : Arrays.stream(columnNames)
+                .map(n -> n.toUpperCase().trim())
+                .toArray(String[]::new);
+        this.columnPositions = columnPositions;
+
+        Integer[] order = new Integer[fieldNames.length];
+        Arrays.setAll(order, i -> i);
+        if(this.columnNames != null) {
+            Arrays.sort(order, Comparator.comparing(i -> this.columnNames[i]));
+            columnFields = ArrayUtils.EMPTY_INT_ARRAY;
+        }
+        else {
+            Arrays.sort(order, Comparator.comparingInt(i -> columnPositions[i]));
+            int numberOfColumns = order.length == 0 ? 0 : columnPositions[order[order.length - 1]] + 1;
+            columnFields = new int[numberOfColumns];
+            Arrays.fill(columnFields, -1);
+            for(int i = 0; i < columnPositions.length; i++) {
+                columnFields[columnPositions[i]] = i;
+            }
+        }
+        writeOrder = ArrayUtils.toPrimitive(order);
+    }
+
+    /**
+     * @return A new, empty bean
+     */
+    protected abstract T newBean();
+
+    /**
+     * Converts a value of the input and assigns it to a field of the bean.
+     *
+     * @param bean  The bean
+     * @param field The number of the field
+     * @param value The value, never {@code null}, and never blank unless
+     *              the field is a {@link String}
+     * @throws RuntimeException If the value cannot be converted, for
+     *   instance a {@link NumberFormatException}
+     */
+    protected abstract void setValue(T bean, int field, String value);
+
+    /**
+     * Reads a field of the bean and converts it for output.
+     *
+     * @param bean  The bean
+     * @param field The number of the field
+     * @return The value of the field as a string, or {@code null} if the
+     *   field is {@code null}
+     */
+    protected abstract String getValue(T bean, int field);
+
+    /**
+     * Converts a string to a boolean the way the reflective strategies do.
+     *
+     * @param value The string
+     * @return The boolean
+     * @throws ConversionException If the string is not a boolean
+     */
+    protected static Boolean toBoolean(String value) {
+        return ConverterPrimitiveTypes.parseBoolean(value);
+    }
+
+    /**
+     * Converts a string to a character the way the reflective strategies do.
+     *
+     * @param value The string, which must not be empty
+     * @return The first character of the string
+     */
+    protected static Character toCharacter(String value) {
+        return value.charAt(0);
+    }
+
+    @Override
+    public void captureHeader(CSVReader reader) throws IOException, CsvRequiredFieldEmptyException {
+        if(columnNames == null) {
+            return;
+        }
+
+        String[] header = ArrayUtils.nullToEmpty(reader.readNextSilently());
+        int[] fields = new int[header.length];
+        BitSet found = new BitSet(columnNames.length);
+        for(int col = 0; col < header.length; col++) {
+            // For the case that a header is empty and someone configured
+            // empty fields to be null
+            header[col] = StringUtils.defaultString(header[col]);
+            fields[col] = -1;
+            String name = header[col].trim().toUpperCase();
+            for(int i = 0; i < columnNames.length; i++) {
+                if(columnNames[i].equals(name)) {
+                    fields[col] = i;
+                    found.set(i);
+                    break;
+                }
+            }
+        }
+
+        // Throw an exception if any required headers are missing
+        List<String> missingRequiredHeaders = new ArrayList<>();
+        for(int i = 0; i < columnNames.length; i++) {
+            if(required[i] && !found.get(i)) {
+                missingRequiredHeaders.add(columnNames[i]);
+            }
+        }
+        if(!missingRequiredHeaders.isEmpty()) {
+            throw new CsvRequiredFieldEmptyException(type, String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("header.required.field.absent"),
+                    String.join(", ", missingRequiredHeaders),
+                    String.join(",", header)));
+        }
+        columnFields = fields;
+    }
+
+    @Override
+    public String[] generateHeader(T bean) {
+        if(columnNames == null) {
+            return ArrayUtils.EMPTY_STRING_ARRAY;
+        }
+        String[] header = new String[writeOrder.length];
+        for(int i = 0; i < writeOrder.length; i++) {
+            header[i] = columnNames[writeOrder[i]];
+        }
+        return header;
+    }
+
+    @Deprecated
+    @Override
+    public boolean isAnnotationDriven() {
+        return true;
+    }
+
+    @Override
+    public T populateNewBean(String[] line) throws CsvFieldAssignmentException, CsvChainedException {
+        if(columnNames != null && strictColumnNumber
+                && columnFields.length != 0 && line.length != columnFields.length) {
+            throw new CsvRequiredFieldEmptyException(type, ResourceBundle
+                    .getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                    .getString("header.data.mismatch"));
+        }
+
+        T bean = newBean();
+        CsvChainedException chainedException = null;
+        int numberOfColumns = columnNames == null ? columnFields.length : Math.min(line.length, columnFields.length);
+        for(int col = 0; col < numberOfColumns; col++) {
+            int field = columnFields[col];
+            if(field < 0) {
+                continue;
+            }
+            try {
+                assign(bean, field, col < line.length ? line[col] : null);
+            } catch (CsvFieldAssignmentException e) {
+                if(chainedException != null) {
+                    chainedException.add(e);
+                }
+                else {
+                    chainedException = new CsvChainedException(e);
+                }
+            }
+        }
+        if(chainedException != null) {
+            if(chainedException.hasOnlyOneException()) {
+                throw chainedException.getFirstException();
+            }
+            throw chainedException;
+        }
+        return bean;
+    }
+
+    private void assign(T bean, int field, String value) throws CsvFieldAssignmentException {
+        if(StringUtils.isBlank(value)) {
+            if(required[field]) {
+                throw new CsvRequiredFieldEmptyException(type, String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("required.field.empty"),
+                        fieldNames[field]));
+            }
+            if(value == null || fieldTypes[field] != String.class) {
+                return;
+            }
+        }
+        try {
+            setValue(bean, field, value);
+        } catch (NumberFormatException | ConversionException e) {
+            CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
+                    value, fieldTypes[field], String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.impossible"),
+                    value, fieldTypes[field].getCanonicalName()));
+            csve.initCause(e);
+            throw csve;
+        }
+    }
+
+    /**
+     * Sets the class type that is being mapped, which must be the type the
+     * strategy was generated for.
+     *
+     * @param type Class type
+     * @throws IllegalArgumentException If the type is not the one the
+     *   strategy was generated for
+     */
+    @Override
+    public void setType(Class<? extends T> type) {
+        if(type != this.type) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("generated.type.mismatch"),
+                    this.type.getName(), type == null ? null : type.getName()));
+        }
+    }
+
+    @Override
+    public void setErrorLocale(Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+    }
+
+    @Override
+    public void setStrictColumnNumber(boolean strictColumnNumber) {
+        this.strictColumnNumber = strictColumnNumber;
+    }
+
+    @Override
+    public String[] transmuteBean(T bean) throws CsvFieldAssignmentException, CsvChainedException {
+        int numberOfColumns = columnNames == null ? columnFields.length : writeOrder.length;
+        String[] line = new String[numberOfColumns];
+        CsvChainedException chainedException = null;
+        for(int col = 0; col < numberOfColumns; col++) {
+            int field = columnNames == null ? columnFields[col] : writeOrder[col];
+            String value = field < 0 ? null : getValue(bean, field);
+            if(field >= 0 && required[field] && value == null) {
+                CsvRequiredFieldEmptyException e = new CsvRequiredFieldEmptyException(type, String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("required.field.empty"),
+                        fieldNames[field]));
+                if(chainedException != null) {
+                    chainedException.add(e);
+                }
+                else {
+                    chainedException = new CsvChainedException(e);
+                }
+            }
+            line[col] = StringUtils.defaultString(value);
+        }
+        if(chainedException != null) {
+            if(chainedException.hasOnlyOneException()) {
+                throw chainedException.getFirstException();
+            }
+            throw chainedException;
+        }
+        return line;
+    }
+}
@@ -15,7 +15,10 @@
  */
 package com.opencsv.bean;
 
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.ICSVParser;
+import com.opencsv.bean.processor.PreAssignmentProcessor;
+import com.opencsv.bean.validators.PreAssignmentValidator;
 import com.opencsv.exceptions.*;
 import org.apache.commons.collections4.ListValuedMap;
 import org.apache.commons.collections4.MapIterator;
@@ -60,6 +63,30 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     private static final Set<Class> FORBIDDEN_CLASSES_FOR_RECURSION = new HashSet<>(Arrays.asList(Byte.TYPE, Short.TYPE,
             Integer.TYPE, Float.TYPE, Double.TYPE, Boolean.TYPE, Long.TYPE, Character.TYPE));
 
+    /**
+     * Whether a strategy class overrides {@link #createBean()} or
+     * {@link #setFieldValue(Map, String, int)}, so beans must be read
+     * through them.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_LEGACY_READING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "createBean")
+                    || overrides(type, "setFieldValue", Map.class, String.class, int.class);
+        }
+    };
+
+    /**
+     * Whether a strategy class overrides {@link #indexBean(Object)}, so
+     * beans must be written through it.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_LEGACY_INDEXING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "indexBean", Object.class);
+        }
+    };
+
     /** This is the class of the bean to be manipulated. */
     protected Class<? extends T> type;
 
@@ -77,6 +104,41 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      */
     private RecursiveType recursiveTypeTree;
 
+    /**
+     * The types of {@link #recursiveTypeTree} in the order their beans are
+     * created. Each bean of a row is kept at the index of its type.
+     */
+    private BeanSlot[] beanSlots;
+
+    /** The index of every type in {@link #beanSlots}. */
+    private Map<Class<?>, Integer> slotsByType;
+
+    /**
+     * Whether this strategy reads beans through the deprecated
+     * {@link #createBean()} and {@link #setFieldValue(Map, String, int)},
+     * because a subclass overrides one of them.
+     */
+    private final boolean legacyReading = OVERRIDES_LEGACY_READING.get(getClass());
+
+    /**
+     * Whether this strategy writes beans through the deprecated
+     * {@link #indexBean(Object)}, because a subclass overrides it.
+     */
+    private final boolean legacyIndexing = OVERRIDES_LEGACY_INDEXING.get(getClass());
+
+    /**
+     * The bean field and header of every column, as determined by
+     * {@link #findField(int)} and {@link #findHeader(int)}, or {@code null}
+     * if they have not been determined since the mapping last changed.
+     */
+    private volatile ColumnBindings<T, K> columnBindings;
+
+    /**
+     * Whether the bean fields of the field map are shared through
+     * {@link MappingMetadataCache} and thus must not be changed.
+     */
+    private boolean fieldMapShared = false;
+
     /** Storage for all manually excluded class/field pairs. */
     private MultiValuedMap<Class<?>, Field> ignoredFields = new ArrayListValuedHashMap<>();
 
@@ -96,6 +158,12 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     /** The profile for configuring bean fields. */
     protected String profile = StringUtils.EMPTY;
 
+    /**
+     * The listener for conversion times, or {@code null} if nothing is to be
+     * measured.
+     */
+    protected CsvMetricsListener metricsListener;
+
     /**
      * For {@link BeanField#indexAndSplitMultivaluedField(java.lang.Object, java.lang.Object)}
      * it is necessary to determine which index to pass in.
@@ -197,19 +265,48 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @throws CsvBeanIntrospectionException Thrown on error creating object.
      * @throws IllegalStateException If the type of the bean has not been
      *   initialized through {@link #setType(java.lang.Class)}
+     * @deprecated Beans are now created through {@link #createBeanTree()}.
+     *   If this method is overridden, {@link #populateNewBean(String[])}
+     *   still calls it, but must map the beans of every line by type.
      */
+    @Deprecated
     protected Map<Class<?>, Object> createBean()
             throws CsvBeanIntrospectionException, IllegalStateException {
+        return mapBeanTree(createBeanTree());
+    }
+
+    /**
+     * Creates a new bean of the type being mapped, along with all of the
+     * subordinate beans reached through {@link CsvRecurse}.
+     *
+     * @return The beans, indexed by the slot of their type. The root bean is
+     *   always at index 0.
+     * @throws CsvBeanIntrospectionException Thrown on error creating object.
+     * @throws IllegalStateException If the type of the bean has not been
+     *   initialized through {@link #setType(java.lang.Class)}
+     * @since 5.5
+     */
+    protected Object[] createBeanTree()
+            throws CsvBeanIntrospectionException, IllegalStateException {
         if(type == null) {
             throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("type.unset"));
         }
 
-        // Create the root bean and all beans underneath it
-        Map<Class<?>, Object> instanceMap = new HashMap<>();
+        // Create the root bean and all beans underneath it. Every slot comes
+        // after the slot of the bean containing it.
+        Object[] beanTree = new Object[beanSlots.length];
         try {
-            T rootBean = type.newInstance();
-            instanceMap.put(type, rootBean);
-            createSubordinateBeans(recursiveTypeTree, instanceMap, rootBean);
+            beanTree[0] = type.newInstance();
+            for(int i = 1; i < beanSlots.length; i++) {
+                BeanSlot slot = beanSlots[i];
+                Object containingObject = beanTree[slot.parent];
+                Object childObject = slot.member.getField(containingObject);
+                if(childObject == null) {
+                    childObject = slot.type.newInstance();
+                    slot.member.setField(containingObject, childObject);
+                }
+                beanTree[i] = childObject;
+            }
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
             CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
                     ResourceBundle.getBundle(
@@ -220,20 +317,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             throw csve;
         }
 
-        return instanceMap;
-    }
-
-    private static void createSubordinateBeans(RecursiveType typeTree, Map<Class<?>, Object> instanceMap, Object containingObject)
-            throws InstantiationException, IllegalAccessException, InvocationTargetException {
-        for(Map.Entry<FieldAccess<Object>, RecursiveType> entry : typeTree.getRecursiveMembers().entrySet()) {
-            Object childObject = entry.getKey().getField(containingObject);
-            if(childObject == null) {
-                childObject = entry.getValue().type.newInstance();
-                entry.getKey().setField(containingObject, childObject);
-            }
-            instanceMap.put(entry.getValue().getType(), childObject);
-            createSubordinateBeans(entry.getValue(), instanceMap, childObject);
-        }
+        return beanTree;
     }
 
     /**
@@ -247,28 +331,116 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @throws InvocationTargetException If there are problems accessing a
      * subordinate bean
      * @since 5.0
+     * @deprecated Beans are now indexed through {@link #indexBeanTree(Object)}.
+     *   If this method is overridden, {@link #transmuteBean(Object)} still
+     *   calls it, but must map the beans of every bean written by type.
      */
+    @Deprecated
     protected Map<Class<?>, Object> indexBean(T bean)
             throws IllegalAccessException, InvocationTargetException {
+        return mapBeanTree(indexBeanTree(bean));
+    }
+
+    /**
+     * Finds the subordinate beans of an existing bean, as
+     * {@link #createBeanTree()} would have created them.
+     *
+     * @param bean The root bean to be indexed
+     * @return The beans, indexed by the slot of their type. A subordinate
+     *   bean that is {@code null} leaves its slot and the slots of all beans
+     *   it would contain {@code null}.
+     * @throws IllegalAccessException If there are problems accessing a
+     * subordinate bean
+     * @throws InvocationTargetException If there are problems accessing a
+     * subordinate bean
+     * @since 5.5
+     */
+    protected Object[] indexBeanTree(T bean)
+            throws IllegalAccessException, InvocationTargetException {
+        Object[] beanTree = new Object[beanSlots.length];
+        beanTree[0] = bean;
+        for(int i = 1; i < beanSlots.length; i++) {
+            BeanSlot slot = beanSlots[i];
+            Object containingObject = beanTree[slot.parent];
+            beanTree[i] = containingObject == null ? null : slot.member.getField(containingObject);
+        }
+        return beanTree;
+    }
+
+    private Map<Class<?>, Object> mapBeanTree(Object[] beanTree) {
         Map<Class<?>, Object> instanceMap = new HashMap<>();
-        instanceMap.put(type, bean);
-        indexSubordinateBeans(recursiveTypeTree, instanceMap, bean);
+        for(int i = 0; i < beanSlots.length; i++) {
+            instanceMap.put(beanSlots[i].type, beanTree[i]);
+        }
         return instanceMap;
     }
 
-    private static void indexSubordinateBeans(RecursiveType typeTree, Map<Class<?>, Object> instanceMap, Object containingObject)
-            throws IllegalAccessException, InvocationTargetException {
-        for(Map.Entry<FieldAccess<Object>, RecursiveType> entry : typeTree.getRecursiveMembers().entrySet()) {
-            Object childObject;
-            if(containingObject == null) {
-                childObject = null;
+    /**
+     * Determines whether a strategy class or one of its superclasses below
+     * this one declares a method.
+     *
+     * @param type The class of the strategy
+     * @param name The name of the method
+     * @param parameterTypes The parameter types of the method
+     * @return Whether the method is overridden
+     */
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        for(Class<?> c = type; c != null && c != AbstractMappingStrategy.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
             }
-            else {
-                childObject = entry.getKey().getField(containingObject);
+            catch(NoSuchMethodException e) {
+                // Look further up
             }
-            instanceMap.put(entry.getValue().getType(), childObject);
-            indexSubordinateBeans(entry.getValue(), instanceMap, childObject);
         }
+        return false;
+    }
+
+    private Object[] unmapBeanTree(Map<Class<?>, Object> instanceMap) {
+        Object[] beanTree = new Object[beanSlots.length];
+        for(int i = 0; i < beanSlots.length; i++) {
+            beanTree[i] = instanceMap.get(beanSlots[i].type);
+        }
+        return beanTree;
+    }
+
+    /**
+     * Numbers the types of the tree in the order their beans are created,
+     * the root type first and every type after the type containing it.
+     *
+     * @param typeTree The tree of types found through recursion
+     */
+    private void assignBeanSlots(RecursiveType typeTree) {
+        List<BeanSlot> slots = new ArrayList<>();
+        slots.add(new BeanSlot(typeTree.getType(), -1, null));
+        addBeanSlots(typeTree, 0, slots);
+        beanSlots = slots.toArray(new BeanSlot[0]);
+        slotsByType = new HashMap<>();
+        for(int i = 0; i < beanSlots.length; i++) {
+            slotsByType.put(beanSlots[i].type, i);
+        }
+    }
+
+    private static void addBeanSlots(RecursiveType typeTree, int parent, List<BeanSlot> slots) {
+        for(Map.Entry<FieldAccess<Object>, RecursiveType> entry : typeTree.getRecursiveMembers().entrySet()) {
+            int slot = slots.size();
+            slots.add(new BeanSlot(entry.getValue().getType(), parent, entry.getKey()));
+            addBeanSlots(entry.getValue(), slot, slots);
+        }
+    }
+
+    /**
+     * @param beanType The type a bean field belongs to
+     * @return The slot of the bean of that type in the bean tree, or -1 if
+     *   the type is not part of the tree
+     */
+    private int findBeanSlot(Class<?> beanType) {
+        if(beanSlots.length == 1) {
+            return beanType == type ? 0 : -1;
+        }
+        Integer slot = slotsByType.get(beanType);
+        return slot == null ? -1 : slot;
     }
 
     /**
@@ -302,6 +474,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         if(headerIndex.isEmpty()) {
             String[] header = getFieldMap().generateHeader(bean);
             headerIndex.initializeHeaderIndex(header);
+            invalidateColumnBindings();
             return header;
         }
 
@@ -336,12 +509,18 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
             CsvChainedException {
         verifyLineLength(line.length);
-        Map<Class<?>, Object> beanTree = createBean();
+        Object[] beanTree = legacyReading ? null : createBeanTree();
+        Map<Class<?>, Object> instanceMap = legacyReading ? createBean() : null;
 
         CsvChainedException chainedException = null;
         for (int col = 0; col < line.length; col++) {
             try {
-                setFieldValue(beanTree, line[col], col);
+                if(legacyReading) {
+                    setFieldValue(instanceMap, line[col], col);
+                }
+                else {
+                    setFieldValue(beanTree, line[col], col);
+                }
             } catch (CsvFieldAssignmentException e) {
                 if(chainedException != null) {
                     chainedException.add(e);
@@ -357,7 +536,7 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             }
             throw chainedException;
         }
-        return (T)beanTree.get(type);
+        return (T)(legacyReading ? instanceMap.get(type) : beanTree[0]);
     }
 
     /**
@@ -444,10 +623,27 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     protected void loadFieldMap() throws CsvBadConverterException {
 
         // Setup
+        invalidateColumnBindings();
         initializeFieldMap();
 
+        // Take the field map from the cache if it has been loaded before
+        List<Object> cacheKey = isFieldMapShareable() && getFieldMap() instanceof AbstractFieldMap
+                ? Arrays.asList(getClass(), profile, errorLocale) : null;
+        @SuppressWarnings("unchecked")
+        LoadedFieldMap<I, K, T> loaded = cacheKey == null ? null : (LoadedFieldMap<I, K, T>) MappingMetadataCache.get(type, cacheKey);
+        fieldMapShared = loaded != null;
+        if(loaded != null) {
+            recursiveTypeTree = loaded.recursiveTypeTree;
+            beanSlots = loaded.beanSlots;
+            slotsByType = loaded.slotsByType;
+            loaded.simpleFields.forEach(getFieldMap()::put);
+            loaded.complexFields.forEach(e -> getFieldMap().putComplex(e.getKey(), e.getValue()));
+            return;
+        }
+
         // Deal with embedded classes through recursion
         recursiveTypeTree = loadRecursiveClasses(this.type, new HashSet<>());
+        assignBeanSlots(recursiveTypeTree);
 
         // Populate the field map according to annotations or not
         Map<Boolean, ListValuedMap<Class<?>, Field>> partitionedFields = partitionFields();
@@ -457,6 +653,59 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         else {
             loadUnadornedFieldMap(partitionedFields.get(Boolean.FALSE));
         }
+
+        // Instances of classes the user supplied may keep state, so a field
+        // map that holds any is never shared.
+        fieldMapShared = cacheKey != null
+                && partitionedFields.values().stream().noneMatch(fields -> bindsUserClasses(fields.values()));
+        if(fieldMapShared) {
+            MappingMetadataCache.put(type, cacheKey, new LoadedFieldMap<>(
+                    recursiveTypeTree, beanSlots, slotsByType,
+                    (AbstractFieldMap<I, K, ? extends C, T>) getFieldMap()));
+        }
+    }
+
+    /**
+     * Determines whether the field map this strategy loads for its type
+     * depends on nothing but the class of the strategy, the type, the
+     * profile and the error locale. If so, the field map is loaded only once
+     * and its bean fields are shared with all later strategies of the same
+     * class for the same type through {@link MappingMetadataCache}.
+     * <p>Field maps holding instances of classes named in annotations, such
+     * as custom bean fields, converters, processors and validators, are
+     * never shared, whatever this method returns.</p>
+     * <p>This implementation allows sharing unless fields are ignored.
+     * Subclasses that allow it must call this implementation and must not be
+     * subclassed themselves without their consent, for a subclass may load
+     * its field map differently.</p>
+     *
+     * @return Whether the field map may be shared
+     * @since 5.5
+     */
+    protected boolean isFieldMapShareable() {
+        return ignoredFields.isEmpty();
+    }
+
+    /**
+     * Determines whether binding any of the given fields creates an instance
+     * of a class named in an annotation: a custom bean field, a converter for
+     * splitting or joining, a processor or a validator.
+     *
+     * @param fields The fields of the bean type and the beans it recurses
+     *               into
+     * @return Whether the bean fields for these fields hold instances of
+     *   classes the user supplied
+     */
+    private static boolean bindsUserClasses(Collection<Field> fields) {
+        return fields.stream().anyMatch(f ->
+                f.getAnnotationsByType(CsvCustomBindByName.class).length > 0
+                || f.getAnnotationsByType(CsvCustomBindByPosition.class).length > 0
+                || f.getAnnotationsByType(PreAssignmentProcessor.class).length > 0
+                || f.getAnnotationsByType(PreAssignmentValidator.class).length > 0
+                || Arrays.stream(f.getAnnotationsByType(CsvBindAndSplitByName.class)).anyMatch(a -> a.converter() != AbstractCsvConverter.class)
+                || Arrays.stream(f.getAnnotationsByType(CsvBindAndSplitByPosition.class)).anyMatch(a -> a.converter() != AbstractCsvConverter.class)
+                || Arrays.stream(f.getAnnotationsByType(CsvBindAndJoinByName.class)).anyMatch(a -> a.converter() != AbstractCsvConverter.class)
+                || Arrays.stream(f.getAnnotationsByType(CsvBindAndJoinByPosition.class)).anyMatch(a -> a.converter() != AbstractCsvConverter.class));
     }
 
     /**
@@ -601,17 +850,30 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
 
     @Override
     public void setErrorLocale(Locale errorLocale) {
+        Locale previousLocale = this.errorLocale;
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
 
         // It's very possible that setType() was called first, which creates all
         // of the BeanFields, so we need to go back through the list and correct
         // them all.
-        if(getFieldMap() != null) {
+        // Shared bean fields must not be changed, so the field map for the
+        // new locale is loaded or taken from the cache instead.
+        if(fieldMapShared) {
+            if(!this.errorLocale.equals(previousLocale)) {
+                loadFieldMap();
+            }
+        }
+        else if(getFieldMap() != null) {
             getFieldMap().setErrorLocale(this.errorLocale);
             getFieldMap().values().forEach(f -> f.setErrorLocale(this.errorLocale));
         }
     }
 
+    @Override
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
     /**
      * Sets data columns number must equal with header columns number.
      *
@@ -643,28 +905,119 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
      * @throws CsvValidationException If a user-supplied validator determines
      * that the input is invalid
      * @since 4.2
+     * @deprecated Values are now assigned through
+     *   {@link #setFieldValue(Object[], String, int)}. If this method is
+     *   overridden, {@link #populateNewBean(String[])} still calls it, but
+     *   must map the beans of every line by type.
      */
+    @Deprecated
     protected void setFieldValue(Map<Class<?>, Object> beanTree, String value, int column)
             throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
             CsvConstraintViolationException, CsvValidationException {
-        BeanField<T, K> beanField = findField(column);
+        setFieldValue(unmapBeanTree(beanTree), value, column);
+    }
+
+    /**
+     * Populates the field corresponding to the column position indicated of the
+     * bean passed in according to the rules of the mapping strategy.
+     * This method performs conversion on the input string and assigns the
+     * result to the proper field in the provided bean.
+     *
+     * @param beanTree The beans created by {@link #createBeanTree()}, one of
+     *   which contains the field to be set
+     * @param value String containing the value to set the field to.
+     * @param column The column position from the CSV file under which this
+     *   value was found.
+     * @throws CsvDataTypeMismatchException    When the result of data conversion returns
+     *                                         an object that cannot be assigned to the selected field
+     * @throws CsvRequiredFieldEmptyException  When a field is mandatory, but there is no
+     *                                         input datum in the CSV file
+     * @throws CsvConstraintViolationException When the internal structure of
+     *                                         data would be violated by the data in the CSV file
+     * @throws CsvValidationException If a user-supplied validator determines
+     * that the input is invalid
+     * @since 5.5
+     */
+    protected void setFieldValue(Object[] beanTree, String value, int column)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
+            CsvConstraintViolationException, CsvValidationException {
+        ColumnBindings<T, K> bindings = getColumnBindings(column + 1);
+        BeanField<T, K> beanField = bindings.fields[column];
         if (beanField != null) {
-            Object subordinateBean = beanTree.get(beanField.getType());
-            beanField.setFieldValue(subordinateBean, value, findHeader(column));
+            int slot = bindings.beanSlots[column];
+            Object subordinateBean = slot < 0 ? null : beanTree[slot];
+            if (metricsListener == null) {
+                beanField.setFieldValue(subordinateBean, value, bindings.headers[column]);
+            } else {
+                final long start = System.nanoTime();
+                beanField.setFieldValue(subordinateBean, value, bindings.headers[column]);
+                metricsListener.fieldRead(beanField, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * @param minimumColumns The number of columns that must be covered
+     * @return The current column bindings, determined anew if they have been
+     *   discarded or do not cover enough columns
+     */
+    private ColumnBindings<T, K> getColumnBindings(int minimumColumns) {
+        ColumnBindings<T, K> bindings = columnBindings;
+        if(bindings == null || minimumColumns > bindings.fields.length) {
+            bindings = bindColumns(minimumColumns);
+        }
+        return bindings;
+    }
+
+    /**
+     * Determines the bean field, header and multivalued index of every
+     * column at once, so neither {@link #setFieldValue(Object[], String, int)}
+     * nor {@link #transmuteBean(Object)} need look them up for every value.
+     * The bindings cover all columns of the header, and at least as many
+     * columns as requested.
+     *
+     * @param minimumColumns The number of columns that must be covered
+     * @return The new bindings, which are also kept for the next values
+     */
+    private ColumnBindings<T, K> bindColumns(int minimumColumns) {
+        int numberOfColumns = Math.max(minimumColumns, headerIndex.getHeaderIndexLength());
+        ColumnBindings<T, K> bindings = new ColumnBindings<>(numberOfColumns);
+        for(int col = 0; col < numberOfColumns; col++) {
+            BeanField<T, K> beanField = findField(col);
+            bindings.fields[col] = beanField;
+            bindings.headers[col] = findHeader(col);
+            bindings.indexes[col] = chooseMultivaluedFieldIndexFromHeaderIndex(col);
+            bindings.beanSlots[col] = beanField == null ? -1 : findBeanSlot(beanField.getType());
         }
+        columnBindings = bindings;
+        return bindings;
+    }
+
+    /**
+     * Discards the bean field, header and index determined for every column.
+     * This must be called whenever {@link #findField(int)} or
+     * {@link #findHeader(int)} might return something different than before,
+     * that is, when the header or the field map changes. They are determined
+     * again when the next value is assigned.
+     *
+     * @since 5.5
+     */
+    protected void invalidateColumnBindings() {
+        columnBindings = null;
     }
 
     @Override
     public String[] transmuteBean(T bean) throws CsvFieldAssignmentException, CsvChainedException {
         int numColumns = headerIndex.findMaxIndex()+1;
-        BeanField<T, K> firstBeanField, subsequentBeanField;
-        K firstIndex, subsequentIndex;
+        ColumnBindings<T, K> bindings = getColumnBindings(numColumns);
+        BeanField<T, K> firstBeanField;
+        K firstIndex;
         List<String> contents = new ArrayList<>(Math.max(numColumns, 0));
 
-        // Create a map of types to instances of subordinate beans
-        Map<Class<?>, Object> instanceMap;
+        // Find the instances of subordinate beans
+        Object[] beanTree;
         try {
-            instanceMap = indexBean(bean);
+            beanTree = legacyIndexing ? unmapBeanTree(indexBean(bean)) : indexBeanTree(bean);
         }
         catch(IllegalAccessException | InvocationTargetException e) {
             // Our testing indicates these exceptions probably can't be thrown,
@@ -682,12 +1035,21 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         for(int i = 0; i < numColumns;) {
 
             // Determine the first value
-            firstBeanField = findField(i);
-            firstIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+            firstBeanField = bindings.fields[i];
+            firstIndex = bindings.getIndex(i);
             String[] fields = ArrayUtils.EMPTY_STRING_ARRAY;
             if(firstBeanField != null) {
                 try {
-                    fields = firstBeanField.write(instanceMap.get(firstBeanField.getType()), firstIndex);
+                    int slot = bindings.beanSlots[i];
+                    Object subordinateBean = slot < 0 ? null : beanTree[slot];
+                    if(metricsListener == null) {
+                        fields = firstBeanField.write(subordinateBean, firstIndex);
+                    }
+                    else {
+                        final long start = System.nanoTime();
+                        fields = firstBeanField.write(subordinateBean, firstIndex);
+                        metricsListener.fieldWritten(firstBeanField, System.nanoTime() - start);
+                    }
                 }
                 catch(CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
                     if(chainedException != null) {
@@ -715,35 +1077,23 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
                 // than we have columns of the correct type to cover them.
                 int j = 1;
                 int displacedIndex = i+j;
-                subsequentBeanField = findField(displacedIndex);
-                subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
                 while(j < fields.length
                         && displacedIndex < numColumns
-                        && Objects.equals(firstBeanField, subsequentBeanField)
-                        && Objects.equals(firstIndex, subsequentIndex)) {
+                        && bindings.isSameField(displacedIndex, firstBeanField, firstIndex)) {
                     // This field still has a header, so add it
                     contents.add(StringUtils.defaultString(fields[j]));
 
                     // Prepare for the next loop through
                     displacedIndex = i + (++j);
-                    subsequentBeanField = findField(displacedIndex);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
                 }
 
                 i = displacedIndex; // Advance the index
 
                 // And here's where we fill in any fields that are missing to
                 // cover the number of columns of the same type
-                if(i < numColumns) {
-                    subsequentBeanField = findField(i);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
-                    while(Objects.equals(firstBeanField, subsequentBeanField)
-                            && Objects.equals(firstIndex, subsequentIndex)
-                            && i < numColumns) {
-                        contents.add(StringUtils.EMPTY);
-                        subsequentBeanField = findField(++i);
-                        subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
-                    }
+                while(i < numColumns && bindings.isSameField(i, firstBeanField, firstIndex)) {
+                    contents.add(StringUtils.EMPTY);
+                    i++;
                 }
             }
         }
@@ -889,6 +1239,104 @@ public abstract class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         return defaultAnnotation;
     }
 
+    /**
+     * The bean field, header, multivalued index and bean slot bound to every
+     * column, indexed by column position. Never changed once built.
+     *
+     * @param <T> The type of the bean
+     * @param <K> The type of the index of multivalued fields
+     */
+    private static class ColumnBindings<T, K> {
+        private final BeanField<T, K>[] fields;
+        private final String[] headers;
+
+        /**
+         * The multivalued index of every column. Elements are of type
+         * {@code K}, but an array of a type variable cannot be created.
+         */
+        private final Object[] indexes;
+
+        /**
+         * The index in the bean tree of the bean each field belongs to, or
+         * -1 if there is none.
+         */
+        private final int[] beanSlots;
+
+        /**
+         * @param column The column position
+         * @param beanField A bean field
+         * @param index A multivalued index
+         * @return Whether the column is bound to the same field and index
+         */
+        boolean isSameField(int column, BeanField<T, K> beanField, K index) {
+            return Objects.equals(fields[column], beanField)
+                    && Objects.equals(indexes[column], index);
+        }
+
+        /**
+         * @param column The column position
+         * @return The multivalued index of the column
+         */
+        @SuppressWarnings("unchecked")
+        K getIndex(int column) {
+            return (K) indexes[column];
+        }
+
+        @SuppressWarnings("unchecked")
+        ColumnBindings(int numberOfColumns) {
+            fields = (BeanField<T, K>[]) new BeanField<?, ?>[numberOfColumns];
+            headers = new String[numberOfColumns];
+            indexes = new Object[numberOfColumns];
+            beanSlots = new int[numberOfColumns];
+        }
+    }
+
+    /**
+     * A type of the bean tree, with the way to reach its bean from the bean
+     * that contains it.
+     */
+    private static class BeanSlot {
+        private final Class<?> type;
+
+        /** The slot of the containing bean, or -1 for the root bean. */
+        private final int parent;
+
+        /**
+         * The member variable of the containing bean that holds this bean,
+         * or {@code null} for the root bean.
+         */
+        private final FieldAccess<Object> member;
+
+        BeanSlot(Class<?> type, int parent, FieldAccess<Object> member) {
+            this.type = type;
+            this.parent = parent;
+            this.member = member;
+        }
+    }
+
+    /**
+     * Everything {@link #loadFieldMap()} finds for a type that can be shared
+     * with other strategies. None of it is changed after loading.
+     */
+    private static class LoadedFieldMap<I, K extends Comparable<K>, T> {
+        private final RecursiveType recursiveTypeTree;
+        private final BeanSlot[] beanSlots;
+        private final Map<Class<?>, Integer> slotsByType;
+        private final Map<K, BeanField<T, K>> simpleFields;
+        private final List<Map.Entry<I, BeanField<T, K>>> complexFields = new ArrayList<>();
+
+        LoadedFieldMap(RecursiveType recursiveTypeTree, BeanSlot[] beanSlots,
+                       Map<Class<?>, Integer> slotsByType,
+                       AbstractFieldMap<I, K, ? extends ComplexFieldMapEntry<I, K, T>, T> fieldMap) {
+            this.recursiveTypeTree = recursiveTypeTree;
+            this.beanSlots = beanSlots;
+            this.slotsByType = slotsByType;
+            simpleFields = new LinkedHashMap<>(fieldMap.simpleMap);
+            fieldMap.complexMapList.forEach(c -> complexFields.add(
+                    new AbstractMap.SimpleImmutableEntry<>(c.getInitializer(), c.getBeanField())));
+        }
+    }
+
     /**
      * Encapsulates a bean type and all of the member variables that need to be
      * recursed into.
@@ -23,6 +23,7 @@ import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.regex.Matcher;
@@ -101,6 +102,20 @@ public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
         throw new CsvBadConverterException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("no.converter.specified"));
     }
     
+    /**
+     * Lets the converter assign primitive values directly if it is
+     * {@link ConverterPrimitiveTypes}, nothing changes the input before
+     * conversion, and no subclass may have changed how values are assigned.
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    boolean assignPrimitive(Object bean, String value)
+            throws CsvDataTypeMismatchException, IllegalAccessException, InvocationTargetException {
+        return capture == null && getClass() == BeanFieldSingleValue.class
+                && converter instanceof ConverterPrimitiveTypes
+                && ((ConverterPrimitiveTypes) converter).assignWithoutBoxing(fieldAccess, bean, value);
+    }
+
     /**
      * Passes the object to be converted to the converter.
      * @throws CsvBadConverterException If the converter is null
@@ -82,6 +82,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
                 }
             }
         }
+        invalidateColumnBindings();
     }
 
     /**
@@ -120,6 +121,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
 
         // Create the mapping for input column index to output column index.
         Arrays.sort(columnIndexForWriting, writeOrder);
+        invalidateColumnBindings();
         return ArrayUtils.EMPTY_STRING_ARRAY;
     }
 
@@ -157,6 +159,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
             headerIndex.clear();
         }
         columnsExplicitlySet = true;
+        invalidateColumnBindings();
         if(getType() != null) {
             loadFieldMap(); // In case setType() was called first.
         }
@@ -334,6 +337,18 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
                 CsvBindAndSplitByPosition.class));
     }
 
+    /**
+     * Allows sharing the field map unless this is a subclass or the field
+     * map depends on column names.
+     */
+    // The rest of the Javadoc is inherited.
+    @Override
+    protected boolean isFieldMapShareable() {
+        return getClass() == ColumnPositionMappingStrategy.class
+                && !columnsExplicitlySet && headerIndex.isEmpty()
+                && super.isFieldMapShareable();
+    }
+
     @Override
     protected void initializeFieldMap() {
         fieldMap = new FieldMapByPosition<>(errorLocale);
@@ -67,17 +67,16 @@ public class ConverterDate extends AbstractCsvConverter {
 
     /**
      * The formatter for all inputs to old-style date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * {@link SimpleDateFormat} is not thread-safe, so every thread has its
+     * own.
      */
-    private final SimpleDateFormat readSdf;
+    private final ThreadLocal<SimpleDateFormat> readSdf;
 
     /**
-     * The formatter for all outputs from old-style date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * The formatter for all outputs from old-style date representations, one
+     * per thread.
      */
-    private final SimpleDateFormat writeSdf;
+    private final ThreadLocal<SimpleDateFormat> writeSdf;
 
     /**
      * The formatter for all inputs to
@@ -243,11 +242,12 @@ public class ConverterDate extends AbstractCsvConverter {
         }
     }
 
-    private SimpleDateFormat setDateFormat(String format, Locale formatLocale) {
-        if (formatLocale != null) {
-            return new SimpleDateFormat(format, formatLocale);
-        }
-        return new SimpleDateFormat(format);
+    private ThreadLocal<SimpleDateFormat> setDateFormat(String format, Locale formatLocale) {
+        // Creating the first formatter here checks the format string
+        SimpleDateFormat prototype = formatLocale != null
+                ? new SimpleDateFormat(format, formatLocale)
+                : new SimpleDateFormat(format);
+        return ThreadLocal.withInitial(() -> (SimpleDateFormat) prototype.clone());
     }
 
     private DateTimeFormatter setDateTimeFormatter(String format, Locale formatLocale) {
@@ -282,9 +282,7 @@ public class ConverterDate extends AbstractCsvConverter {
             if (Date.class.isAssignableFrom(type)) {
                 Date d;
                 try {
-                    synchronized (readSdf) {
-                        d = readSdf.parse(value);
-                    }
+                    d = readSdf.get().parse(value);
 
                     returnValue = type.getConstructor(Long.TYPE).newInstance(d.getTime());
                 }
@@ -315,9 +313,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 // Parse input
                 Date d;
                 try {
-                    synchronized (readSdf) {
-                        d = readSdf.parse(value);
-                    }
+                    d = readSdf.get().parse(value);
                 } catch (ParseException e) {
                     CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, type);
                     csve.initCause(e);
@@ -378,9 +374,7 @@ public class ConverterDate extends AbstractCsvConverter {
 
             // For Date-based conversions
             if (Date.class.isAssignableFrom(type)) {
-                synchronized (writeSdf) {
-                    returnValue = writeSdf.format((Date) value);
-                }
+                returnValue = writeSdf.get().format((Date) value);
                 // For TemporalAccessor-based conversions
             } else if (TemporalAccessor.class.isAssignableFrom(type)) {
                 try {
@@ -399,9 +393,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 } else {
                     c = (Calendar) value;
                 }
-                synchronized (writeSdf) {
-                    returnValue = writeSdf.format(c.getTime());
-                }
+                returnValue = writeSdf.get().format(c.getTime());
             } else {
                 throw new CsvDataTypeMismatchException(value, type, String.format(
                         ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(CSVDATE_NOT_DATE), type));
@@ -40,7 +40,12 @@ import java.util.function.UnaryOperator;
  */
 public class ConverterNumber extends AbstractCsvConverter {
 
-    private final DecimalFormat readFormatter, writeFormatter;
+    /**
+     * The formatters for reading and writing. {@link DecimalFormat} is not
+     * thread-safe, so every thread converting with this converter gets its
+     * own copy of the formatter configured in the constructor.
+     */
+    private final ThreadLocal<DecimalFormat> readFormatter, writeFormatter;
     private final UnaryOperator<Number> readConversionFunction;
 
     /**
@@ -74,13 +79,14 @@ public class ConverterNumber extends AbstractCsvConverter {
         }
 
         // Set up the read formatter
-        readFormatter = createDecimalFormat(readFormat, this.locale);
+        DecimalFormat readPrototype = createDecimalFormat(readFormat, this.locale);
 
         // Account for BigDecimal and BigInteger, which require special
         // processing
         if(this.type == BigInteger.class || this.type == BigDecimal.class) {
-            readFormatter.setParseBigDecimal(true);
+            readPrototype.setParseBigDecimal(true);
         }
+        readFormatter = copiesPerThread(readPrototype);
 
         // Save the read conversion function for later
         if(this.type == Byte.class || this.type == Byte.TYPE) {
@@ -113,7 +119,11 @@ public class ConverterNumber extends AbstractCsvConverter {
         }
 
         // Set up the write formatter
-        writeFormatter = createDecimalFormat(writeFormat, this.writeLocale);
+        writeFormatter = copiesPerThread(createDecimalFormat(writeFormat, this.writeLocale));
+    }
+
+    private static ThreadLocal<DecimalFormat> copiesPerThread(DecimalFormat prototype) {
+        return ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
     }
 
     private DecimalFormat createDecimalFormat(String format, Locale locale) {
@@ -149,10 +159,9 @@ public class ConverterNumber extends AbstractCsvConverter {
     public Object convertToRead(String value) throws CsvDataTypeMismatchException {
         Number n = null;
         if(StringUtils.isNotEmpty(value)) {
+            DecimalFormat formatter = readFormatter.get();
             try {
-                synchronized (readFormatter) {
-                    n = readFormatter.parse(value);
-                }
+                n = formatter.parse(value);
             }
             catch(ParseException e) {
                 CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
@@ -160,7 +169,7 @@ public class ConverterNumber extends AbstractCsvConverter {
                         String.format(ResourceBundle.getBundle(
                                 ICSVParser.DEFAULT_BUNDLE_NAME,
                                 errorLocale)
-                                .getString("unparsable.number"), value, readFormatter.toPattern()));
+                                .getString("unparsable.number"), value, formatter.toPattern()));
                 csve.initCause(e);
                 throw csve;
             }
@@ -177,8 +186,6 @@ public class ConverterNumber extends AbstractCsvConverter {
     // The rest of the Javadoc is inherited.
     @Override
     public String convertToWrite(Object value) {
-        synchronized (writeFormatter) {
-            return value != null ? writeFormatter.format(value) : null;
-        }
+        return value != null ? writeFormatter.get().format(value) : null;
     }
 }
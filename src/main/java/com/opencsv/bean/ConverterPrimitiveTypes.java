@@ -20,10 +20,18 @@ import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.ConvertUtilsBean;
 import org.apache.commons.beanutils.locale.LocaleConvertUtilsBean;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * This class wraps fields from the reflection API in order to handle
@@ -40,7 +48,8 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * <p>Either this or {@link #readLocaleConverter} should be used, and the
      * other should always be {@code null}.</p>
      * <p><em>It is absolutely critical that access to this member variable is
-     * always synchronized!</em></p>
+     * always synchronized!</em> It is not used for the types covered by
+     * {@link #readFunction}.</p>
      */
     protected final ConvertUtilsBean readConverter;
 
@@ -60,7 +69,8 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * <p>Either this or {@link #writeLocaleConverter} should be used, and the
      * other should always be {@code null}.</p>
      * <p><em>It is absolutely critical that access to this member variable is
-     * always synchronized!</em></p>
+     * always synchronized!</em> It is not used for values that can simply be
+     * written with {@link Object#toString()}.</p>
      */
     protected final ConvertUtilsBean writeConverter;
 
@@ -74,6 +84,34 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      */
     protected final LocaleConvertUtilsBean writeLocaleConverter;
 
+    /** The strings {@link #readConverter} takes for true. */
+    private static final Set<String> TRUE_STRINGS = new HashSet<>(Arrays.asList("true", "yes", "y", "on", "1"));
+
+    /** The strings {@link #readConverter} takes for false. */
+    private static final Set<String> FALSE_STRINGS = new HashSet<>(Arrays.asList("false", "no", "n", "off", "0"));
+
+    /**
+     * Converts inputs without a lock when no locale is required. This covers
+     * all types {@link #readConverter} would handle: {@link String}, for
+     * which it does nothing, the numeric types, for which it does nothing
+     * more than trim the input and call the constructor of the type, and
+     * booleans and characters.
+     */
+    private final Function<String, Object> readFunction;
+
+    /**
+     * Converts inputs for a primitive field and assigns them without boxing
+     * when no locale is required, otherwise {@code null}.
+     */
+    private final PrimitiveAssignment primitiveAssignment;
+
+    /**
+     * Whether values can be written with {@link Object#toString()} instead of
+     * {@link #writeConverter}, which is what the converter would do for this
+     * type anyway.
+     */
+    private final boolean writeWithToString;
+
     /**
      * @param type    The class of the type of the data being processed
      * @param locale   If not null or empty, specifies the locale used for
@@ -104,6 +142,148 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
             writeLocaleConverter.setDefaultLocale(this.writeLocale);
             writeConverter = null;
         }
+        readFunction = this.locale == null ? determineReadFunction(ClassUtils.primitiveToWrapper(type)) : null;
+        primitiveAssignment = this.locale == null ? determinePrimitiveAssignment(type) : null;
+        writeWithToString = this.writeLocale == null && (type == String.class
+                || type == Boolean.class || type == Boolean.TYPE
+                || type == Character.class || type == Character.TYPE
+                || determineReadFunction(ClassUtils.primitiveToWrapper(type)) != null);
+    }
+
+    private static Function<String, Object> determineReadFunction(Class<?> type) {
+        if(type == String.class) {
+            return s -> s;
+        }
+        if(type == Integer.class) {
+            return s -> Integer.valueOf(s.trim());
+        }
+        if(type == Long.class) {
+            return s -> Long.valueOf(s.trim());
+        }
+        if(type == Double.class) {
+            return s -> Double.valueOf(s.trim());
+        }
+        if(type == Float.class) {
+            return s -> Float.valueOf(s.trim());
+        }
+        if(type == Short.class) {
+            return s -> Short.valueOf(s.trim());
+        }
+        if(type == Byte.class) {
+            return s -> Byte.valueOf(s.trim());
+        }
+        if(type == BigDecimal.class) {
+            return s -> new BigDecimal(s.trim());
+        }
+        if(type == BigInteger.class) {
+            return s -> new BigInteger(s.trim());
+        }
+        if(type == Boolean.class) {
+            return ConverterPrimitiveTypes::parseBoolean;
+        }
+        if(type == Character.class) {
+            return s -> s.charAt(0);
+        }
+        return null;
+    }
+
+    /**
+     * Assigns an input to a primitive field, once converted.
+     */
+    @FunctionalInterface
+    private interface PrimitiveAssignment {
+        void assign(FieldAccess<?> fieldAccess, Object bean, String value)
+                throws IllegalAccessException, InvocationTargetException;
+    }
+
+    private static PrimitiveAssignment determinePrimitiveAssignment(Class<?> type) {
+        if(type == Integer.TYPE) {
+            return (f, bean, s) -> f.setInt(bean, Integer.parseInt(s.trim()));
+        }
+        if(type == Long.TYPE) {
+            return (f, bean, s) -> f.setLong(bean, Long.parseLong(s.trim()));
+        }
+        if(type == Double.TYPE) {
+            return (f, bean, s) -> f.setDouble(bean, Double.parseDouble(s.trim()));
+        }
+        if(type == Float.TYPE) {
+            return (f, bean, s) -> f.setFloat(bean, Float.parseFloat(s.trim()));
+        }
+        if(type == Short.TYPE) {
+            return (f, bean, s) -> f.setShort(bean, Short.parseShort(s.trim()));
+        }
+        if(type == Byte.TYPE) {
+            return (f, bean, s) -> f.setByte(bean, Byte.parseByte(s.trim()));
+        }
+        if(type == Boolean.TYPE) {
+            return (f, bean, s) -> f.setBoolean(bean, parseBoolean(s));
+        }
+        if(type == Character.TYPE) {
+            return (f, bean, s) -> f.setChar(bean, s.charAt(0));
+        }
+        return null;
+    }
+
+    /**
+     * Converts a string to a boolean as {@link #readConverter} does.
+     *
+     * @param value The string
+     * @return The boolean
+     * @throws ConversionException If the string does not stand for a boolean
+     */
+    static Boolean parseBoolean(String value) {
+        String s = value.toLowerCase();
+        if(TRUE_STRINGS.contains(s)) {
+            return Boolean.TRUE;
+        }
+        if(FALSE_STRINGS.contains(s)) {
+            return Boolean.FALSE;
+        }
+        throw new ConversionException(value);
+    }
+
+    /**
+     * Converts an input for a primitive field and assigns it without boxing
+     * it, if possible. The result is the same as that of
+     * {@link #convertToRead(String)} followed by
+     * {@link FieldAccess#setField(Object, Object)}.
+     *
+     * @param fieldAccess The access to the field
+     * @param bean        The bean to assign the value to
+     * @param value       The input
+     * @return Whether the input was dealt with. If not, nothing has
+     *   happened, and the input must be converted and assigned as usual.
+     * @throws CsvDataTypeMismatchException If the input cannot be converted
+     * @throws IllegalAccessException If the field cannot be written
+     * @throws InvocationTargetException If the assignment method throws an
+     *   exception
+     */
+    boolean assignWithoutBoxing(FieldAccess<?> fieldAccess, Object bean, String value)
+            throws CsvDataTypeMismatchException, IllegalAccessException, InvocationTargetException {
+        if(primitiveAssignment == null) {
+            return false;
+        }
+
+        // An empty input leaves the field as it is
+        if(StringUtils.isNotBlank(value)) {
+            try {
+                primitiveAssignment.assign(fieldAccess, bean, value);
+            } catch (NumberFormatException e) {
+                throw conversionImpossible(value, new ConversionException(e.getMessage(), e));
+            } catch (ConversionException e) {
+                throw conversionImpossible(value, e);
+            }
+        }
+        return true;
+    }
+
+    private CsvDataTypeMismatchException conversionImpossible(String value, ConversionException e) {
+        CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
+                value, type, String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.impossible"),
+                        value, type.getCanonicalName()));
+        csve.initCause(e);
+        return csve;
     }
 
     @Override
@@ -113,7 +293,16 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
 
         if (StringUtils.isNotBlank(value) || (value != null && type.equals(String.class))) {
             try {
-                if(readConverter != null) {
+                if(readFunction != null) {
+                    try {
+                        o = readFunction.apply(value);
+                    }
+                    catch(NumberFormatException e) {
+                        // The same exception the converter would have thrown
+                        throw new ConversionException(e.getMessage(), e);
+                    }
+                }
+                else if(readConverter != null) {
                     synchronized (readConverter) {
                         o = readConverter.convert(value, type);
                     }
@@ -124,12 +313,7 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
                     }
                 }
             } catch (ConversionException e) {
-                CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
-                        value, type, String.format(
-                                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.impossible"),
-                                value, type.getCanonicalName()));
-                csve.initCause(e);
-                throw csve;
+                throw conversionImpossible(value, e);
             }
         }
         return o;
@@ -152,7 +336,10 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
         String result = null;
         if(value != null) {
             try {
-                if(writeConverter != null) {
+                if(writeWithToString) {
+                    result = value.toString();
+                }
+                else if(writeConverter != null) {
                     synchronized (writeConverter) {
                         result = writeConverter.convert(value);
                     }
@@ -17,6 +17,7 @@ package com.opencsv.bean;
  */
 
 import com.opencsv.CSVReader;
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.ICSVParser;
 import com.opencsv.bean.concurrent.CompleteFileReader;
 import com.opencsv.bean.concurrent.LineExecutor;
@@ -34,6 +35,7 @@ import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -107,6 +109,39 @@ public class CsvToBean<T> implements Iterable<T> {
      */
     private boolean ignoreEmptyLines = false;
 
+    /**
+     * The listener for counters and timings, or {@code null} if nothing is
+     * to be measured.
+     */
+    private CsvMetricsListener metricsListener = null;
+
+    /**
+     * The maximum number of records read but not yet consumed by
+     * {@link #stream()}, or zero if there is no limit.
+     */
+    private int queueCapacity = 0;
+
+    /**
+     * The number of threads converting records, or zero for one per
+     * processor. One means conversion in the consuming thread.
+     */
+    private int parallelism = 0;
+
+    /** The most records converted together in one job. */
+    private int batchSize = LineExecutor.DEFAULT_BATCH_SIZE;
+
+    /**
+     * The executor that converts records, or {@code null} if a pool of
+     * threads is started for every conversion.
+     */
+    private Executor conversionExecutor = null;
+
+    /**
+     * Whether values are created only for the columns the mapping strategy
+     * binds to bean fields.
+     */
+    private boolean readBoundColumnsOnly = false;
+
     /**
      * Default constructor.
      */
@@ -132,6 +167,13 @@ public class CsvToBean<T> implements Iterable<T> {
      * {@link #parse()} because it avoids the intermediate storage of the
      * results in a {@link java.util.List}. If you plan on further processing
      * the results as a {@link java.util.stream.Stream}, use this method.
+     * <p>The input is read and converted in the background. Unless a
+     * capacity has been set with {@link #setQueueCapacity(int)}, the input
+     * is read as fast as possible, however slowly the stream is consumed.
+     * Closing the stream stops reading and converting the input.</p>
+     * <p>If the parallelism has been set to one, the stream does the same as
+     * {@link #iterator()}, reading and converting one record at a time in
+     * the thread consuming the stream.</p>
      *
      * @return A stream of populated beans based on the input
      * @throws IllegalStateException If either MappingStrategy or CSVReader is
@@ -140,13 +182,23 @@ public class CsvToBean<T> implements Iterable<T> {
      * @see #iterator()
      */
     public Stream<T> stream() throws IllegalStateException {
+        if(parallelism == 1 && conversionExecutor == null) {
+            Iterator<T> beans = iterator();
+            executor = null;
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                    beans, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
         prepareToReadInput();
         CompleteFileReader<T> completeFileReader = new CompleteFileReader<>(
                 csvReader, filter, ignoreEmptyLines,
                 mappingStrategy, exceptionHandler, verifiers);
-        executor = new LineExecutor<T>(orderedResults, errorLocale, completeFileReader);
+        executor = new LineExecutor<T>(orderedResults, errorLocale, completeFileReader, queueCapacity);
+        executor.setMetricsListener(metricsListener);
+        executor.setParallelism(parallelism);
+        executor.setBatchSize(batchSize);
+        executor.setJobExecutor(conversionExecutor);
         executor.prepare();
-        return StreamSupport.stream(executor, false);
+        return StreamSupport.stream(executor, false).onClose(executor::shutdownNow);
     }
 
     /**
@@ -290,6 +342,120 @@ public class CsvToBean<T> implements Iterable<T> {
         this.verifiers = ObjectUtils.defaultIfNull(verifiers, Collections.<BeanVerifier<T>>emptyList());
     }
 
+    /**
+     * Sets the listener for counters and timings of the conversion.
+     * <p>The listener is also passed on to the mapping strategy, which
+     * measures every field. The {@link CSVReader} has its own listener; see
+     * {@link CSVReader#setMetricsListener(CsvMetricsListener)}.</p>
+     *
+     * @param metricsListener The listener, or {@code null} to measure nothing
+     * @since 5.5
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Limits the number of records {@link #stream()} reads ahead of the
+     * consumer of the stream.
+     * <p>Every record counts against the capacity from the time it is read
+     * until its bean is taken from the stream, or until it is discarded by a
+     * filter, a verifier or an error in conversion. Once the capacity is
+     * exhausted, reading pauses until the consumer catches up, so input of
+     * any size can be streamed through a fixed amount of memory. A stream
+     * with a capacity should be consumed completely or closed, as otherwise
+     * the thread reading the input waits forever.</p>
+     * <p>The capacity should be at least the number of processors, or
+     * conversion cannot use them all. By default there is no limit.</p>
+     *
+     * @param queueCapacity The maximum number of records read but not yet
+     *                      consumed, or zero or less for no limit
+     * @since 5.5
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(queueCapacity, 0);
+    }
+
+    /**
+     * Sets the number of threads that convert records to beans.
+     * <p>By default, every conversion starts one thread per processor. When
+     * many conversions run at once, a smaller number keeps them from
+     * competing for every processor. A parallelism of one converts without
+     * any threads at all, as {@link #iterator()} does, in the thread
+     * consuming the beans.</p>
+     * <p>This is ignored if an executor has been set with
+     * {@link #setExecutor(Executor)}.</p>
+     *
+     * @param parallelism The number of threads, or zero or less for one per
+     *                    processor
+     * @since 5.5
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 0);
+    }
+
+    /**
+     * Sets the number of consecutive records converted together in one job.
+     * <p>Converting records in batches shares the cost of handing a job to a
+     * thread, and its results back, among many records. A batch is passed on
+     * before it is full whenever no other batch is being converted, so
+     * input that arrives slowly is still converted as it comes. With a
+     * capacity set by {@link #setQueueCapacity(int)}, a batch holds at most
+     * half of it. The default is {@value LineExecutor#DEFAULT_BATCH_SIZE}.</p>
+     * <p>This has no effect on {@link #iterator()}, or with a parallelism of
+     * one.</p>
+     *
+     * @param batchSize The number of records, or one or less to convert
+     *                  every record in a job of its own
+     * @since 5.5
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Sets an executor to convert records to beans, instead of starting a
+     * pool of threads for every conversion.
+     * <p>The executor can be shared, for example a
+     * {@link java.util.concurrent.ForkJoinPool} bounding the threads of all
+     * conversions in an application, or an executor for virtual threads.
+     * It is not shut down. The input is still read in a thread of its own,
+     * as is the ordering of results, since both wait for conversions and
+     * would otherwise block the threads that should convert.</p>
+     *
+     * @param executor The executor, or {@code null} to start a pool of
+     *                 threads for every conversion
+     * @since 5.5
+     */
+    public void setExecutor(Executor executor) {
+        this.conversionExecutor = executor;
+    }
+
+    /**
+     * Determines whether values are created only for the columns the mapping
+     * strategy binds to bean fields.
+     * <p>If this is set, the columns returned by
+     * {@link MappingStrategy#getBoundColumns()} are set as the column
+     * projection of the {@link CSVReader} once the header has been read, and
+     * the parser skips creating values for all other columns. This saves
+     * time and memory for input with many columns that are not read, but
+     * the other columns are {@code null} in every line the reader returns
+     * from then on. That includes the lines of exceptions, and the lines
+     * passed to the mapping strategy. The projection stays set on the
+     * reader.</p>
+     * <p>Nothing is projected if a filter is set, because a filter sees the
+     * whole line, or if the reader already has a projection. The default is
+     * {@code false}.</p>
+     *
+     * @param readBoundColumnsOnly Whether to skip the columns not bound to
+     *                             bean fields
+     * @see CSVReader#setColumnProjection(BitSet)
+     * @since 5.5
+     */
+    public void setReadBoundColumnsOnly(boolean readBoundColumnsOnly) {
+        this.readBoundColumnsOnly = readBoundColumnsOnly;
+    }
+
     private void prepareToReadInput() throws IllegalStateException {
         // First verify that the user hasn't failed to give us the information
         // we need to do his or her work for him or her.
@@ -297,12 +463,30 @@ public class CsvToBean<T> implements Iterable<T> {
             throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("specify.strategy.reader"));
         }
 
+        if (metricsListener != null) {
+            mappingStrategy.setMetricsListener(metricsListener);
+        }
+
         // Get the header information
         try {
             mappingStrategy.captureHeader(csvReader);
         } catch (Exception e) {
             throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("header.error"), e);
         }
+
+        // Don't create values for columns no bean field will read, if asked
+        // to. A filter sees the whole line, and a projection the caller chose
+        // is kept.
+        if (readBoundColumnsOnly && filter == null && csvReader.getColumnProjection() == null) {
+            BitSet boundColumns = mappingStrategy.getBoundColumns();
+            if (boundColumns != null) {
+                if (ignoreEmptyLines) {
+                    // Empty lines are recognized by their first column
+                    boundColumns.set(0);
+                }
+                csvReader.setColumnProjection(boundColumns);
+            }
+        }
     }
 
     /**
@@ -368,7 +552,7 @@ public class CsvToBean<T> implements Iterable<T> {
                 ProcessCsvLine<T> proc = new ProcessCsvLine<>(
                         lineProcessed, mappingStrategy, filter, verifiers,
                         line, resultantBeansQueue, thrownExceptionsQueue,
-                        new TreeSet<>(), exceptionHandler);
+                        new TreeSet<>(), exceptionHandler, metricsListener);
                 proc.run();
 
                 if (!thrownExceptionsQueue.isEmpty()) {
@@ -16,6 +16,7 @@
 package com.opencsv.bean;
 
 import com.opencsv.*;
+import com.opencsv.bean.concurrent.LineExecutor;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerThrow;
 import com.opencsv.bean.util.OpencsvUtils;
@@ -32,6 +33,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
 
 /**
  * This class makes it possible to bypass all the intermediate steps and classes
@@ -164,6 +166,24 @@ public class CsvToBeanBuilder<T> {
     /** @see com.opencsv.bean.AbstractMappingStrategy#profile */
     private String profile = StringUtils.EMPTY;
 
+    /** @see com.opencsv.bean.CsvToBean#metricsListener */
+    private CsvMetricsListener metricsListener = null;
+
+    /** @see com.opencsv.bean.CsvToBean#queueCapacity */
+    private int queueCapacity = 0;
+
+    /** @see com.opencsv.bean.CsvToBean#parallelism */
+    private int parallelism = 0;
+
+    /** @see com.opencsv.bean.CsvToBean#batchSize */
+    private int batchSize = LineExecutor.DEFAULT_BATCH_SIZE;
+
+    /** @see com.opencsv.bean.CsvToBean#conversionExecutor */
+    private Executor executor = null;
+
+    /** @see com.opencsv.bean.CsvToBean#readBoundColumnsOnly */
+    private boolean readBoundColumnsOnly = false;
+
    /**
     * Constructor with the one parameter that is most definitely mandatory, and
     * always will be.
@@ -231,6 +251,12 @@ public class CsvToBeanBuilder<T> {
             bean.setFilter(filter);
         }
         bean.setVerifiers(verifiers);
+        bean.setMetricsListener(metricsListener);
+        bean.setQueueCapacity(queueCapacity);
+        bean.setParallelism(parallelism);
+        bean.setBatchSize(batchSize);
+        bean.setExecutor(executor);
+        bean.setReadBoundColumnsOnly(readBoundColumnsOnly);
 
         // Now find the mapping strategy and ignore irrelevant fields.
         // It's possible the mapping strategy has already been primed, so only
@@ -305,6 +331,7 @@ public class CsvToBeanBuilder<T> {
             csvrb.withMultilineLimit(multilineLimit);
         }
         csvrb.withErrorLocale(errorLocale);
+        csvrb.withMetricsListener(metricsListener);
         return csvrb.build();
     }
 
@@ -594,4 +621,94 @@ public class CsvToBeanBuilder<T> {
         this.profile = profile;
         return this;
     }
+
+    /**
+     * Sets a listener for counters and timings of the conversion.
+     * <p>By default there is no listener and nothing is measured. If this
+     * builder creates the {@link CSVReader}, the listener is given to the
+     * reader as well. A reader passed to
+     * {@link #CsvToBeanBuilder(CSVReader)} keeps its own listener.</p>
+     *
+     * @param metricsListener The listener, or {@code null} for none
+     * @return {@code this}
+     * @see CsvToBean#setMetricsListener(CsvMetricsListener)
+     * @since 5.5
+     */
+    public CsvToBeanBuilder<T> withMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
+    /**
+     * Limits the number of records read ahead of the consumer of
+     * {@link CsvToBean#stream()}.
+     *
+     * @param queueCapacity The maximum number of records read but not yet
+     *                      consumed, or zero or less for no limit
+     * @return {@code this}
+     * @see CsvToBean#setQueueCapacity(int)
+     * @since 5.5
+     */
+    public CsvToBeanBuilder<T> withQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads that convert records to beans.
+     *
+     * @param parallelism The number of threads, or zero or less for one per
+     *                    processor. One converts without any threads.
+     * @return {@code this}
+     * @see CsvToBean#setParallelism(int)
+     * @since 5.5
+     */
+    public CsvToBeanBuilder<T> withParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the number of consecutive records converted together in one job.
+     *
+     * @param batchSize The number of records, or one or less to convert
+     *                  every record in a job of its own
+     * @return {@code this}
+     * @see CsvToBean#setBatchSize(int)
+     * @since 5.5
+     */
+    public CsvToBeanBuilder<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets an executor, possibly shared with other work, to convert records
+     * to beans.
+     *
+     * @param executor The executor, or {@code null} to start a pool of
+     *                 threads for every conversion
+     * @return {@code this}
+     * @see CsvToBean#setExecutor(Executor)
+     * @since 5.5
+     */
+    public CsvToBeanBuilder<T> withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Determines whether values are created only for the columns bound to
+     * bean fields.
+     *
+     * @param readBoundColumnsOnly Whether to skip the columns not bound to
+     *                             bean fields
+     * @return {@code this}
+     * @see CsvToBean#setReadBoundColumnsOnly(boolean)
+     * @since 5.5
+     */
+    public CsvToBeanBuilder<T> withReadBoundColumnsOnly(boolean readBoundColumnsOnly) {
+        this.readBoundColumnsOnly = readBoundColumnsOnly;
+        return this;
+    }
 }
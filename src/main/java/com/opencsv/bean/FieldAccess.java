@@ -2,12 +2,19 @@ package com.opencsv.bean;
 
 import com.opencsv.bean.function.AccessorInvoker;
 import com.opencsv.bean.function.AssignmentInvoker;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Encapsulates the logic for accessing member variables of classes.
@@ -20,6 +27,12 @@ import java.util.Optional;
  *     {@code null} values lead to empty {@link java.util.Optional}s.</li>
  *     <li>Use reflection bypassing all access control restrictions.</li>
  * </ol>These are considered separately for reading and writing.</p>
+ * <p>Whichever way is chosen, it is turned into a {@link MethodHandle} once,
+ * when this object is created, so access checks are not repeated on every
+ * read or write and the JIT compiler can inline the call. Only if a handle
+ * cannot be created is the member reached through reflection on every
+ * call. Primitive member variables can also be written without boxing the
+ * value.</p>
  *
  * @param <T> The type of the member variable being accessed
  * @author Andrew Rucker Jones
@@ -30,12 +43,28 @@ public class FieldAccess<T> {
     /** The field being accessed. */
     private final Field field;
 
+    /**
+     * The type of the field, with primitive types replaced by their wrappers.
+     */
+    private final Class<?> boxedType;
+
+    /** Whether the field is static. */
+    private final boolean isStatic;
+
     /** A functional interface to read the field. */
     private final AccessorInvoker<Object, T> accessor;
 
     /** A functional interface to write the field. */
     private final AssignmentInvoker<Object, T> assignment;
 
+    /**
+     * A handle of the type {@code (Object,P)void}, where {@code P} is the
+     * type of the field, for writing a primitive field without boxing the
+     * value, or {@code null} if the field is not primitive or can only be
+     * written with a boxed value.
+     */
+    private final MethodHandle primitiveAssignment;
+
     /**
      * Constructs this instance by determining what mode of access will work
      * for this field.
@@ -44,8 +73,101 @@ public class FieldAccess<T> {
      */
     public FieldAccess(Field field) {
         this.field = field;
+        boxedType = ClassUtils.primitiveToWrapper(field.getType());
+        isStatic = Modifier.isStatic(field.getModifiers());
         accessor = determineAccessorMethod();
         assignment = determineAssignmentMethod();
+        primitiveAssignment = field.getType().isPrimitive() ? determinePrimitiveAssignment() : null;
+    }
+
+    /**
+     * Converts a method handle to the generic type {@code (Object)Object} for
+     * reading or {@code (Object,Object)void} for writing, so it can be called
+     * with {@link MethodHandle#invokeExact(Object...)} without knowing the
+     * bean class. Whatever an assignment method returns is dropped.
+     *
+     * @param handle The handle for the accessor, assignment method or field
+     * @param setter Whether the handle writes
+     * @return The same handle with a generic type
+     */
+    private static MethodHandle generify(MethodHandle handle, boolean setter) {
+        MethodType type = handle.type().generic();
+        return handle.asType(setter ? type.changeReturnType(void.class) : type);
+    }
+
+    /**
+     * Creates a method handle for the given accessor or assignment method.
+     * Access checks are suppressed first, so public methods of classes that
+     * are not themselves public can be reached.
+     *
+     * @param method The method to be called
+     * @return A handle for the method, or {@code null} if the method cannot
+     *   be reached through a handle
+     */
+    private static MethodHandle unreflect(Method method) {
+        MethodHandle handle = unreflectExact(method);
+        return handle == null ? null : generify(handle, method.getParameterCount() > 0);
+    }
+
+    /**
+     * Creates a method handle for the given accessor or assignment method
+     * with the exact types of the method, except that a static method takes
+     * and ignores a bean.
+     *
+     * @param method The method to be called
+     * @return A handle for the method, or {@code null} if the method cannot
+     *   be reached through a handle
+     */
+    private static MethodHandle unreflectExact(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if(Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle;
+        }
+        catch(IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a method handle that reads or writes the field directly,
+     * bypassing all access control restrictions.
+     *
+     * @param setter Whether a handle for writing is wanted
+     * @return A handle for the field, or {@code null} if the field cannot be
+     *   reached through a handle
+     */
+    private MethodHandle unreflectField(boolean setter) {
+        MethodHandle handle = unreflectFieldExact(setter);
+        return handle == null ? null : generify(handle, setter);
+    }
+
+    /**
+     * Creates a method handle that reads or writes the field directly with
+     * the exact types of the field, except that a static field takes and
+     * ignores a bean.
+     *
+     * @param setter Whether a handle for writing is wanted
+     * @return A handle for the field, or {@code null} if the field cannot be
+     *   reached through a handle
+     */
+    private MethodHandle unreflectFieldExact(boolean setter) {
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = setter ? lookup.unreflectSetter(field) : lookup.unreflectGetter(field);
+            if(isStatic) {
+                // Reflection ignores the bean for static fields
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle;
+        }
+        catch(IllegalAccessException | RuntimeException e) {
+            return null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -55,17 +177,35 @@ public class FieldAccess<T> {
                 + field.getName().substring(1);
         try {
             Method getterMethod = field.getDeclaringClass().getMethod(getterName);
+            MethodHandle getter = unreflect(getterMethod);
             if(getterMethod.getReturnType().equals(Optional.class)) {
-                localAccessor = bean -> {
-                    Optional<T> opt = (Optional<T>) getterMethod.invoke(bean);
-                    return opt.orElse(null);
-                };
+                if(getter == null) {
+                    localAccessor = bean -> {
+                        Optional<T> opt = (Optional<T>) getterMethod.invoke(bean);
+                        return opt.orElse(null);
+                    };
+                }
+                else {
+                    localAccessor = bean -> {
+                        Optional<T> opt = (Optional<T>) invokeGetter(getter, bean);
+                        return opt.orElse(null);
+                    };
+                }
             }
-            else {
+            else if(getter == null) {
                 localAccessor = bean -> (T) getterMethod.invoke(bean);
             }
+            else {
+                localAccessor = bean -> (T) invokeGetter(getter, bean);
+            }
         } catch (NoSuchMethodException e) {
-            localAccessor = bean -> (T)FieldUtils.readField(this.field, bean, true);
+            MethodHandle getter = unreflectField(false);
+            if(getter == null) {
+                localAccessor = bean -> (T)FieldUtils.readField(this.field, bean, true);
+            }
+            else {
+                localAccessor = bean -> (T) invokeGetter(getter, bean);
+            }
         }
         return localAccessor;
     }
@@ -76,19 +216,179 @@ public class FieldAccess<T> {
                 + field.getName().substring(1);
         try {
             Method setterMethod = field.getDeclaringClass().getMethod(setterName, field.getType());
-            localAssignment = setterMethod::invoke;
+            MethodHandle setter = unreflect(setterMethod);
+            if(setter == null) {
+                localAssignment = setterMethod::invoke;
+            }
+            else {
+                localAssignment = (bean, value) -> invokeSetter(setter, bean, checkValue(value));
+            }
         } catch (NoSuchMethodException e1) {
             try {
                 Method setterMethod = field.getDeclaringClass().getMethod(setterName, Optional.class);
-                localAssignment = (bean, value) -> setterMethod.invoke(bean, Optional.ofNullable(value));
+                MethodHandle setter = unreflect(setterMethod);
+                if(setter == null) {
+                    localAssignment = (bean, value) -> setterMethod.invoke(bean, Optional.ofNullable(value));
+                }
+                else {
+                    localAssignment = (bean, value) -> invokeSetter(setter, bean, Optional.ofNullable(checkValue(value)));
+                }
             }
             catch(NoSuchMethodException e2) {
-                localAssignment = (bean, value) -> FieldUtils.writeField(this.field, bean, value, true);
+                MethodHandle setter = unreflectField(true);
+                if(setter == null) {
+                    localAssignment = (bean, value) -> FieldUtils.writeField(this.field, bean, value, true);
+                }
+                else {
+                    localAssignment = (bean, value) -> invokeSetter(setter, bean, checkValue(value));
+                }
             }
         }
         return localAssignment;
     }
 
+    /**
+     * Creates a handle that writes a primitive value the same way
+     * {@link #determineAssignmentMethod()} writes a boxed one.
+     *
+     * @return The handle, or {@code null} if there is none that takes the
+     *   primitive type, as for an assignment method taking an
+     *   {@link java.util.Optional}
+     */
+    private MethodHandle determinePrimitiveAssignment() {
+        String setterName = "set" + Character.toUpperCase(field.getName().charAt(0))
+                + field.getName().substring(1);
+        MethodHandle handle;
+        try {
+            handle = unreflectExact(field.getDeclaringClass().getMethod(setterName, field.getType()));
+        } catch (NoSuchMethodException e1) {
+            try {
+                field.getDeclaringClass().getMethod(setterName, Optional.class);
+                return null;
+            } catch (NoSuchMethodException e2) {
+                handle = unreflectFieldExact(true);
+            }
+        }
+        return handle == null ? null : handle.asType(
+                MethodType.methodType(void.class, Object.class, field.getType()));
+    }
+
+    /**
+     * Calls a handle that reads from the bean.
+     *
+     * @param getter The generic handle of the accessor method or field
+     * @param bean The bean to be read
+     * @return The value read
+     * @throws InvocationTargetException If the accessor method throws an
+     *   exception
+     */
+    private Object invokeGetter(MethodHandle getter, Object bean) throws InvocationTargetException {
+        checkBean(bean);
+        try {
+            return (Object) getter.invokeExact(bean);
+        }
+        catch(Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Calls a handle that writes to the bean. The value must already have
+     * been checked with {@link #checkValue(Object)}.
+     *
+     * @param setter The generic handle of the assignment method or field
+     * @param bean The bean to be written
+     * @param value The value to be passed to the handle
+     * @throws InvocationTargetException If the assignment method throws an
+     *   exception
+     */
+    private void invokeSetter(MethodHandle setter, Object bean, Object value) throws InvocationTargetException {
+        checkBean(bean);
+        try {
+            setter.invokeExact(bean, value);
+        }
+        catch(Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Makes sure the value can be assigned to the field, as reflection
+     * would, before a method handle casts or unboxes it.
+     *
+     * @param value The value to be assigned
+     * @return The value
+     */
+    private T checkValue(T value) {
+        if(value == null ? field.getType().isPrimitive() : !boxedType.isInstance(value)) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot assign %s to %s",
+                    value == null ? "null" : value.getClass().getName(), field));
+        }
+        return value;
+    }
+
+    /**
+     * Makes sure the bean is of the class declaring the field, as reflection
+     * would, before a method handle casts it.
+     *
+     * @param bean The bean to be read or written
+     */
+    private void checkBean(Object bean) {
+        if(!isStatic && !field.getDeclaringClass().isInstance(bean)) {
+            throw new IllegalArgumentException(String.format(
+                    "%s is not an instance of %s",
+                    bean == null ? "null" : bean.getClass().getName(),
+                    field.getDeclaringClass().getName()));
+        }
+    }
+
+    /**
+     * Invokes the {@link #primitiveAssignment} with a value of its exact
+     * type. Implemented once for every primitive type, so the value is not
+     * boxed on the way. The handle must be invoked as a statement, or its
+     * call would be typed to return {@code Object}.
+     */
+    @FunctionalInterface
+    private interface PrimitiveInvocation {
+        void invoke(MethodHandle assignment) throws Throwable;
+    }
+
+    /**
+     * Sets a primitive value in the given bean, for all of the typed
+     * setters. The value is only boxed if the field cannot be assigned
+     * without boxing, in which case {@link #setField(Object, Object)} is
+     * used.
+     *
+     * @param bean The bean in which the value of the field should be set
+     * @param boxedValue Supplies the value boxed, for the fallback
+     * @param invocation Passes the value unboxed to the assignment
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of the type of
+     * the value
+     */
+    @SuppressWarnings("unchecked")
+    private void assignPrimitive(Object bean, Supplier<?> boxedValue, PrimitiveInvocation invocation)
+            throws IllegalAccessException, InvocationTargetException {
+        if(primitiveAssignment == null) {
+            setField(bean, (T) boxedValue.get());
+            return;
+        }
+        checkBean(bean);
+        try {
+            invocation.invoke(primitiveAssignment);
+        }
+        catch(WrongMethodTypeException e) {
+            throw new IllegalArgumentException(e);
+        }
+        catch(Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
     /**
      * Returns the value of the field in the given bean.
      * @param bean The bean from which the value of this field should be returned
@@ -115,6 +415,150 @@ public class FieldAccess<T> {
         assignment.invoke(bean, value);
     }
 
+    /**
+     * Sets the value of a field of type {@code int} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code int}
+     * @since 5.5
+     */
+    public void setInt(Object bean, int value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code long} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code long}
+     * @since 5.5
+     */
+    public void setLong(Object bean, long value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code double} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code double}
+     * @since 5.5
+     */
+    public void setDouble(Object bean, double value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code float} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code float}
+     * @since 5.5
+     */
+    public void setFloat(Object bean, float value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code short} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code short}
+     * @since 5.5
+     */
+    public void setShort(Object bean, short value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code byte} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code byte}
+     * @since 5.5
+     */
+    public void setByte(Object bean, byte value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code boolean} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code boolean}
+     * @since 5.5
+     */
+    public void setBoolean(Object bean, boolean value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
+    /**
+     * Sets the value of a field of type {@code char} in the given bean
+     * without boxing the value.
+     * @param bean The bean in which the value of the field should be set
+     * @param value The value to be written into the member variable of the bean
+     * @throws IllegalAccessException If there is a problem accessing the
+     * member variable
+     * @throws InvocationTargetException If there is a problem accessing the
+     * member variable
+     * @throws IllegalArgumentException If the field is not of type {@code char}
+     * @since 5.5
+     */
+    public void setChar(Object bean, char value) throws IllegalAccessException, InvocationTargetException {
+        assignPrimitive(bean, () -> value, handle -> {
+            handle.invokeExact(bean, value);
+        });
+    }
+
     /**
      * Creates a hash code for this object.
      * This override delegates hash code creation to the field passed in
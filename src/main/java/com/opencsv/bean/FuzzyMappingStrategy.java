@@ -80,6 +80,7 @@ public class FuzzyMappingStrategy<T> extends HeaderColumnNameMappingStrategy<T>
                     StringUtils.equals(e.header, fc.header)
                             || Objects.equals(e.field, fc.field));
         }
+        invalidateColumnBindings();
     }
 
     /**
@@ -235,4 +235,13 @@ public class HeaderColumnNameMappingStrategy<T> extends HeaderNameBaseMappingStr
                 CsvBindAndSplitByName.class,
                 CsvBindAndJoinByName.class));
     }
+
+    /**
+     * Allows sharing the field map unless this is a subclass.
+     */
+    // The rest of the Javadoc is inherited.
+    @Override
+    protected boolean isFieldMapShareable() {
+        return getClass() == HeaderColumnNameMappingStrategy.class && super.isFieldMapShareable();
+    }
 }
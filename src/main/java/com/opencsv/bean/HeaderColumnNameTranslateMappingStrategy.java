@@ -64,6 +64,7 @@ public class HeaderColumnNameTranslateMappingStrategy<T> extends HeaderNameBaseM
         for (Map.Entry<String, String> entry : columnMapping.entrySet()) {
             this.columnMapping.put(entry.getKey().toUpperCase(), entry.getValue());
         }
+        invalidateColumnBindings();
         if(getType() != null) {
             loadFieldMap();
         }
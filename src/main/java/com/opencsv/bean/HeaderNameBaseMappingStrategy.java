@@ -51,6 +51,7 @@ abstract public class HeaderNameBaseMappingStrategy<T> extends AbstractMappingSt
             }
         }
         headerIndex.initializeHeaderIndex(header);
+        invalidateColumnBindings();
 
         // Throw an exception if any required headers are missing
         List<FieldMapByNameEntry<T>> missingRequiredHeaders = fieldMap.determineMissingRequiredHeaders(header);
@@ -82,10 +83,30 @@ abstract public class HeaderNameBaseMappingStrategy<T> extends AbstractMappingSt
         }
     }
 
+    /**
+     * @return The columns of the header read by
+     *   {@link #captureHeader(CSVReader)} whose names are bound to a bean
+     *   field, or {@code null} if no header has been read
+     */
+    // The rest of the Javadoc is inherited.
+    @Override
+    public BitSet getBoundColumns() {
+        if (headerIndex.isEmpty()) {
+            return null;
+        }
+        final int numberOfColumns = headerIndex.getHeaderIndexLength();
+        BitSet boundColumns = new BitSet(numberOfColumns);
+        for (int col = 0; col < numberOfColumns; col++) {
+            if (findField(col) != null) {
+                boundColumns.set(col);
+            }
+        }
+        return boundColumns;
+    }
+
     @Override
     protected String chooseMultivaluedFieldIndexFromHeaderIndex(int index) {
-        String[] s = headerIndex.getHeaderIndex();
-        return index >= s.length ? null: s[index];
+        return headerIndex.getByPosition(index);
     }
 
     @Override
@@ -0,0 +1,213 @@
+package com.opencsv.bean;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the field maps that mapping strategies have loaded, so the next
+ * strategy for the same bean type can be set up without reflection.
+ * <p>Loading a field map means walking the bean type and everything it
+ * recurses into, reading annotations, instantiating converters and
+ * compiling regular expressions. The result depends only on the class of
+ * the mapping strategy, the bean type, the profile and the error locale, so
+ * a {@link CsvToBean} or {@link StatefulBeanToCsv} created for a type that
+ * has been seen before shares the bean fields of an earlier strategy. Only
+ * the field map itself, which holds the state of a particular file, and the
+ * {@link HeaderIndex} are new for every strategy.</p>
+ * <p>Only strategies that load their field maps from nothing else share
+ * them: {@link HeaderColumnNameMappingStrategy} and
+ * {@link ColumnPositionMappingStrategy} themselves, but not subclasses of
+ * them, and not if fields are ignored or, for positions, columns have been
+ * named through
+ * {@link ColumnPositionMappingStrategy#setColumnMapping(String...)}.
+ * Field maps holding instances of classes named in annotations are not
+ * kept either: custom bean fields, converters for splitting or joining,
+ * processors and validators may keep state, so every strategy creates its
+ * own.</p>
+ * <p>The cache is safe for use from several threads. It holds at most
+ * {@link #getMaximumSize()} field maps, and the one used least recently is
+ * dropped when another is added. A maximum size of zero turns the cache
+ * off.</p>
+ * <p>The field maps are kept with their bean types through a
+ * {@link ClassValue}, so the cache does not keep a bean type, or the class
+ * loader that loaded it, from being unloaded. The field maps of a bean type
+ * that has been unloaded leave the cache with it.</p>
+ *
+ * @since 5.5
+ */
+public final class MappingMetadataCache {
+
+    /** The maximum size unless another one is set. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 128;
+
+    private static int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * The loaded field maps of every bean type, by the rest of what they
+     * were loaded from. Only accessed while holding the lock on
+     * {@link #USAGE}.
+     */
+    private static final ClassValue<Map<List<Object>, Object>> FIELD_MAPS = new ClassValue<Map<List<Object>, Object>>() {
+        @Override
+        protected Map<List<Object>, Object> computeValue(Class<?> type) {
+            return new HashMap<>();
+        }
+    };
+
+    /** One entry for every field map kept, in the order they were last used. */
+    private static final Map<Entry, Boolean> USAGE = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The entries whose bean types have been unloaded. */
+    private static final ReferenceQueue<Class<?>> UNLOADED = new ReferenceQueue<>();
+
+    /**
+     * Identifies a field map kept, without keeping its bean type from being
+     * unloaded.
+     */
+    private static final class Entry extends WeakReference<Class<?>> {
+        private final List<Object> key;
+        private final int hash;
+
+        Entry(Class<?> type, List<Object> key, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.key = key;
+            this.hash = 31 * System.identityHashCode(type) + key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            Class<?> type = get();
+            return type != null && type == other.get() && key.equals(other.key);
+        }
+    }
+
+    /** This class can't be instantiated. */
+    private MappingMetadataCache() {}
+
+    /**
+     * @return The maximum number of field maps kept
+     */
+    public static int getMaximumSize() {
+        synchronized (USAGE) {
+            return maximumSize;
+        }
+    }
+
+    /**
+     * Sets the maximum number of field maps kept. If more are kept already,
+     * those used least recently are dropped.
+     *
+     * @param maximumSize The maximum number of field maps kept. Zero turns
+     *                    the cache off.
+     * @throws IllegalArgumentException If {@code maximumSize} is negative
+     */
+    public static void setMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException(Integer.toString(maximumSize));
+        }
+        synchronized (USAGE) {
+            MappingMetadataCache.maximumSize = maximumSize;
+            evict();
+        }
+    }
+
+    /**
+     * Drops all field maps. Strategies that have already been created are
+     * not affected.
+     */
+    public static void clear() {
+        synchronized (USAGE) {
+            for (Entry entry : USAGE.keySet()) {
+                remove(entry);
+            }
+            USAGE.clear();
+        }
+    }
+
+    /** @return The number of field maps kept at the moment */
+    public static int size() {
+        synchronized (USAGE) {
+            expungeUnloaded();
+            return USAGE.size();
+        }
+    }
+
+    /**
+     * @param type The bean type the field map was loaded for
+     * @param key Everything else the field map was loaded from
+     * @return The field map, or {@code null} if it is not kept
+     */
+    static Object get(Class<?> type, List<Object> key) {
+        synchronized (USAGE) {
+            Object metadata = FIELD_MAPS.get(type).get(key);
+            if (metadata != null) {
+                // Marks the field map as used most recently
+                USAGE.get(new Entry(type, key, null));
+            }
+            return metadata;
+        }
+    }
+
+    /**
+     * @param type The bean type the field map was loaded for
+     * @param key Everything else the field map was loaded from
+     * @param metadata The field map
+     */
+    static void put(Class<?> type, List<Object> key, Object metadata) {
+        synchronized (USAGE) {
+            expungeUnloaded();
+            if (maximumSize > 0) {
+                FIELD_MAPS.get(type).put(key, metadata);
+                USAGE.put(new Entry(type, key, UNLOADED), Boolean.TRUE);
+                evict();
+            }
+        }
+    }
+
+    /** Drops the field maps used least recently until the size fits. */
+    private static void evict() {
+        Iterator<Entry> entries = USAGE.keySet().iterator();
+        while (USAGE.size() > maximumSize) {
+            remove(entries.next());
+            entries.remove();
+        }
+    }
+
+    /**
+     * Removes a field map from its bean type, if the type has not been
+     * unloaded.
+     *
+     * @param entry The field map
+     */
+    private static void remove(Entry entry) {
+        Class<?> type = entry.get();
+        if (type != null) {
+            FIELD_MAPS.get(type).remove(entry.key);
+        }
+    }
+
+    /** Forgets the field maps of bean types that have been unloaded. */
+    private static void expungeUnloaded() {
+        for (Reference<? extends Class<?>> unloaded = UNLOADED.poll(); unloaded != null; unloaded = UNLOADED.poll()) {
+            USAGE.remove(unloaded);
+        }
+    }
+}
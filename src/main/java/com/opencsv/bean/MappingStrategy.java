@@ -17,11 +17,13 @@ package com.opencsv.bean;
  */
 
 import com.opencsv.CSVReader;
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.exceptions.*;
 import org.apache.commons.collections4.MultiValuedMap;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.BitSet;
 import java.util.Locale;
 
 /**
@@ -96,6 +98,24 @@ public interface MappingStrategy<T> {
             throws CsvBeanIntrospectionException, CsvFieldAssignmentException,
             CsvChainedException;
 
+    /**
+     * Determines which columns of the input are bound to bean fields.
+     * <p>This is called after {@link #captureHeader(CSVReader)}. The result
+     * may be used as a column projection for the {@link CSVReader}, as
+     * {@link CsvToBean#setReadBoundColumnsOnly(boolean)} does, in which case
+     * the values of all other columns are {@code null} in the lines passed
+     * to {@link #populateNewBean(String[])}.</p>
+     * <p>The default implementation returns {@code null}.</p>
+     *
+     * @return The zero-based indexes of all columns that are read into the
+     *   bean, or {@code null} if every column might be needed
+     * @see CSVReader#setColumnProjection(BitSet)
+     * @since 5.5
+     */
+    default BitSet getBoundColumns() {
+        return null;
+    }
+
     /**
      * Sets the locale for all error messages.
      * The default implementation does nothing, as it is expected that most
@@ -107,6 +127,17 @@ public interface MappingStrategy<T> {
      */
     default void setErrorLocale(Locale errorLocale) {}
 
+    /**
+     * Sets the listener to be told how long each field takes to convert.
+     * The default implementation does nothing.
+     *
+     * @param metricsListener The listener, or {@code null} to measure nothing
+     * @see CsvMetricsListener#fieldRead(BeanField, long)
+     * @see CsvMetricsListener#fieldWritten(BeanField, long)
+     * @since 5.5
+     */
+    default void setMetricsListener(CsvMetricsListener metricsListener) {}
+
     /**
      * Sets the class type that is being mapped.
      * May perform additional initialization tasks. If instantiating a
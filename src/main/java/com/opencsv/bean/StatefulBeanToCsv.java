@@ -16,6 +16,7 @@
 package com.opencsv.bean;
 
 import com.opencsv.CSVWriter;
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.ICSVParser;
 import com.opencsv.ICSVWriter;
 import com.opencsv.bean.concurrent.BeanExecutor;
@@ -39,8 +40,10 @@ import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -59,6 +62,15 @@ import java.util.stream.StreamSupport;
  */
 public class StatefulBeanToCsv<T> {
     private static final char NO_CHARACTER = '\0';
+
+    /**
+     * The number of beans that may be converted ahead of the output by
+     * default.
+     *
+     * @since 5.5
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
     /**
      * The beans being written are counted in the order they are written.
      */
@@ -80,6 +92,10 @@ public class StatefulBeanToCsv<T> {
     private final boolean applyQuotesToAll;
     private final MultiValuedMap<Class<?>, Field> ignoredFields;
     private final String profile;
+    private CsvMetricsListener metricsListener = null;
+    private int parallelism = 0;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private Executor conversionExecutor = null;
 
     /**
      * Constructor used when supplying a Writer instead of a CsvWriter class.
@@ -167,6 +183,9 @@ public class StatefulBeanToCsv<T> {
         if(!ignoredFields.isEmpty()) {
             mappingStrategy.ignoreFields(ignoredFields);
         }
+        if(metricsListener != null) {
+            mappingStrategy.setMetricsListener(metricsListener);
+        }
 
         // Build CSVWriter
         if (csvwriter == null) {
@@ -207,7 +226,7 @@ public class StatefulBeanToCsv<T> {
             BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
             ProcessCsvBean<T> proc = new ProcessCsvBean<>(++lineNumber,
                     mappingStrategy, bean, resultantLineQueue,
-                    thrownExceptionsQueue, new TreeSet<>(), exceptionHandler);
+                    thrownExceptionsQueue, new TreeSet<>(), exceptionHandler, metricsListener);
             try {
                 proc.run();
             } catch (RuntimeException re) {
@@ -245,10 +264,17 @@ public class StatefulBeanToCsv<T> {
         }
     }
 
+    /**
+     * Submits all beans for conversion, writing every line that is ready
+     * before the next submission, so lines are written while the beans are
+     * still being converted.
+     */
     private void submitAllLines(Iterator<T> beans) throws InterruptedException {
+        Consumer<String[]> writeLine = l -> csvwriter.writeNext(l, applyQuotesToAll);
         while (beans.hasNext()) {
             T bean = beans.next();
             if (bean != null) {
+                executor.drainResults(writeLine);
                 executor.submitBean(++lineNumber, mappingStrategy, bean, exceptionHandler);
             }
         }
@@ -276,6 +302,9 @@ public class StatefulBeanToCsv<T> {
     /**
      * Writes an iterator of beans out to the {@link java.io.Writer} provided to the
      * constructor.
+     * <p>Lines are written while the remaining beans are still being
+     * converted, and the iterator is only read as far ahead of the output as
+     * {@link #setQueueCapacity(int)} allows.</p>
      *
      * @param iBeans An iterator of beans to be written to a CSV destination
      * @throws CsvDataTypeMismatchException   If a field of the beans is annotated improperly or an unsupported
@@ -291,12 +320,22 @@ public class StatefulBeanToCsv<T> {
             return;
         }
 
+        if (parallelism == 1 && conversionExecutor == null) {
+            while (beans.hasNext()) {
+                write(beans.next());
+            }
+            return;
+        }
+
         // Write header
         if (!headerWritten) {
             beforeFirstWrite(firstBean);
         }
 
-        executor = new BeanExecutor<>(orderedResults, errorLocale);
+        executor = new BeanExecutor<>(orderedResults, errorLocale, queueCapacity);
+        executor.setMetricsListener(metricsListener);
+        executor.setParallelism(parallelism);
+        executor.setJobExecutor(conversionExecutor);
         executor.prepare();
 
         // Process the beans
@@ -406,4 +445,71 @@ public class StatefulBeanToCsv<T> {
     public void setErrorLocale(Locale errorLocale) {
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
     }
+
+    /**
+     * Sets the listener for counters and timings of the conversion.
+     * <p>The listener is also passed on to the mapping strategy, which
+     * measures every field. It must be set before the first bean is
+     * written.</p>
+     *
+     * @param metricsListener The listener, or {@code null} to measure nothing
+     * @since 5.5
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Sets the number of threads that convert beans when more than one bean
+     * is written at once.
+     * <p>By default, every such write starts one thread per processor. A
+     * parallelism of one converts every bean in the calling thread, without
+     * any threads at all, just as {@link #write(Object)} does.</p>
+     * <p>This is ignored if an executor has been set with
+     * {@link #setExecutor(Executor)}.</p>
+     *
+     * @param parallelism The number of threads, or zero or less for one per
+     *                    processor
+     * @since 5.5
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 0);
+    }
+
+    /**
+     * Limits the number of beans converted ahead of the output when more
+     * than one bean is written at once.
+     * <p>Lines are written as soon as they are converted and, if the order
+     * is kept, every line before them has been written. Every bean counts
+     * against the capacity from the time it is submitted for conversion
+     * until its line has been written. Once the capacity is exhausted, no
+     * more beans are taken from the iterator until lines have been
+     * written, so any number of beans can be written through a fixed
+     * amount of memory. The default is
+     * {@value #DEFAULT_QUEUE_CAPACITY}.</p>
+     *
+     * @param queueCapacity The maximum number of beans converted or being
+     *                      converted but not yet written, or zero or less
+     *                      for no limit
+     * @since 5.5
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(queueCapacity, 0);
+    }
+
+    /**
+     * Sets an executor to convert beans when more than one bean is written
+     * at once, instead of starting a pool of threads for every write.
+     * <p>The executor can be shared, for example a
+     * {@link java.util.concurrent.ForkJoinPool} bounding the threads of all
+     * conversions in an application, or an executor for virtual threads.
+     * It is not shut down.</p>
+     *
+     * @param executor The executor, or {@code null} to start a pool of
+     *                 threads for every write
+     * @since 5.5
+     */
+    public void setExecutor(Executor executor) {
+        this.conversionExecutor = executor;
+    }
 }
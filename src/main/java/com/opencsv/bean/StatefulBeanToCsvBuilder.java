@@ -16,6 +16,7 @@
 package com.opencsv.bean;
 
 import com.opencsv.CSVWriter;
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.ICSVParser;
 import com.opencsv.ICSVWriter;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
@@ -31,6 +32,7 @@ import java.io.Writer;
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
 
 /**
  * This is a builder for StatefulBeanToCsv, allowing one to set all parameters
@@ -55,6 +57,10 @@ public class StatefulBeanToCsvBuilder<T> {
     private boolean applyQuotesToAll = true;
     private final ListValuedMap<Class<?>, Field> ignoredFields = new ArrayListValuedHashMap<>();
     private String profile = StringUtils.EMPTY;
+    private CsvMetricsListener metricsListener = null;
+    private int parallelism = 0;
+    private int queueCapacity = StatefulBeanToCsv.DEFAULT_QUEUE_CAPACITY;
+    private Executor executor = null;
     
     /**
      * Default constructor - Being stateful the writer is required by the builder at the start and not added in later.
@@ -265,6 +271,66 @@ public class StatefulBeanToCsvBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets a listener for counters and timings of the conversion.
+     * <p>By default there is no listener and nothing is measured.</p>
+     *
+     * @param metricsListener The listener, or {@code null} for none
+     * @return {@code this}
+     * @see StatefulBeanToCsv#setMetricsListener(CsvMetricsListener)
+     * @since 5.5
+     */
+    public StatefulBeanToCsvBuilder<T> withMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads that convert beans when more than one bean
+     * is written at once.
+     *
+     * @param parallelism The number of threads, or zero or less for one per
+     *                    processor. One converts without any threads.
+     * @return {@code this}
+     * @see StatefulBeanToCsv#setParallelism(int)
+     * @since 5.5
+     */
+    public StatefulBeanToCsvBuilder<T> withParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Limits the number of beans converted ahead of the output when more
+     * than one bean is written at once.
+     *
+     * @param queueCapacity The maximum number of beans converted or being
+     *                      converted but not yet written, or zero or less
+     *                      for no limit
+     * @return {@code this}
+     * @see StatefulBeanToCsv#setQueueCapacity(int)
+     * @since 5.5
+     */
+    public StatefulBeanToCsvBuilder<T> withQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Sets an executor, possibly shared with other work, to convert beans
+     * when more than one bean is written at once.
+     *
+     * @param executor The executor, or {@code null} to start a pool of
+     *                 threads for every write
+     * @return {@code this}
+     * @see StatefulBeanToCsv#setExecutor(Executor)
+     * @since 5.5
+     */
+    public StatefulBeanToCsvBuilder<T> withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     /**
      * Builds a StatefulBeanToCsv from the information provided, filling in
      * default values where none have been specified.
@@ -283,6 +349,10 @@ public class StatefulBeanToCsvBuilder<T> {
 
         sbtcsv.setOrderedResults(orderedResults);
         sbtcsv.setErrorLocale(errorLocale);
+        sbtcsv.setMetricsListener(metricsListener);
+        sbtcsv.setParallelism(parallelism);
+        sbtcsv.setQueueCapacity(queueCapacity);
+        sbtcsv.setExecutor(executor);
         return sbtcsv;
     }
 }
@@ -19,9 +19,15 @@ import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.CsvException;
 import org.apache.commons.collections4.ListValuedMap;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * The accumulator takes two queues of results of transforming text input
@@ -31,6 +37,16 @@ import java.util.concurrent.ConcurrentMap;
  * their results in a (synchronized, thread-safe) queue and move on with other
  * work, while the relatively expensive operation of ordering the results
  * doesn't block other threads waiting for access to the ordered map.
+ * <p>Results that arrive before their predecessors are held in a reorder
+ * buffer keyed by their ordinal, so every result is handled in constant time
+ * on average, however far out of order it arrives. A batch of results
+ * ({@link ProcessCsvBatch.BatchedResults}) is expected and buffered under a
+ * single ordinal, and its members are passed on together, each under its
+ * own ordinal. When there is nothing to
+ * do, the accumulator parks until {@link #wakeUp()} or
+ * {@link #setMustStop(boolean)} is called. Consumers of the ordered map are
+ * told about every change to it, and about the end of the accumulator,
+ * through a callback.</p>
  * @param <T> Type of output being created (bean or strings)
  * @author Andrew Rucker Jones
  * @since 4.0
@@ -41,6 +57,20 @@ class AccumulateCsvResults<T> extends Thread {
     private final SortedSet<Long> expectedRecords;
     private final ConcurrentMap<Long, T> resultantBeanMap;
     private boolean mustStop = false;
+    private volatile boolean finished = false;
+
+    /**
+     * Called whenever results have been added to the ordered map, and once
+     * more when the accumulator is finished.
+     */
+    private final Runnable resultsChanged;
+
+    /**
+     * Results that cannot be passed on yet because a result before them is
+     * still outstanding, keyed by their ordinal, or by the ordinal of their
+     * batch. Only the accumulator thread accesses this map.
+     */
+    private final Map<Long, List<OrderedObject<T>>> reorderBuffer = new HashMap<>();
 
     /** <em>All access to this variable must be synchronized.</em> */
     private final ListValuedMap<Long, CsvException> thrownExceptionsMap;
@@ -61,18 +91,22 @@ class AccumulateCsvResults<T> extends Thread {
      * @param thrownExceptionsMap The map of suppressed exceptions thrown
      *   during bean creation. The accumulator inserts into this map. <em>All
      *   access to this variable must be synchronized.</em>
+     * @param resultsChanged Called whenever beans have been inserted into
+     *   the ordered map, and once more when the accumulator is finished
      */
     AccumulateCsvResults(BlockingQueue<OrderedObject<T>> resultantBeansQueue,
                          BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
                          SortedSet<Long> expectedRecords,
                          ConcurrentMap<Long, T> resultantBeanMap,
-                         ListValuedMap<Long, CsvException> thrownExceptionsMap) {
+                         ListValuedMap<Long, CsvException> thrownExceptionsMap,
+                         Runnable resultsChanged) {
         super();
         this.resultantBeansQueue = resultantBeansQueue;
         this.thrownExceptionsQueue = thrownExceptionsQueue;
         this.expectedRecords = expectedRecords;
         this.resultantBeanMap = resultantBeanMap;
         this.thrownExceptionsMap = thrownExceptionsMap;
+        this.resultsChanged = resultsChanged;
     }
 
     /**
@@ -91,48 +125,116 @@ class AccumulateCsvResults<T> extends Thread {
      * because it's synchronized.
      * @param mustStop Whether the accumulator should stop
      */
-    synchronized void setMustStop(boolean mustStop) {
-        this.mustStop = mustStop;
+    void setMustStop(boolean mustStop) {
+        synchronized (this) {
+            this.mustStop = mustStop;
+        }
+        wakeUp();
+    }
+
+    /**
+     * Wakes the accumulator up to look for new results.
+     * Must be called whenever a result or an exception has been queued, or
+     * a record has been removed from the expected records.
+     */
+    void wakeUp() {
+        LockSupport.unpark(this);
+    }
+
+    /**
+     * Determines whether the accumulator has moved all results and ended.
+     * Unlike {@link #isAlive()}, this is already true when the final call
+     * to the callback for changed results is made.
+     *
+     * @return Whether the accumulator is finished
+     */
+    boolean isFinished() {
+        return finished;
     }
 
     @Override
     public void run() {
-        while(!isMustStop() || !resultantBeansQueue.isEmpty() || !thrownExceptionsQueue.isEmpty()) {
-            OrderedObject<T> orderedObject = null;
+        for(;;) {
+            // Read the signal before draining the queues, so everything
+            // queued before the signal was given is certain to be drained.
+            boolean stopping = isMustStop();
+            boolean progress = moveResults();
+            progress |= moveExceptions();
+            if(stopping && resultantBeansQueue.isEmpty() && thrownExceptionsQueue.isEmpty()) {
+                finished = true;
+                resultsChanged.run();
+                return;
+            }
+            if(!progress && !stopping) {
+                // A permit given by wakeUp() after the queues were drained
+                // lets this return immediately, so no signal is lost.
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Moves the output objects from the unsorted queue to the reorder buffer,
+     * and from there every result that is next in line to the navigable map.
+     * If a gap in numbering occurs, the results after it wait in the buffer
+     * until the gap has been filled in or the record has been removed from
+     * the expected records.
+     *
+     * @return Whether anything was moved
+     */
+    private boolean moveResults() {
+        boolean progress = false;
+        boolean published = false;
+        OrderedObject<T> orderedObject = resultantBeansQueue.poll();
+        while(orderedObject != null) {
+            reorderBuffer.put(orderedObject.getOrdinal(),
+                    orderedObject instanceof ProcessCsvBatch.BatchedResults
+                            ? ((ProcessCsvBatch.BatchedResults<T>) orderedObject).getResults()
+                            : Collections.singletonList(orderedObject));
+            progress = true;
+            orderedObject = resultantBeansQueue.poll();
+        }
 
-            // Move the output objects from the unsorted queue to the
-            // navigable map. Only the next expected objects are moved;
-            // if a gap in numbering occurs, the thread waits until those
-            // results have been filled in before continuing.
-            if (!expectedRecords.isEmpty()) {
-                orderedObject = resultantBeansQueue.stream()
-                        .filter(e -> expectedRecords.first().equals(e.getOrdinal()))
-                        .findAny().orElse(null);
+        while(!reorderBuffer.isEmpty()) {
+            // The iterator tolerates records being removed concurrently by
+            // the threads that filter them or fail to convert them.
+            Iterator<Long> expected = expectedRecords.iterator();
+            if(!expected.hasNext()) {
+                break;
+            }
+            Long next = expected.next();
+            List<OrderedObject<T>> results = reorderBuffer.remove(next);
+            if(results == null) {
+                break;
             }
-            while(orderedObject != null) {
-                resultantBeansQueue.remove(orderedObject);
-                expectedRecords.remove(expectedRecords.first());
-                resultantBeanMap.put(orderedObject.getOrdinal(), orderedObject.getElement());
-                if(!expectedRecords.isEmpty()) {
-                    orderedObject = resultantBeansQueue.stream()
-                            .filter(e -> expectedRecords.first().equals(e.getOrdinal()))
-                            .findAny().orElse(null);
-                }
-                else {
-                    orderedObject = null;
-                }
+            expectedRecords.remove(next);
+            for(OrderedObject<T> result : results) {
+                resultantBeanMap.put(result.getOrdinal(), result.getElement());
             }
+            progress = true;
+            published = true;
+        }
+        if(published) {
+            resultsChanged.run();
+        }
+        return progress;
+    }
 
-            // Move the exceptions from the unsorted queue to the navigable map.
-            while(!thrownExceptionsQueue.isEmpty()) {
-                OrderedObject<CsvException> capturedException = thrownExceptionsQueue.poll();
-                if(capturedException != null) {
-                    synchronized (thrownExceptionsMap) {
-                        thrownExceptionsMap.put(capturedException.getOrdinal(), capturedException.getElement());
-                    }
-                }
+    /**
+     * Moves the exceptions from the unsorted queue to the navigable map.
+     *
+     * @return Whether anything was moved
+     */
+    private boolean moveExceptions() {
+        boolean progress = false;
+        OrderedObject<CsvException> capturedException = thrownExceptionsQueue.poll();
+        while(capturedException != null) {
+            synchronized (thrownExceptionsMap) {
+                thrownExceptionsMap.put(capturedException.getOrdinal(), capturedException.getElement());
             }
-            Thread.yield();
+            progress = true;
+            capturedException = thrownExceptionsQueue.poll();
         }
+        return progress;
     }
 }
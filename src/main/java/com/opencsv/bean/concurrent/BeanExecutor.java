@@ -4,6 +4,7 @@ import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 
 import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * A specific derivative of {@link IntolerantThreadPoolExecutor} intended for
@@ -24,6 +25,23 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
         super(orderedResults, errorLocale);
     }
 
+    /**
+     * Constructor for an executor that holds at most a given number of
+     * beans at once.
+     * Once that many beans have been submitted but their lines not yet
+     * consumed, submission waits for the consumer. A thread that both
+     * submits and consumes calls {@link #drainResults(java.util.function.Consumer)}
+     * before every submission.
+     * @param orderedResults Whether order should be preserved in the results
+     * @param errorLocale The locale to use for error messages
+     * @param capacity The maximum number of beans submitted but not yet
+     *                 consumed, or zero or less for no limit
+     * @since 5.5
+     */
+    public BeanExecutor(boolean orderedResults, Locale errorLocale, int capacity) {
+        super(orderedResults, errorLocale, capacity);
+    }
+
     /**
      * Submit one bean for conversion.
      *
@@ -32,17 +50,26 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
      * @param bean The bean to be transformed into a line of output
      * @param exceptionHandler The handler for exceptions thrown during record
      *                         processing
+     * @throws RejectedExecutionException If the Executor has been shut down
      */
     public void submitBean(
             long lineNumber, MappingStrategy<T> mappingStrategy,
             T bean, CsvExceptionHandler exceptionHandler) {
+        try {
+            acquireCapacity();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
         if (accumulateThread != null) {
             expectedRecords.add(lineNumber);
         }
         try {
             execute(new ProcessCsvBean<>(lineNumber, mappingStrategy, bean, resultQueue,
-                    thrownExceptionsQueue, expectedRecords, exceptionHandler));
+                    thrownExceptionsQueue, expectedRecords, exceptionHandler, metricsListener));
+            reportQueueDepth();
         } catch (Exception e) {
+            releaseCapacity(1);
             if(accumulateThread != null) {
                 expectedRecords.remove(lineNumber);
                 accumulateThread.setMustStop(true);
@@ -50,4 +77,11 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
             throw e;
         }
     }
+
+    @Override
+    protected int countDiscardedRecords(Runnable r, Throwable t) {
+        return r instanceof ProcessCsvBean
+                ? (((ProcessCsvBean<?>) r).isResultQueued() ? 0 : 1)
+                : super.countDiscardedRecords(r, t);
+    }
 }
@@ -35,7 +35,7 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
     private long lineProcessed;
 
     /** The exception that brought execution to a grinding halt. */
-    private Throwable terminalException;
+    private volatile Throwable terminalException;
 
     /** The executor that takes lines of input and converts them to beans. */
     private LineExecutor<T> executor;
@@ -99,6 +99,7 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
             executor.complete();
         } catch(Exception e) {
             terminalException = e;
+            executor.signalConsumers();
         }
     }
 }
@@ -15,6 +15,7 @@
  */
 package com.opencsv.bean.concurrent;
 
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.ICSVParser;
 import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.CsvException;
@@ -25,6 +26,9 @@ import org.apache.commons.lang3.ObjectUtils;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -33,7 +37,13 @@ import java.util.stream.Collectors;
  * <p>This is the historically established precedent for dealing with input errors
  * in opencsv. This implementation expects all uncaught exceptions from its
  * threads to be wrapped in a {@link java.lang.RuntimeException}. The number of
- * threads in the pool is fixed.</p>
+ * threads in the pool is fixed, one per processor unless
+ * {@link #setParallelism(int)} says otherwise.</p>
+ * <p>Alternatively, the jobs can be run by an {@link Executor} that is
+ * shared with other work, set through {@link #setJobExecutor(Executor)}.
+ * This executor then starts no threads of its own for conversion, but still
+ * keeps track of the jobs it has passed on, so shutting down and waiting for
+ * termination work as usual.</p>
  * <p>It is not intended for this executor to be instantiated and receive jobs
  * directly. There are function-specific derived classes for that purpose.</p>
  * <p>This executor adds significant logic to the basic idea of an
@@ -55,10 +65,15 @@ import java.util.stream.Collectors;
  * <li>The accumulator, which creates an ordered list of the results.</li></ol></p>
  * <p>The threads in the executor queue their results in a thread-safe
  * queue, which should be O(1), minimizing wait time due to synchronization.
- * The accumulator then removes items from the queue and inserts them into a
- * sorted data structure, which is O(log n) on average and O(n) in the worst
- * case. If the user has told us she doesn't need sorted data, the
- * accumulator is not necessary, and thus is not started.</p>
+ * The accumulator then removes items from the queue, holds those that arrive
+ * early in a reorder buffer keyed by their ordinal, and passes them on in
+ * order to a sorted data structure, which is O(log n). If the user has told
+ * us she doesn't need sorted data, the accumulator is not necessary, and thus
+ * is not started.</p>
+ * <p>A consumer of the results that finds none waits on a condition that is
+ * signalled whenever a result becomes available, an exception is thrown that
+ * ends processing, or conversion is complete. The waiting is bounded, so
+ * even a missed signal only delays the consumer briefly.</p>
  *
  * @param <T> The type of the object being created by the threads run
  * @author Andrew Rucker Jones
@@ -66,6 +81,12 @@ import java.util.stream.Collectors;
  */
 class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spliterator<T> {
 
+    /**
+     * The longest a consumer waits for a signal before looking for results
+     * again, in nanoseconds.
+     */
+    private static final long RESULT_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
     /** A queue of the beans created. */
     protected final BlockingQueue<OrderedObject<T>> resultQueue = new LinkedBlockingQueue<>();
 
@@ -99,7 +120,75 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
     protected final Locale errorLocale;
 
     /** The exception that caused this Executor to stop executing. */
-    private Throwable terminalException;
+    private volatile Throwable terminalException;
+
+    /**
+     * Whether all jobs have finished and no more will be accepted.
+     * This includes the jobs passed to the {@link #jobExecutor}, if there is
+     * one.
+     */
+    private volatile boolean poolTerminated = false;
+
+    /** Released as soon as {@link #poolTerminated} is set. */
+    private final CountDownLatch terminationLatch = new CountDownLatch(1);
+
+    /**
+     * Whether all threads of the pool have finished. With a
+     * {@link #jobExecutor}, the pool has no threads and finishes as soon as
+     * it is shut down.
+     */
+    private volatile boolean ownThreadsTerminated = false;
+
+    /**
+     * The executor that runs the jobs, or {@code null} if the threads of
+     * this pool run them.
+     */
+    private Executor jobExecutor = null;
+
+    /** The number of jobs passed to the {@link #jobExecutor} that have not finished. */
+    private final AtomicInteger delegatedJobs = new AtomicInteger();
+
+    /**
+     * Whether jobs passed to the {@link #jobExecutor} that have not started
+     * yet should be skipped, because {@link #shutdownNow()} has been called.
+     */
+    private volatile boolean delegatedJobsStopped = false;
+
+    /** Guards waiting for results. */
+    private final ReentrantLock resultLock = new ReentrantLock();
+
+    /**
+     * Signalled whenever a result becomes available to consumers, a
+     * terminal exception is raised, or conversion is complete.
+     */
+    private final Condition resultsChanged = resultLock.newCondition();
+
+    /**
+     * The number of consumers waiting on {@link #resultsChanged}, so the
+     * threads producing results only take the lock if someone is waiting.
+     */
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+    /**
+     * The number of jobs that have started and not yet finished, including
+     * jobs run by the {@link #jobExecutor}.
+     */
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    /** The listener for metrics, or {@code null} if there is none. */
+    protected CsvMetricsListener metricsListener;
+
+    /**
+     * The maximum number of records that may be submitted but not yet taken
+     * by the consumer, or zero if there is no limit.
+     */
+    protected final int capacity;
+
+    /**
+     * One permit for every record that may still be submitted, or
+     * {@code null} if there is no limit.
+     */
+    private final Semaphore capacityPermits;
 
     /**
      * Constructor for a thread pool executor that stops by itself as soon as
@@ -109,18 +198,90 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
      * @param errorLocale The errorLocale to use for error messages.
      */
     IntolerantThreadPoolExecutor(boolean orderedResults, Locale errorLocale) {
+        this(orderedResults, errorLocale, 0);
+    }
+
+    /**
+     * Constructor for a thread pool executor that stops by itself as soon as
+     * any thread throws an exception and holds at most a given number of
+     * records at once.
+     * <p>Every record submitted counts against the capacity until its result
+     * has been taken through this {@link Spliterator}, or until it has been
+     * discarded because it was filtered or could not be converted. Once the
+     * capacity is exhausted, submission blocks until the consumer catches
+     * up. This bounds the memory used by the queue for inbound work, the
+     * results and the reordering of results together.</p>
+     * @param orderedResults Whether order should be preserved in the results
+     * @param errorLocale The errorLocale to use for error messages.
+     * @param capacity The maximum number of records submitted but not yet
+     *                 consumed, or zero or less for no limit
+     * @since 5.5
+     */
+    IntolerantThreadPoolExecutor(boolean orderedResults, Locale errorLocale, int capacity) {
         super(Runtime.getRuntime().availableProcessors(),
                 Runtime.getRuntime().availableProcessors(), Long.MAX_VALUE,
                 TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
         this.orderedResults = orderedResults;
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        this.capacity = Math.max(capacity, 0);
+        this.capacityPermits = capacity > 0 ? new Semaphore(capacity) : null;
+    }
+
+    /**
+     * Sets the listener that is told about the depths of the queues and
+     * passed on to the jobs submitted.
+     * Must be called before {@link #prepare()}.
+     *
+     * @param metricsListener The listener, or {@code null} to measure nothing
+     * @since 5.5
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Sets the number of threads that run jobs.
+     * Must be called before {@link #prepare()}.
+     *
+     * @param parallelism The number of threads. Zero or less leaves the
+     *                    default of one thread per processor.
+     * @since 5.5
+     */
+    public void setParallelism(int parallelism) {
+        if(parallelism > 0) {
+            // The core size may never exceed the maximum size.
+            if(parallelism > getMaximumPoolSize()) {
+                setMaximumPoolSize(parallelism);
+                setCorePoolSize(parallelism);
+            }
+            else {
+                setCorePoolSize(parallelism);
+                setMaximumPoolSize(parallelism);
+            }
+        }
+    }
+
+    /**
+     * Sets an executor to run the jobs instead of the threads of this pool.
+     * The executor may be shared with other work; it is neither shut down
+     * nor waited for, except for the jobs passed to it from here.
+     * Must be called before {@link #prepare()}.
+     *
+     * @param jobExecutor The executor, or {@code null} to use the threads
+     *                    of this pool
+     * @since 5.5
+     */
+    public void setJobExecutor(Executor jobExecutor) {
+        this.jobExecutor = jobExecutor;
     }
 
     /**
      * Prepares this Executor to receive jobs.
      */
     public void prepare() {
-        prestartAllCoreThreads();
+        if(jobExecutor == null) {
+            prestartAllCoreThreads();
+        }
 
         // The ordered maps and accumulator are only necessary if ordering is
         // stipulated. After this, the presence or absence of the accumulator is
@@ -134,7 +295,7 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
             // Start the process for accumulating results and cleaning up
             accumulateThread = new AccumulateCsvResults<>(
                     resultQueue, thrownExceptionsQueue, expectedRecords,
-                    resultantBeansMap, thrownExceptionsMap);
+                    resultantBeansMap, thrownExceptionsMap, this::signalConsumers);
             accumulateThread.start();
         }
     }
@@ -165,15 +326,92 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         }
     }
 
+    /**
+     * Waits until the capacity allows another record to be submitted.
+     * Derived classes call this before every submission, and must call
+     * {@link #releaseCapacity(int)} if the submission fails.
+     * <p>If the Executor is stopped by {@link #shutdownNow()} while waiting,
+     * this method returns so the submission fails, instead of blocking
+     * forever.</p>
+     *
+     * @throws InterruptedException If the thread is interrupted while
+     *   waiting
+     */
+    protected void acquireCapacity() throws InterruptedException {
+        if(capacityPermits != null) {
+            capacityPermits.acquire();
+        }
+    }
+
+    /**
+     * Returns capacity for records that have been consumed or discarded.
+     *
+     * @param records The number of records
+     */
+    protected void releaseCapacity(int records) {
+        if(capacityPermits != null && records > 0) {
+            capacityPermits.release(records);
+        }
+    }
+
+    /**
+     * Determines how many of the records of a job that has finished left no
+     * result for the consumer. These are released from the capacity as soon
+     * as the job finishes. The default implementation assumes every job is
+     * one record, which leaves a result unless the job failed.
+     *
+     * @param r The job that has finished
+     * @param t The exception that ended the job, or {@code null}
+     * @return The number of records discarded
+     */
+    protected int countDiscardedRecords(Runnable r, Throwable t) {
+        return t == null ? 0 : 1;
+    }
+
+    /**
+     * Wakes every consumer waiting for results.
+     * Must be called whenever a result has become available to consumers, a
+     * terminal exception has been raised, or conversion has completed. The
+     * change must be visible before this method is called.
+     */
+    void signalConsumers() {
+        if(waitingConsumers.get() > 0) {
+            resultLock.lock();
+            try {
+                resultsChanged.signalAll();
+            }
+            finally {
+                resultLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Tells the metrics listener, if there is one, how much work and how
+     * many results are waiting.
+     * Derived classes call this after every submission.
+     */
+    protected void reportQueueDepth() {
+        if(metricsListener != null) {
+            metricsListener.queueDepth(getQueue().size(), resultQueue.size());
+        }
+    }
+
     /**
      * Returns exceptions captured during the conversion process if
      * the conversion process was set not to propagate these errors
      * up the call stack.
      * The call is nondestructive.
+     * <p>If processing was halted by an exception, this first waits for
+     * the jobs still running to finish, so every exception the exception
+     * handler chose to queue before it chose to throw one is returned.</p>
      *
      * @return All exceptions captured
      */
     public List<CsvException> getCapturedExceptions() {
+        if(terminalException != null) {
+            awaitRunningJobs();
+        }
         List<CsvException> returnList = null;
         if(thrownExceptionsMap == null) {
             returnList = thrownExceptionsQueue.stream()
@@ -183,18 +421,139 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         }
         else {
             returnList = new LinkedList<>();
+            ListValuedMap<Long, CsvException> exceptions;
             synchronized (thrownExceptionsMap) {
-                final List<CsvException> finalReturnList = returnList;
-                thrownExceptionsMap.keySet().stream()
-                        .sorted()
-                        .forEach(l -> finalReturnList.addAll(thrownExceptionsMap.get(l)));
+                exceptions = new ArrayListValuedHashMap<>(thrownExceptionsMap);
+            }
+
+            // Exceptions queued after the accumulator has stopped, as it
+            // does when processing is halted, never reach the map.
+            if(accumulateThread.isFinished()) {
+                thrownExceptionsQueue.forEach(o -> exceptions.put(o.getOrdinal(), o.getElement()));
             }
+            final List<CsvException> finalReturnList = returnList;
+            exceptions.keySet().stream()
+                    .sorted()
+                    .forEach(l -> finalReturnList.addAll(exceptions.get(l)));
         }
         return returnList;
     }
 
+    /**
+     * Waits until no job is running any more. After {@link #shutdownNow()},
+     * no job starts, so this returns as soon as the jobs running at the
+     * time have finished.
+     */
+    private void awaitRunningJobs() {
+        boolean interrupted = false;
+        resultLock.lock();
+        waitingConsumers.incrementAndGet();
+        try {
+            while(runningJobs.get() > 0) {
+                try {
+                    resultsChanged.awaitNanos(RESULT_WAIT_NANOS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        finally {
+            waitingConsumers.decrementAndGet();
+            resultLock.unlock();
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs the job in a thread of this pool or, if there is one, passes it
+     * to the {@link #jobExecutor}.
+     * @param command {@inheritDoc}
+     */
+    @Override
+    public void execute(Runnable command) {
+        if(jobExecutor == null) {
+            super.execute(command);
+            return;
+        }
+
+        // Counting the job before checking for shutdown means termination
+        // cannot be declared while the job is on its way.
+        delegatedJobs.incrementAndGet();
+        try {
+            if(isShutdown()) {
+                throw new RejectedExecutionException();
+            }
+            jobExecutor.execute(() -> runDelegatedJob(command));
+        }
+        catch (RuntimeException e) {
+            delegatedJobFinished();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a job in a thread of the {@link #jobExecutor}, with the same
+     * hooks around it as a job run by this pool. An exception thrown by the
+     * job is handled by {@link #afterExecute(Runnable, Throwable)} and does
+     * not reach the foreign executor. A job that only starts after
+     * {@link #shutdownNow()} is skipped, just as this pool would drop it.
+     *
+     * @param command The job
+     */
+    private void runDelegatedJob(Runnable command) {
+        try {
+            if(!delegatedJobsStopped) {
+                beforeExecute(Thread.currentThread(), command);
+                Throwable thrown = null;
+                try {
+                    command.run();
+                }
+                catch (RuntimeException | Error e) {
+                    thrown = e;
+                }
+                afterExecute(command, thrown);
+            }
+        }
+        finally {
+            delegatedJobFinished();
+        }
+    }
+
+    private void delegatedJobFinished() {
+        if(delegatedJobs.decrementAndGet() == 0 && ownThreadsTerminated) {
+            markTerminated();
+        }
+    }
+
+    private void markTerminated() {
+        poolTerminated = true;
+        terminationLatch.countDown();
+        signalConsumers();
+    }
+
+    /**
+     * Waits until all jobs have finished after a shutdown, including the
+     * jobs passed to the {@link #jobExecutor}.
+     * @param timeout {@inheritDoc}
+     * @param unit {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws InterruptedException {@inheritDoc}
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminationLatch.await(timeout, unit);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return poolTerminated;
+    }
+
     @Override
     public List<Runnable> shutdownNow() {
+        delegatedJobsStopped = true;
         if(accumulateThread != null) {
             accumulateThread.setMustStop(true);
             try {
@@ -203,17 +562,42 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
                 // Do nothing. Best faith effort.
             }
         }
-        return super.shutdownNow();
+        List<Runnable> neverRun = super.shutdownNow();
+
+        // Wake a submitter waiting for capacity, so its submission is
+        // rejected instead of waiting forever. This must follow the
+        // shutdown, or the submitter could use the capacity released to
+        // submit successfully and wait again.
+        releaseCapacity(capacity);
+        return neverRun;
+    }
+
+    /**
+     * Counts the job as running.
+     * @param t {@inheritDoc}
+     * @param r {@inheritDoc}
+     */
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        runningJobs.incrementAndGet();
     }
 
     /**
-     * Shuts the Executor down if the thread ended in an exception.
+     * Wakes the accumulator up, since every job leaves a result, an
+     * exception or a gap in the expected records behind, shuts the
+     * Executor down if the thread ended in an exception, and wakes any
+     * consumer waiting for results.
      * @param r {@inheritDoc}
      * @param t {@inheritDoc} 
      */
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
         super.afterExecute(r, t);
+        if(accumulateThread != null) {
+            accumulateThread.wakeUp();
+        }
+        releaseCapacity(countDiscardedRecords(r, t));
         if(t != null) {
             if(t.getCause() != null) {
                 // Normally, everything that gets to this point should be
@@ -226,6 +610,17 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
             }
             shutdownNow();
         }
+        runningJobs.decrementAndGet();
+        signalConsumers();
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        ownThreadsTerminated = true;
+        if(delegatedJobs.get() == 0) {
+            markTerminated();
+        }
     }
     
     /**
@@ -254,8 +649,51 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         }
     }
 
+    /**
+     * Determines whether an exception is waiting to be thrown by
+     * {@link #checkExceptions()}, without throwing it.
+     *
+     * @return Whether processing has to halt because of an exception
+     */
+    protected boolean isTerminalExceptionPending() {
+        return terminalException != null;
+    }
+
     private boolean isConversionComplete() {
-        return isTerminated() && (accumulateThread == null || !accumulateThread.isAlive());
+        return poolTerminated && (accumulateThread == null || accumulateThread.isFinished());
+    }
+
+    private boolean isCapacityAvailable() {
+        return capacityPermits == null || capacityPermits.availablePermits() > 0;
+    }
+
+    private boolean isResultAvailable() {
+        return accumulateThread == null ? !resultQueue.isEmpty() : !resultantBeansMap.isEmpty();
+    }
+
+    /**
+     * Waits until a result may be available, an exception is pending, or
+     * conversion is complete, but no longer than {@link #RESULT_WAIT_NANOS}.
+     * The conditions are checked again after registering as a waiting
+     * consumer, so a signal given in between is not lost.
+     *
+     * @param orCapacity Whether to stop waiting as soon as capacity is
+     *                   available, too
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    private void awaitResults(boolean orCapacity) throws InterruptedException {
+        resultLock.lock();
+        waitingConsumers.incrementAndGet();
+        try {
+            if(!isResultAvailable() && !isConversionComplete() && !isTerminalExceptionPending()
+                    && !(orCapacity && isCapacityAvailable())) {
+                resultsChanged.awaitNanos(RESULT_WAIT_NANOS);
+            }
+        }
+        finally {
+            waitingConsumers.decrementAndGet();
+            resultLock.unlock();
+        }
     }
 
     /**
@@ -279,31 +717,88 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         checkExceptions();
 
         // Check conditions for completion
-        boolean elementFound = false;
-        while(!elementFound && !isConversionComplete()) {
-            if(accumulateThread == null) {
-                if(resultQueue.isEmpty()) {
-                    Thread.yield();
-                }
-                else {
-                    elementFound = true;
+        boolean interrupted = false;
+        try {
+            while(!isResultAvailable() && !isConversionComplete()) {
+                try {
+                    awaitResults(false);
+                } catch (InterruptedException e) {
+                    // The Spliterator interface offers no way to pass the
+                    // interruption on, so keep waiting and restore the flag
+                    // afterwards.
+                    interrupted = true;
                 }
+
+                // If an exception has been thrown that needs to be passed on,
+                // throw it here.
+                checkExceptions();
             }
-            else {
-                if(resultantBeansMap.isEmpty()) {
-                    Thread.yield();
-                }
-                else {
-                    elementFound = true;
-                }
+        }
+        finally {
+            if(interrupted) {
+                Thread.currentThread().interrupt();
             }
+        }
+
+        return isResultAvailable();
+    }
 
-            // If an exception has been thrown that needs to be passed on,
-            // throw it here.
-            checkExceptions();
+    /**
+     * Takes the next result, if there is one already, and returns its
+     * capacity.
+     *
+     * @return The result, or {@code null} if there is none right now
+     */
+    private T pollResult() {
+        T bean = null;
+        if(accumulateThread == null) {
+            OrderedObject<T> orderedObject = resultQueue.poll();
+            if(orderedObject != null) {
+                bean = orderedObject.getElement();
+            }
         }
+        else {
+            Map.Entry<Long, T> mapEntry = resultantBeansMap.pollFirstEntry();
+            if(mapEntry != null) {
+                bean = mapEntry.getValue();
+            }
+        }
+        if(bean != null) {
+            releaseCapacity(1);
+        }
+        return bean;
+    }
 
-        return accumulateThread == null ? !resultQueue.isEmpty() : !resultantBeansMap.isEmpty();
+    /**
+     * Passes on every result that is available right away, and then waits
+     * for more results until capacity is available for another submission.
+     * <p>This lets the thread submitting work consume the results as well,
+     * without ever blocking in {@link #acquireCapacity()}. Submitting and
+     * consuming alternate, and at most the capacity is held at any time.</p>
+     *
+     * @param action What to do with each result
+     * @throws InterruptedException If the thread is interrupted while
+     *   waiting
+     * @throws RejectedExecutionException If an exception during processing
+     *   forced this Executor to shut down
+     * @since 5.5
+     */
+    public void drainResults(Consumer<? super T> action) throws InterruptedException {
+        for(;;) {
+            if(isTerminalExceptionPending()) {
+                throw new RejectedExecutionException();
+            }
+            T bean = pollResult();
+            if(bean != null) {
+                action.accept(bean);
+            }
+            else if(isCapacityAvailable()) {
+                return;
+            }
+            else {
+                awaitResults(true);
+            }
+        }
     }
 
     @Override
@@ -314,18 +809,7 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
             // Since we are now guaranteed to have a result, we don't
             // really have to do all of the null checking below, but
             // better safe than sorry.
-            if(accumulateThread == null) {
-                OrderedObject<T> orderedObject = resultQueue.poll();
-                if(orderedObject != null) {
-                    bean = orderedObject.getElement();
-                }
-            }
-            else {
-                Map.Entry<Long, T> mapEntry = resultantBeansMap.pollFirstEntry();
-                if(mapEntry != null) {
-                    bean = mapEntry.getValue();
-                }
-            }
+            bean = pollResult();
             if(bean != null) {
                 action.accept(bean);
             }
@@ -383,6 +867,7 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
                         }
                     }
                 }
+                releaseCapacity(c.size());
                 s = c.spliterator();
             }
         }
@@ -6,16 +6,26 @@ import com.opencsv.bean.CsvToBeanFilter;
 import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.exceptions.CsvMalformedLineException;
+import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A specific derivative of {@link IntolerantThreadPoolExecutor} intended for
  * submitting lines of input to be converted to beans.
+ * <p>Lines are converted in batches of consecutive lines, so the cost of
+ * passing a job to a thread and its results to the consumer is shared by
+ * many lines. A batch is submitted as soon as it is full, or as soon as no
+ * other batch is being converted, so slow input is still passed on line by
+ * line instead of waiting for a batch to fill up. Lines that were added
+ * while another batch was being converted are submitted when that batch
+ * finishes, even if the input blocks before the next line.</p>
  *
  * @param <T> The type of the bean being converted to
  * @author Andrew Rucker Jones
@@ -23,8 +33,29 @@ import java.util.concurrent.RejectedExecutionException;
  */
 public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
 
+    /** The number of lines converted together by default. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
     private final CompleteFileReader<T> completeFileReader;
 
+    /** The most lines converted together. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * The batch lines are added to until it is submitted, or {@code null}.
+     * Only accessed while holding {@link #batchLock}.
+     */
+    private ProcessCsvBatch<T> pendingBatch = null;
+
+    /**
+     * Guards {@link #pendingBatch}, which is filled by the thread submitting
+     * lines and flushed by whichever thread sees the last batch finish.
+     */
+    private final ReentrantLock batchLock = new ReentrantLock();
+
+    /** The number of batches submitted that have not finished yet. */
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
     /**
      * The only constructor available for this class.
      * @param orderedResults Whether order should be preserved in the results
@@ -33,10 +64,44 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
      *                   results to this Executor
      */
     public LineExecutor(boolean orderedResults, Locale errorLocale, CompleteFileReader<T> completeFileReader) {
-        super(orderedResults, errorLocale);
+        this(orderedResults, errorLocale, completeFileReader, 0);
+    }
+
+    /**
+     * Constructor for an executor that holds at most a given number of
+     * records at once.
+     * Once that many records have been read but not yet consumed, the
+     * thread reading the input waits for the consumer.
+     * @param orderedResults Whether order should be preserved in the results
+     * @param errorLocale The locale to use for error messages
+     * @param completeFileReader The thread that reads lines of input and feeds the
+     *                   results to this Executor
+     * @param capacity The maximum number of records read but not yet
+     *                 consumed, or zero or less for no limit
+     * @since 5.5
+     */
+    public LineExecutor(boolean orderedResults, Locale errorLocale, CompleteFileReader<T> completeFileReader, int capacity) {
+        super(orderedResults, errorLocale, capacity);
         this.completeFileReader = completeFileReader;
     }
 
+    /**
+     * Sets the most lines converted together in one job.
+     * With a capacity, a batch never takes more than half of it, so a batch
+     * being filled cannot hold back the records the consumer waits for.
+     *
+     * @param batchSize The number of lines, or one or less to convert every
+     *                  line in a job of its own
+     * @since 5.5
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    private int getEffectiveBatchSize() {
+        return capacity > 0 ? Math.min(batchSize, Math.max(1, capacity / 2)) : batchSize;
+    }
+
     @Override
     public void prepare() {
         Thread readerThread = new Thread(completeFileReader);
@@ -67,8 +132,37 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
         super.checkExceptions();
     }
 
+    @Override
+    protected boolean isTerminalExceptionPending() {
+        Throwable t = completeFileReader.getTerminalException();
+        return (t != null && !(t instanceof RejectedExecutionException))
+                || super.isTerminalExceptionPending();
+    }
+
+    /**
+     * Submits the lines still waiting in a batch, and then waits for all
+     * of them to be converted.
+     * @throws InterruptedException {@inheritDoc}
+     * @throws RejectedExecutionException {@inheritDoc}
+     */
+    @Override
+    public void complete() throws InterruptedException {
+        batchLock.lock();
+        try {
+            if(pendingBatch != null) {
+                submitBatch();
+            }
+        }
+        finally {
+            batchLock.unlock();
+        }
+        super.complete();
+    }
+
     /**
      * Submit one record for conversion to a bean.
+     * The record joins the batch being filled, which is submitted once it is
+     * full or no other batch is being converted.
      *
      * @param lineNumber Which record in the input file is being processed
      * @param mapper The mapping strategy to be used
@@ -78,25 +172,95 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
      * @param line The line of input to be transformed into a bean
      * @param exceptionHandler The handler for exceptions thrown during record
      *                         processing
+     * @throws RejectedExecutionException If the Executor has been shut down
      */
     public void submitLine(
             long lineNumber, MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
             List<BeanVerifier<T>> verifiers, String[] line,
             CsvExceptionHandler exceptionHandler) {
-        if (accumulateThread != null) {
-            expectedRecords.add(lineNumber);
+        try {
+            acquireCapacity();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         }
+        batchLock.lock();
+        try {
+            if(pendingBatch != null && !pendingBatch.accepts(mapper, filter, verifiers, exceptionHandler)) {
+                submitBatch();
+            }
+            if(pendingBatch == null) {
+                pendingBatch = new ProcessCsvBatch<>(getEffectiveBatchSize(),
+                        mapper, filter, verifiers, exceptionHandler,
+                        resultQueue, thrownExceptionsQueue,
+                        accumulateThread != null ? expectedRecords : null,
+                        metricsListener);
+            }
+            pendingBatch.add(lineNumber, ArrayUtils.clone(line));
+            if(pendingBatch.isFull() || batchesInFlight.get() == 0) {
+                submitBatch();
+            }
+        }
+        finally {
+            batchLock.unlock();
+        }
+        reportQueueDepth();
+    }
+
+    /**
+     * Submits the {@link #pendingBatch}. Must be called while holding
+     * {@link #batchLock}.
+     */
+    private void submitBatch() {
+        ProcessCsvBatch<T> batch = pendingBatch;
+        pendingBatch = null;
+        batchesInFlight.incrementAndGet();
         try {
-            execute(new ProcessCsvLine<>(
-                    lineNumber, mapper, filter, verifiers, line,
-                    resultQueue, thrownExceptionsQueue,
-                    expectedRecords, exceptionHandler));
+            execute(batch);
         } catch (Exception e) {
+            batchesInFlight.decrementAndGet();
+            releaseCapacity(batch.size());
             if(accumulateThread != null) {
-                expectedRecords.remove(lineNumber);
+                expectedRecords.remove(batch.getOrdinal());
                 accumulateThread.setMustStop(true);
             }
             throw e;
         }
     }
+
+    /**
+     * Submits the lines waiting in a batch if the batch that has finished
+     * was the last one being converted. Otherwise, these lines would wait
+     * for the next line of input, which may be a long time coming.
+     * @param r {@inheritDoc}
+     * @param t {@inheritDoc}
+     */
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        boolean lastBatchFinished = r instanceof ProcessCsvBatch
+                && batchesInFlight.decrementAndGet() == 0;
+        super.afterExecute(r, t);
+        if(lastBatchFinished && !isShutdown()) {
+            batchLock.lock();
+            try {
+                if(pendingBatch != null && batchesInFlight.get() == 0) {
+                    submitBatch();
+                }
+            }
+            catch (RejectedExecutionException e) {
+                // The Executor has been stopped in the meantime. The thread
+                // submitting lines learns of it with its next submission.
+            }
+            finally {
+                batchLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    protected int countDiscardedRecords(Runnable r, Throwable t) {
+        return r instanceof ProcessCsvBatch
+                ? ((ProcessCsvBatch<?>) r).countDiscardedRecords()
+                : super.countDiscardedRecords(r, t);
+    }
 }
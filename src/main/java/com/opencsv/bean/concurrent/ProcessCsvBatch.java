@@ -0,0 +1,207 @@
+package com.opencsv.bean.concurrent;
+
+import com.opencsv.CsvMetricsListener;
+import com.opencsv.bean.BeanVerifier;
+import com.opencsv.bean.CsvToBeanFilter;
+import com.opencsv.bean.MappingStrategy;
+import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
+import com.opencsv.bean.util.OpencsvUtils;
+import com.opencsv.bean.util.OrderedObject;
+import com.opencsv.exceptions.CsvException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A job that creates beans out of a batch of consecutive lines of input.
+ * <p>Every line is converted just as {@link ProcessCsvLine} converts it, but
+ * the cost of submitting a job, copying the verifiers and queueing the
+ * results is paid once per batch. If the results are to be ordered, the
+ * whole batch is expected under a single ordinal, the number of its first
+ * line, and its beans are queued together as {@link BatchedResults}.</p>
+ *
+ * @param <T> The type of the bean being created
+ * @since 5.5
+ */
+class ProcessCsvBatch<T> implements Runnable {
+    private final MappingStrategy<? extends T> mapper;
+    private final CsvToBeanFilter filter;
+    private final List<BeanVerifier<T>> verifiers;
+    private final CsvExceptionHandler exceptionHandler;
+    private final BlockingQueue<OrderedObject<T>> resultantBeanQueue;
+    private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
+
+    /**
+     * The set the ordinal of this batch is expected in, or {@code null} if
+     * the results are not ordered.
+     */
+    private final SortedSet<Long> expectedRecords;
+    private final CsvMetricsListener metricsListener;
+    private final long[] lineNumbers;
+    private final String[][] lines;
+    private int size = 0;
+
+    /**
+     * The number of beans queued for the consumer. Only written by the
+     * thread running the job, and read in
+     * {@link java.util.concurrent.ThreadPoolExecutor#afterExecute(Runnable, Throwable)}
+     * in the same thread.
+     */
+    private int resultsQueued = 0;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param maximumSize The most lines the batch can take
+     * @param mapper The mapping strategy to be used
+     * @param filter A filter to remove beans from the running, if necessary.
+     *   May be null.
+     * @param verifiers The list of verifiers to run on beans after creation
+     * @param exceptionHandler The handler for exceptions thrown during record
+     *                         processing
+     * @param resultantBeanQueue A queue in which to place the beans created
+     * @param thrownExceptionsQueue A queue in which to place thrown
+     *   exceptions
+     * @param expectedRecords The outstanding ordinals, if the results are
+     *                        ordered, otherwise {@code null}
+     * @param metricsListener The listener for the time taken and for
+     *                        exceptions. May be null.
+     */
+    ProcessCsvBatch(
+            int maximumSize, MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
+            List<BeanVerifier<T>> verifiers, CsvExceptionHandler exceptionHandler,
+            BlockingQueue<OrderedObject<T>> resultantBeanQueue,
+            BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
+            SortedSet<Long> expectedRecords, CsvMetricsListener metricsListener) {
+        this.mapper = mapper;
+        this.filter = filter;
+        this.verifiers = new ArrayList<>(verifiers);
+        this.exceptionHandler = exceptionHandler;
+        this.resultantBeanQueue = resultantBeanQueue;
+        this.thrownExceptionsQueue = thrownExceptionsQueue;
+        this.expectedRecords = expectedRecords;
+        this.metricsListener = metricsListener;
+        this.lineNumbers = new long[maximumSize];
+        this.lines = new String[maximumSize][];
+    }
+
+    /**
+     * Adds a line to the batch. The first line added determines the ordinal
+     * of the batch, which is expected from then on if the results are
+     * ordered.
+     *
+     * @param lineNumber Which record in the input file the line is
+     * @param line The line, which must not be changed afterwards
+     */
+    void add(long lineNumber, String[] line) {
+        if(size == 0 && expectedRecords != null) {
+            expectedRecords.add(lineNumber);
+        }
+        lineNumbers[size] = lineNumber;
+        lines[size++] = line;
+    }
+
+    /**
+     * Determines whether this batch converts with exactly the given
+     * collaborators, so a line to be converted with them can join it.
+     *
+     * @param mapper The mapping strategy
+     * @param filter The filter
+     * @param verifiers The verifiers
+     * @param exceptionHandler The exception handler
+     * @return Whether the line can join the batch
+     */
+    boolean accepts(MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
+                    List<BeanVerifier<T>> verifiers, CsvExceptionHandler exceptionHandler) {
+        return this.mapper == mapper && this.filter == filter
+                && this.verifiers.equals(verifiers) && this.exceptionHandler == exceptionHandler;
+    }
+
+    /** @return The number of lines in the batch */
+    int size() {
+        return size;
+    }
+
+    /** @return Whether the batch has taken as many lines as it can */
+    boolean isFull() {
+        return size == lines.length;
+    }
+
+    /** @return The ordinal of the batch: the number of its first line */
+    long getOrdinal() {
+        return lineNumbers[0];
+    }
+
+    /**
+     * @return The number of lines that left no bean for the consumer,
+     *   because they were filtered out or failed, or because the batch was
+     *   stopped by an exception
+     */
+    int countDiscardedRecords() {
+        return size - resultsQueued;
+    }
+
+    @Override
+    public void run() {
+        List<OrderedObject<T>> beans = expectedRecords == null ? null : new ArrayList<>(size);
+        try {
+            for(int i = 0; i < size; i++) {
+                T obj = ProcessCsvLine.convertLine(lineNumbers[i], lines[i],
+                        mapper, filter, verifiers, thrownExceptionsQueue,
+                        exceptionHandler, metricsListener);
+                lines[i] = null;
+                if(obj != null) {
+                    OrderedObject<T> result = new OrderedObject<>(lineNumbers[i], obj);
+                    if(beans == null) {
+                        OpencsvUtils.queueRefuseToAcceptDefeat(resultantBeanQueue, result);
+                        resultsQueued++;
+                    }
+                    else {
+                        beans.add(result);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            if(expectedRecords != null) {
+                expectedRecords.remove(getOrdinal());
+            }
+            throw e;
+        }
+        if(beans != null) {
+            if(beans.isEmpty()) {
+                expectedRecords.remove(getOrdinal());
+            }
+            else {
+                OpencsvUtils.queueRefuseToAcceptDefeat(resultantBeanQueue,
+                        new BatchedResults<>(getOrdinal(), beans));
+                resultsQueued = beans.size();
+            }
+        }
+    }
+
+    /**
+     * The beans of a batch, queued together under the ordinal of the batch.
+     * Each bean keeps the number of its own line as its ordinal.
+     *
+     * @param <T> The type of the beans
+     */
+    static class BatchedResults<T> extends OrderedObject<T> {
+        private final List<OrderedObject<T>> results;
+
+        /**
+         * @param ordinal The ordinal of the batch
+         * @param results The beans of the batch, in order
+         */
+        BatchedResults(long ordinal, List<OrderedObject<T>> results) {
+            super(ordinal, null);
+            this.results = results;
+        }
+
+        /** @return The beans of the batch, in order */
+        List<OrderedObject<T>> getResults() {
+            return results;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.opencsv.bean.concurrent;
 
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.util.OpencsvUtils;
@@ -43,9 +44,12 @@ public class ProcessCsvBean<T> implements Runnable {
     private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
     private final SortedSet<Long> expectedRecords;
     private final CsvExceptionHandler exceptionHandler;
+    private final CsvMetricsListener metricsListener;
+    private boolean resultQueued = false;
     
     /**
-     * The only constructor for creating a line of CSV output out of a bean.
+     * The constructor for creating a line of CSV output out of a bean without
+     * measuring anything.
      * @param lineNumber Which record in the output file is being processed
      * @param mappingStrategy The mapping strategy to be used
      * @param bean The bean to be transformed into a line of output
@@ -62,6 +66,32 @@ public class ProcessCsvBean<T> implements Runnable {
             T bean, BlockingQueue<OrderedObject<String[]>> resultantLineQueue,
             BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
             SortedSet<Long> expectedRecords, CsvExceptionHandler exceptionHandler) {
+        this(lineNumber, mappingStrategy, bean, resultantLineQueue,
+                thrownExceptionsQueue, expectedRecords, exceptionHandler, null);
+    }
+
+    /**
+     * The constructor for creating a line of CSV output out of a bean.
+     * @param lineNumber Which record in the output file is being processed
+     * @param mappingStrategy The mapping strategy to be used
+     * @param bean The bean to be transformed into a line of output
+     * @param resultantLineQueue A queue in which to place the line created
+     * @param thrownExceptionsQueue A queue in which to place a thrown
+     *   exception, if one is thrown
+     * @param expectedRecords A list of outstanding record numbers so gaps
+     *                        in ordering due to filtered input or exceptions
+     *                        while converting can be detected.
+     * @param exceptionHandler The handler for exceptions thrown during record
+     *                         processing
+     * @param metricsListener The listener for the time taken and for
+     *                        exceptions. May be null.
+     * @since 5.5
+     */
+    public ProcessCsvBean(long lineNumber, MappingStrategy<T> mappingStrategy,
+            T bean, BlockingQueue<OrderedObject<String[]>> resultantLineQueue,
+            BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
+            SortedSet<Long> expectedRecords, CsvExceptionHandler exceptionHandler,
+            CsvMetricsListener metricsListener) {
         this.lineNumber = lineNumber;
         this.mappingStrategy = mappingStrategy;
         this.bean = bean;
@@ -69,27 +99,52 @@ public class ProcessCsvBean<T> implements Runnable {
         this.thrownExceptionsQueue = thrownExceptionsQueue;
         this.expectedRecords = expectedRecords;
         this.exceptionHandler = exceptionHandler;
+        this.metricsListener = metricsListener;
     }
     
     @Override
     public void run() {
         try {
+            String[] result;
+            if(metricsListener == null) {
+                result = mappingStrategy.transmuteBean(bean);
+            }
+            else {
+                final long start = System.nanoTime();
+                result = mappingStrategy.transmuteBean(bean);
+                metricsListener.beanWritten(System.nanoTime() - start);
+            }
             OpencsvUtils.queueRefuseToAcceptDefeat(resultantLineQueue,
-                    new OrderedObject<>(lineNumber, mappingStrategy.transmuteBean(bean)));
+                    new OrderedObject<>(lineNumber, result));
+            resultQueued = true;
         }
         catch (CsvFieldAssignmentException | CsvChainedException e) {
             expectedRecords.remove(lineNumber);
-            OpencsvUtils.handleException(e, lineNumber, exceptionHandler, thrownExceptionsQueue);
+            OpencsvUtils.handleException(e, lineNumber, exceptionHandler, thrownExceptionsQueue, metricsListener);
         }
         catch(CsvRuntimeException csvre) {
             expectedRecords.remove(lineNumber);
+            if(metricsListener != null) {
+                metricsListener.exceptionCaught(csvre);
+            }
             // Rethrowing exception here because I do not want the CsvRuntimeException caught and rewrapped in the catch below.
             throw csvre;
         }
         catch(Exception t) {
             expectedRecords.remove(lineNumber);
+            if(metricsListener != null) {
+                metricsListener.exceptionCaught(t);
+            }
             throw new RuntimeException(t);
         }
     }
+
+    /**
+     * @return Whether {@link #run()} placed a line in the queue of results,
+     *   as opposed to failing to convert the bean
+     */
+    boolean isResultQueued() {
+        return resultQueued;
+    }
     
 }
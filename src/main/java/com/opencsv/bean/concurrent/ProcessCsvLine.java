@@ -15,6 +15,7 @@
  */
 package com.opencsv.bean.concurrent;
 
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.bean.BeanVerifier;
 import com.opencsv.bean.CsvToBeanFilter;
 import com.opencsv.bean.MappingStrategy;
@@ -45,9 +46,11 @@ public class ProcessCsvLine<T> implements Runnable {
     private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
     private final SortedSet<Long> expectedRecords;
     private final CsvExceptionHandler exceptionHandler;
+    private final CsvMetricsListener metricsListener;
 
     /**
-     * The only constructor for creating a bean out of a line of input.
+     * The constructor for creating a bean out of a line of input without
+     * measuring anything.
      * @param lineNumber Which record in the input file is being processed
      * @param mapper The mapping strategy to be used
      * @param filter A filter to remove beans from the running, if necessary.
@@ -69,6 +72,37 @@ public class ProcessCsvLine<T> implements Runnable {
             BlockingQueue<OrderedObject<T>> resultantBeanQueue,
             BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
             SortedSet<Long> expectedRecords, CsvExceptionHandler exceptionHandler) {
+        this(lineNumber, mapper, filter, verifiers, line, resultantBeanQueue,
+                thrownExceptionsQueue, expectedRecords, exceptionHandler, null);
+    }
+
+    /**
+     * The constructor for creating a bean out of a line of input.
+     * @param lineNumber Which record in the input file is being processed
+     * @param mapper The mapping strategy to be used
+     * @param filter A filter to remove beans from the running, if necessary.
+     *   May be null.
+     * @param verifiers The list of verifiers to run on beans after creation
+     * @param line The line of input to be transformed into a bean
+     * @param resultantBeanQueue A queue in which to place the bean created
+     * @param thrownExceptionsQueue A queue in which to place a thrown
+     *   exception, if one is thrown
+     * @param expectedRecords A list of outstanding record numbers so gaps
+     *                        in ordering due to filtered input or exceptions
+     *                        while converting can be detected.
+     * @param exceptionHandler The handler for exceptions thrown during record
+     *                         processing
+     * @param metricsListener The listener for the time taken and for
+     *                        exceptions. May be null.
+     * @since 5.5
+     */
+    public ProcessCsvLine(
+            long lineNumber, MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
+            List<BeanVerifier<T>> verifiers, String[] line,
+            BlockingQueue<OrderedObject<T>> resultantBeanQueue,
+            BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
+            SortedSet<Long> expectedRecords, CsvExceptionHandler exceptionHandler,
+            CsvMetricsListener metricsListener) {
         this.lineNumber = lineNumber;
         this.mapper = mapper;
         this.filter = filter;
@@ -78,56 +112,83 @@ public class ProcessCsvLine<T> implements Runnable {
         this.thrownExceptionsQueue = thrownExceptionsQueue;
         this.expectedRecords = expectedRecords;
         this.exceptionHandler = exceptionHandler;
+        this.metricsListener = metricsListener;
     }
 
     @Override
     public void run() {
+        T obj;
+        try {
+            obj = convertLine(lineNumber, line, mapper, filter, verifiers,
+                    thrownExceptionsQueue, exceptionHandler, metricsListener);
+        } catch (RuntimeException e) {
+            expectedRecords.remove(lineNumber);
+            throw e;
+        }
+        if (obj != null) {
+            OpencsvUtils.queueRefuseToAcceptDefeat(
+                    resultantBeanQueue,
+                    new OrderedObject<>(lineNumber, obj));
+        }
+        else {
+            expectedRecords.remove(lineNumber);
+        }
+    }
+
+    /**
+     * Creates a bean out of a line of input, unless it is filtered out.
+     * This is the work of a single job, shared with jobs that convert a
+     * batch of lines.
+     *
+     * @param lineNumber Which record in the input file is being processed
+     * @param line The line of input to be transformed into a bean
+     * @param mapper The mapping strategy to be used
+     * @param filter A filter to remove beans from the running, if necessary.
+     *   May be null.
+     * @param verifiers The list of verifiers to run on beans after creation
+     * @param thrownExceptionsQueue A queue in which to place a thrown
+     *   exception, if one is thrown
+     * @param exceptionHandler The handler for exceptions thrown during record
+     *                         processing
+     * @param metricsListener The listener for the time taken and for
+     *                        exceptions. May be null.
+     * @param <T> The type of the bean being created
+     * @return The bean, or {@code null} if the line was filtered out, the
+     *   bean was rejected by a verifier, or conversion failed with an
+     *   exception the exception handler did not want thrown
+     * @throws RuntimeException Wrapping any exception that should halt
+     *   processing
+     */
+    static <T> T convertLine(
+            long lineNumber, String[] line, MappingStrategy<? extends T> mapper,
+            CsvToBeanFilter filter, List<BeanVerifier<T>> verifiers,
+            BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
+            CsvExceptionHandler exceptionHandler, CsvMetricsListener metricsListener) {
         try {
             if (filter == null || filter.allowLine(line)) {
-                T obj = processLine();
+                final long start = metricsListener == null ? 0 : System.nanoTime();
+                T obj = mapper.populateNewBean(line);
                 ListIterator<BeanVerifier<T>> verifierList = verifiers.listIterator();
                 boolean keep = true;
                 while(keep && verifierList.hasNext()) {
                     keep = verifierList.next().verifyBean(obj);
                 }
                 if (keep) {
-                    OpencsvUtils.queueRefuseToAcceptDefeat(
-                            resultantBeanQueue,
-                            new OrderedObject<>(lineNumber, obj));
+                    if (metricsListener != null) {
+                        metricsListener.beanRead(System.nanoTime() - start);
+                    }
+                    return obj;
                 }
-                else {
-                    expectedRecords.remove(lineNumber);
-                }
-            }
-            else {
-                expectedRecords.remove(lineNumber);
             }
         } catch (CsvException e) {
-            expectedRecords.remove(lineNumber);
             e.setLine(line);
-            OpencsvUtils.handleException(e, lineNumber, exceptionHandler, thrownExceptionsQueue);
+            OpencsvUtils.handleException(e, lineNumber, exceptionHandler, thrownExceptionsQueue, metricsListener);
         } catch (Exception e) {
-            expectedRecords.remove(lineNumber);
+            if (metricsListener != null) {
+                metricsListener.exceptionCaught(e);
+            }
             throw new RuntimeException(e);
         }
-    }
-
-    /**
-     * Creates a single object from a line from the CSV file.
-     * @return Object containing the values.
-     * @throws CsvBeanIntrospectionException Thrown on error creating bean.
-     * @throws CsvBadConverterException If a custom converter cannot be
-     *   initialized properly
-     * @throws CsvFieldAssignmentException A more specific subclass of this
-     *   exception is thrown for any problem decoding and assigning a field
-     *   of the input to a bean field
-     * @throws CsvChainedException If multiple exceptions are thrown for the
-     * same input line
-     */
-    private T processLine()
-            throws CsvBeanIntrospectionException,
-            CsvBadConverterException, CsvFieldAssignmentException,
-            CsvChainedException {
-        return mapper.populateNewBean(line);
+        return null;
     }
 }
@@ -8,11 +8,12 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>An exception handler that queues the first x exceptions, then throws any
  * further exceptions.</p>
  *
- * <p><b>Note:</b> when testing this on systems with a high number of cores/threads under
- * load we noted discrepancies between the number of exceptions counted and the number
- * exceptions queued.   If it is actually important to see the exceptions thrown then
- * we would heavily recommend you use the single threaded iterator() in CsvToBean
- * and collecting the exceptions yourself.</p>
+ * <p><b>Note:</b> when beans are converted in parallel, all x exceptions
+ * queued are captured along with the exception thrown, but which errors in
+ * the input they are depends on the order in which the threads reach them.
+ * If it is important to see the first x errors of the input, we would
+ * recommend you use the single threaded iterator() in CsvToBean and
+ * collect the exceptions yourself.</p>
  *
  * @author Andrew Rucker Jones
  * @since 5.2
@@ -36,4 +36,13 @@ public class ConvertEmptyOrBlankStringsToDefault implements StringProcessor {
     public void setParameterString(String value) {
         defaultValue = value;
     }
+
+    /**
+     * @return {@code true}, since the default value is not changed after
+     *   the parameter string has been set
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -41,4 +41,12 @@ public class ConvertEmptyOrBlankStringsToNull implements StringProcessor {
     public void setParameterString(String value) {
         // not needed
     }
+
+    /**
+     * @return {@code true}, since this processor has no state
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
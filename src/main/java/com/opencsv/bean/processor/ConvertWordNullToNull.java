@@ -39,4 +39,12 @@ public class ConvertWordNullToNull implements StringProcessor {
     public void setParameterString(String value) {
         // Unused in this case as all we care about is the word "null"
     }
+
+    /**
+     * @return {@code true}, since this processor has no state
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
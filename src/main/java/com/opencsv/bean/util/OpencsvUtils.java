@@ -15,6 +15,7 @@
  */
 package com.opencsv.bean.util;
 
+import com.opencsv.CsvMetricsListener;
 import com.opencsv.ICSVParser;
 import com.opencsv.bean.*;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
@@ -43,6 +44,21 @@ public final class OpencsvUtils {
     /** This class can't be instantiated. */
     private OpencsvUtils() {}
 
+    /**
+     * Whether a class has member variables bound by position, determined
+     * once per class.
+     */
+    private static final ClassValue<Boolean> POSITION_ANNOTATIONS_PRESENT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return Stream.of(FieldUtils.getAllFields(type)).anyMatch(
+                    f -> f.isAnnotationPresent(CsvBindByPosition.class)
+                    || f.isAnnotationPresent(CsvBindAndSplitByPosition.class)
+                    || f.isAnnotationPresent(CsvBindAndJoinByPosition.class)
+                    || f.isAnnotationPresent(CsvCustomBindByPosition.class));
+        }
+    };
+
     /**
      * Determines which mapping strategy is appropriate for this bean.
      * The algorithm is:<ol>
@@ -53,6 +69,9 @@ public final class OpencsvUtils {
      * <li>Otherwise, {@link HeaderColumnNameMappingStrategy} is chosen. If
      * annotations are present, they will be used, otherwise the field names
      * will be used as the column names.</li></ol>
+     * <p>The field map of the strategy is taken from
+     * {@link MappingMetadataCache} if it has been loaded for the same type,
+     * profile and locale before.</p>
      *
      * @param <T> The type of the bean for which the mapping strategy is sought
      * @param type The class of the bean for which the mapping strategy is sought
@@ -64,11 +83,7 @@ public final class OpencsvUtils {
     public static <T> MappingStrategy<T> determineMappingStrategy(
             Class<? extends T> type, Locale errorLocale, String profile) {
         // Check for annotations
-        boolean positionAnnotationsPresent = Stream.of(FieldUtils.getAllFields(type)).anyMatch(
-                f -> f.isAnnotationPresent(CsvBindByPosition.class)
-                || f.isAnnotationPresent(CsvBindAndSplitByPosition.class)
-                || f.isAnnotationPresent(CsvBindAndJoinByPosition.class)
-                || f.isAnnotationPresent(CsvCustomBindByPosition.class));
+        boolean positionAnnotationsPresent = POSITION_ANNOTATIONS_PRESENT.get(type);
 
         // Set the mapping strategy according to what we've found.
         MappingStrategy<T> mappingStrategy = positionAnnotationsPresent ?
@@ -100,11 +115,43 @@ public final class OpencsvUtils {
         }
     }
 
+    /**
+     * Reports an exception to a metrics listener and then handles it as
+     * {@link #handleException(CsvException, long, CsvExceptionHandler, BlockingQueue)}
+     * does.
+     * The exceptions of a {@link CsvChainedException} are reported one by
+     * one.
+     *
+     * @param e The exception originally thrown
+     * @param lineNumber The line or record number that caused the exception
+     * @param exceptionHandler The exception handler
+     * @param queue The queue for captured exceptions
+     * @param metricsListener The listener for metrics. May be {@code null}.
+     * @since 5.5
+     */
+    public static void handleException(
+            CsvException e, long lineNumber,
+            CsvExceptionHandler exceptionHandler, BlockingQueue<OrderedObject<CsvException>> queue,
+            CsvMetricsListener metricsListener) {
+        if (metricsListener != null) {
+            if (e instanceof CsvChainedException) {
+                ((CsvChainedException) e).getExceptionChain().forEach(metricsListener::exceptionCaught);
+            } else {
+                metricsListener.exceptionCaught(e);
+            }
+        }
+        handleException(e, lineNumber, exceptionHandler, queue);
+    }
+
     /**
      * A function to consolidate code common to handling exceptions thrown
      * during reading or writing of CSV files.
      * The proper line number is set for the exception, the exception handler
      * is run, and the exception is queued or thrown as necessary.
+     * <p>This takes no lock, so the threads of a conversion handle their
+     * exceptions in parallel. The exception handler must be thread-safe,
+     * as {@link CsvExceptionHandler#handleException(CsvException)}
+     * demands.</p>
      *
      * @param e The exception originally thrown
      * @param lineNumber The line or record number that caused the exception
@@ -112,7 +159,7 @@ public final class OpencsvUtils {
      * @param queue The queue for captured exceptions
      * @since 5.2
      */
-    public static synchronized void handleException(
+    public static void handleException(
             CsvException e, long lineNumber,
             CsvExceptionHandler exceptionHandler, BlockingQueue<OrderedObject<CsvException>> queue) {
         e.setLineNumber(lineNumber);
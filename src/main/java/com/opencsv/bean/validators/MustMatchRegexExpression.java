@@ -58,4 +58,13 @@ public class MustMatchRegexExpression implements StringValidator {
             regex = value;
         }
     }
+
+    /**
+     * @return {@code true}, since the regular expression is not changed
+     *   after the parameter string has been set
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
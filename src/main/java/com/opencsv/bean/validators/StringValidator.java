@@ -54,4 +54,27 @@ public interface StringValidator {
      * @param value Information used by the validator to validate the string
      */
     void setParameterString(String value);
+
+    /**
+     * Tells whether one instance of this validator may validate strings for
+     * several threads at once, once its parameter string has been set.
+     * <p>opencsv creates the validators of a field once, when the mapping
+     * strategy binds the field, and reuses them for every value of the field
+     * converted with that strategy. A thread-safe validator is shared by all
+     * threads converting values, while every thread receives an instance of
+     * its own of any other validator.</p>
+     * <p>Such an instance is kept for as long as the mapping strategy
+     * exists. If the strategy is used for several files, they are all
+     * converted with the same instances on the threads they are converted
+     * on, so a validator must not count on starting afresh with every file.
+     * Only a new mapping strategy creates new instances.</p>
+     *
+     * @return {@code true} if {@link #isValid(String)} and
+     *   {@link #validate(String, BeanField)} may be called concurrently.
+     *   The default is {@code false}.
+     * @since 5.5
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
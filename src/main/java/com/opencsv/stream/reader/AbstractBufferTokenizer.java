@@ -0,0 +1,627 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.ICSVParser;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvMultilineLimitBrokenException;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+/**
+ * The state machine shared by {@link CharBufferTokenizer} and
+ * {@link ByteBufferTokenizer}.
+ * <p>This class reads records from a reusable window, which it compacts and
+ * grows so that the current record is always contiguous, and remembers
+ * where every field begins and ends. What a quote, a separator or a line
+ * terminator means is decided here, once for both tokenizers. The
+ * subclasses only fill the window, search it for the next character that
+ * needs attention, and turn fields into values. Searching is done in loops
+ * of their own, since that is where nearly all of the time goes.</p>
+ * <p>The characters that have a meaning in the grammar are compared as
+ * {@code int}s. A {@code char} window supplies its characters, a
+ * {@code byte} window its bytes, and since the bytes only need to be
+ * compared for ASCII characters, that is the same.</p>
+ *
+ * @param <A> The type of the window, an array of characters or bytes
+ * @since 5.5
+ */
+abstract class AbstractBufferTokenizer<A> implements RecordTokenizer {
+
+    /** The field started with a quote character. */
+    static final byte FLAG_QUOTED = 1;
+
+    /**
+     * The raw text of the field cannot simply be copied: it contains escaped
+     * quotes, carriage returns to be normalized or text after the closing
+     * quote.
+     */
+    static final byte FLAG_DECODE = 2;
+
+    /** Returned by {@link #scanUnquoted()} at the end of input. */
+    private static final int END_OF_INPUT = -1;
+
+    /** The number of fields a record is initially expected to hold. */
+    static final int INITIAL_FIELD_CAPACITY = 16;
+
+    /** Context size in exception messages. */
+    private static final int MAX_WIDTH = 100;
+
+    final int separator;
+    final int quotechar;
+    final boolean keepCR;
+    private final CSVReaderNullFieldIndicator nullFieldIndicator;
+    private final int multilineLimit;
+    final Locale errorLocale;
+
+    /** The window. */
+    A buf;
+    int pos = 0;
+    private int limit = 0;
+    private boolean eof = false;
+    private boolean skipLineFeed = false;
+    private boolean recordIncomplete = false;
+
+    /** Start of the current record in {@link #buf}. */
+    private int recordStart = 0;
+
+    /** End of the current record relative to {@link #recordStart}, without its line terminator. */
+    private int recordEnd = 0;
+
+    private int fieldCount = 0;
+    private int[] fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private byte[] fieldFlags = new byte[INITIAL_FIELD_CAPACITY];
+    private BitSet columnProjection;
+
+    /** The value handed out for every field, reused from record to record. */
+    private Object[] fieldViews = new Object[INITIAL_FIELD_CAPACITY];
+
+    private long linesRead = 0;
+    private long recordsRead = 0;
+    /** The amount of input discarded from the start of the buffer so far. */
+    private long inputDiscarded = 0;
+    private int linesInRecord = 0;
+
+    /**
+     * Initializes the state machine.
+     *
+     * @param separator          The delimiter to use for separating entries
+     * @param quotechar          The character to use for quoted elements, or
+     *                           {@link ICSVParser#NULL_CHARACTER} if fields
+     *                           are never quoted
+     * @param nullFieldIndicator Which empty fields are to be returned as
+     *                           {@code null}
+     * @param keepCR             True to keep carriage returns in data read,
+     *                           false otherwise
+     * @param multilineLimit     The maximum number of lines in one record.
+     *                           Less than one means no limit.
+     * @param errorLocale        The locale for error messages. If null, the
+     *                           default locale is used.
+     * @param buf                The initial window, of at least two elements
+     */
+    AbstractBufferTokenizer(char separator, char quotechar,
+                            CSVReaderNullFieldIndicator nullFieldIndicator, boolean keepCR,
+                            int multilineLimit, Locale errorLocale, A buf) {
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.nullFieldIndicator = ObjectUtils.defaultIfNull(nullFieldIndicator, CSVReaderNullFieldIndicator.NEITHER);
+        this.keepCR = keepCR;
+        this.multilineLimit = multilineLimit;
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        this.buf = buf;
+    }
+
+    /**
+     * @param index A position in the window
+     * @return The character or byte at the position
+     */
+    abstract int elementAt(int index);
+
+    /**
+     * Searches the window for the end of a run of text inside quotes.
+     *
+     * @param from The first position to look at
+     * @param to   The end of the input in the window
+     * @return The position of the first quote character, line feed or
+     *   carriage return, or {@code to} if there is none
+     */
+    abstract int findInQuotes(int from, int to);
+
+    /**
+     * Searches the window for the end of unquoted text.
+     *
+     * @param from The first position to look at
+     * @param to   The end of the input in the window
+     * @return The position of the first separator, line feed, or carriage
+     *   return unless carriage returns are kept, or {@code to} if there is
+     *   none
+     */
+    abstract int findFieldEnd(int from, int to);
+
+    /**
+     * Searches the window for the end of a line.
+     *
+     * @param from The first position to look at
+     * @param to   The end of the input in the window
+     * @return The position of the first line feed, or carriage return unless
+     *   carriage returns are kept, or {@code to} if there is none
+     */
+    abstract int findLineEnd(int from, int to);
+
+    /**
+     * Returns flags to be added to the field just scanned, based on what
+     * {@link #findInQuotes(int, int)} and {@link #findFieldEnd(int, int)}
+     * have seen since the last call. The default is none.
+     *
+     * @return The flags
+     */
+    byte takeScannedFlags() {
+        return 0;
+    }
+
+    /**
+     * Reads more input into the window.
+     *
+     * @param offset The position in the window to read to. The window is
+     *               filled from there to its end, if that much input is
+     *               available.
+     * @return The amount of input read, or -1 at the end of input
+     * @throws IOException If reading from the underlying input fails
+     */
+    abstract int read(int offset) throws IOException;
+
+    /**
+     * @param window    The window
+     * @param newLength The length of the new window
+     * @return A longer window with the contents of the given one
+     */
+    abstract A grow(A window, int newLength);
+
+    /**
+     * @param window The window
+     * @return The length of the window
+     */
+    abstract int capacity(A window);
+
+    /**
+     * Creates a {@link String} from raw input.
+     *
+     * @param start  The start of the input in the window
+     * @param length The length of the input
+     * @return The text of the input
+     */
+    abstract String newString(int start, int length);
+
+    /**
+     * Stores one character or byte of the value of a field being decoded.
+     *
+     * @param target  The array the value is decoded into
+     * @param index   The position in the array
+     * @param element The character or byte
+     */
+    abstract void store(A target, int index, int element);
+
+    @Override
+    public void setColumnProjection(BitSet columns) {
+        columnProjection = columns == null ? null : (BitSet) columns.clone();
+    }
+
+    @Override
+    public void setPrecedingInput(long lines, long records) {
+        linesRead = lines;
+        recordsRead = records;
+    }
+
+    @Override
+    public void skipLines(int numberOfLines) throws IOException {
+        for (int i = 0; i < numberOfLines; i++) {
+            recordStart = pos;
+            if (!consumeSkippedLineFeed() || (pos >= limit && !refill())) {
+                return;
+            }
+            int delimiter = scanToLineEnd();
+            linesRead++;
+            if (delimiter != END_OF_INPUT) {
+                endLine(delimiter);
+            }
+        }
+        recordStart = pos;
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        fieldCount = 0;
+        recordEnd = 0;
+        recordStart = pos;
+        takeScannedFlags();
+        if (!consumeSkippedLineFeed() || (pos >= limit && !refill())) {
+            return false;
+        }
+        linesInRecord = 1;
+
+        for (;;) {
+            final int fieldStart = pos - recordStart;
+            byte flags = 0;
+            if (quotechar != ICSVParser.NULL_CHARACTER
+                    && (pos < limit || refill())
+                    && elementAt(pos) == quotechar) {
+                flags = scanQuoted();
+            }
+            final int plainStart = pos;
+            final int delimiter = scanUnquoted();
+            if (flags != 0 && pos != plainStart) {
+                flags |= FLAG_DECODE;
+            }
+            flags |= takeScannedFlags();
+            addField(fieldStart, pos - recordStart, flags);
+
+            if (delimiter == separator) {
+                pos++;
+            } else {
+                recordEnd = pos - recordStart;
+                linesRead++;
+                recordsRead++;
+                if (delimiter != END_OF_INPUT) {
+                    endLine(delimiter);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Consumes the line feed of a "\r\n" pair whose carriage return ended the
+     * previous line.
+     *
+     * @return {@code false} if the end of input has been reached
+     * @throws IOException If reading from the underlying input fails
+     */
+    private boolean consumeSkippedLineFeed() throws IOException {
+        if (skipLineFeed) {
+            if (pos >= limit && !refill()) {
+                return false;
+            }
+            skipLineFeed = false;
+            if (elementAt(pos) == '\n') {
+                pos++;
+                recordStart = pos;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Steps over the line terminator the current position rests on.
+     *
+     * @param delimiter The line terminator
+     */
+    private void endLine(int delimiter) {
+        pos++;
+        if (delimiter == '\r') {
+            skipLineFeed = true;
+        }
+    }
+
+    /**
+     * Scans a quoted field, beginning at its opening quote and ending directly
+     * after its closing quote.
+     *
+     * @return The flags for the field
+     * @throws IOException If the end of input is reached inside the quotes
+     */
+    private byte scanQuoted() throws IOException {
+        byte flags = FLAG_QUOTED;
+        pos++;
+        for (;;) {
+            if (pos >= limit && !refill()) {
+                throw unterminatedQuote();
+            }
+            pos = findInQuotes(pos, limit);
+            if (pos == limit) {
+                continue;
+            }
+
+            final int c = elementAt(pos);
+            if (c == quotechar) {
+                if (pos + 1 >= limit && !refill()) {
+                    pos++;
+                    return flags;
+                }
+                if (elementAt(pos + 1) != quotechar) {
+                    pos++;
+                    return flags;
+                }
+                flags |= FLAG_DECODE;
+                pos += 2;
+            } else if (c == '\n') {
+                if (keepCR || elementAt(pos - 1) != '\r') {
+                    newLineInQuotes();
+                }
+                pos++;
+            } else {
+                if (!keepCR) {
+                    flags |= FLAG_DECODE;
+                    newLineInQuotes();
+                }
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Scans unquoted text up to the next separator or line terminator.
+     *
+     * @return The delimiter found, or {@link #END_OF_INPUT}. The current
+     *   position rests on the delimiter.
+     * @throws IOException If reading from the underlying input fails
+     */
+    private int scanUnquoted() throws IOException {
+        for (;;) {
+            if (pos >= limit && !refill()) {
+                return END_OF_INPUT;
+            }
+            pos = findFieldEnd(pos, limit);
+            if (pos < limit) {
+                return elementAt(pos);
+            }
+        }
+    }
+
+    /**
+     * Scans up to the next line terminator.
+     *
+     * @return The line terminator found, or {@link #END_OF_INPUT}. The current
+     *   position rests on the terminator.
+     * @throws IOException If reading from the underlying input fails
+     */
+    private int scanToLineEnd() throws IOException {
+        for (;;) {
+            if (pos >= limit && !refill()) {
+                return END_OF_INPUT;
+            }
+            pos = findLineEnd(pos, limit);
+            if (pos < limit) {
+                return elementAt(pos);
+            }
+        }
+    }
+
+    /**
+     * Counts a line terminator inside a quoted field and enforces the limit
+     * on the number of lines in one record.
+     *
+     * @throws CsvMultilineLimitBrokenException If the record now spans more
+     *   lines than permitted
+     */
+    private void newLineInQuotes() throws CsvMultilineLimitBrokenException {
+        linesRead++;
+        linesInRecord++;
+        if (multilineLimit > 0 && linesInRecord > multilineLimit) {
+            long row = recordsRead + 1L;
+            String context = newString(recordStart, pos - recordStart);
+            String message = String.format(errorLocale,
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("multiline.limit.broken"),
+                    multilineLimit, row, StringUtils.left(context, MAX_WIDTH));
+            throw new CsvMultilineLimitBrokenException(message, row, context, multilineLimit);
+        }
+    }
+
+    private CsvMalformedLineException unterminatedQuote() {
+        String context = newString(recordStart, pos - recordStart);
+        return new CsvMalformedLineException(String.format(
+                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("unterminated.quote"),
+                StringUtils.abbreviate(context, MAX_WIDTH)), linesRead - linesInRecord + 2, context);
+    }
+
+    private void addField(int start, int end, byte flags) {
+        if (fieldCount == fieldStarts.length) {
+            int newLength = fieldCount * 2;
+            fieldStarts = Arrays.copyOf(fieldStarts, newLength);
+            fieldEnds = Arrays.copyOf(fieldEnds, newLength);
+            fieldFlags = Arrays.copyOf(fieldFlags, newLength);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldFlags[fieldCount] = flags;
+        fieldCount++;
+    }
+
+    /**
+     * Makes more input available, compacting the window so that the current
+     * record begins at its start and growing it if the record fills it.
+     *
+     * @return {@code false} if the end of input has been reached
+     * @throws IOException If reading from the underlying input fails
+     */
+    private boolean refill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (recordStart > 0) {
+            inputDiscarded += recordStart;
+            final int length = limit - recordStart;
+            System.arraycopy(buf, recordStart, buf, 0, length);
+            pos -= recordStart;
+            limit = length;
+            recordStart = 0;
+        }
+        if (limit == capacity(buf)) {
+            buf = grow(buf, limit * 2);
+        }
+        recordIncomplete = pos > recordStart;
+        int read;
+        do {
+            read = read(limit);
+        } while (read == 0);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    @Override
+    public boolean isRecordIncomplete() {
+        return recordIncomplete;
+    }
+
+    @Override
+    public int size() {
+        return fieldCount;
+    }
+
+    @Override
+    public String[] getFields() {
+        return materialize();
+    }
+
+    @Override
+    public String getRecordText() {
+        return newString(recordStart, recordEnd);
+    }
+
+    @Override
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    @Override
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    @Override
+    public long getInputConsumed() {
+        return inputDiscarded + pos;
+    }
+
+    /**
+     * Checks that a field exists in the current record.
+     *
+     * @param index The zero-based index of the field
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+    }
+
+    /**
+     * Returns the reusable value of a field, creating it the first time the
+     * field is asked for.
+     *
+     * @param index   The zero-based index of the field
+     * @param factory Creates the value
+     * @param <V>     The type of the values of this tokenizer
+     * @return The value of the field, to be filled with its current text
+     */
+    @SuppressWarnings("unchecked")
+    <V> V viewFor(int index, Supplier<V> factory) {
+        if (index >= fieldViews.length) {
+            fieldViews = Arrays.copyOf(fieldViews, Math.max(fieldViews.length * 2, index + 1));
+        }
+        Object view = fieldViews[index];
+        if (view == null) {
+            view = factory.get();
+            fieldViews[index] = view;
+        }
+        return (V) view;
+    }
+
+    /**
+     * @param index The zero-based index of the field
+     * @return Whether a value is created for the field
+     */
+    boolean isProjected(int index) {
+        return columnProjection == null || columnProjection.get(index);
+    }
+
+    /**
+     * @param index The zero-based index of the field
+     * @return The start of the raw field in the window
+     */
+    int fieldStart(int index) {
+        return recordStart + fieldStarts[index];
+    }
+
+    /**
+     * @param index The zero-based index of the field
+     * @return The end of the raw field in the window
+     */
+    int fieldEnd(int index) {
+        return recordStart + fieldEnds[index];
+    }
+
+    /**
+     * @param index The zero-based index of the field
+     * @return The flags of the field
+     */
+    byte fieldFlags(int index) {
+        return fieldFlags[index];
+    }
+
+    /**
+     * @param quoted Whether the empty field was quoted
+     * @return Whether the null field indicator says the empty field is
+     *   {@code null}
+     */
+    boolean isEmptyFieldNull(boolean quoted) {
+        switch (nullFieldIndicator) {
+            case BOTH:
+                return true;
+            case EMPTY_SEPARATORS:
+                return !quoted;
+            case EMPTY_QUOTES:
+                return quoted;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Removes quotes, resolves escaped quotes and normalizes line terminators
+     * in a field that cannot simply be copied.
+     *
+     * @param start  The start of the raw field in the window
+     * @param end    The end of the raw field in the window
+     * @param target Receives the value of the field. It must be at least as
+     *               long as the raw field.
+     * @return The length of the value of the field
+     */
+    int decode(int start, int end, A target) {
+        int length = 0;
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            int c = elementAt(i);
+            if (c == quotechar) {
+                if (inQuotes && i + 1 < end && elementAt(i + 1) == quotechar) {
+                    store(target, length++, c);
+                    i++;
+                } else if (inQuotes) {
+                    inQuotes = false;
+                } else if (i == start) {
+                    inQuotes = true;
+                } else {
+                    store(target, length++, c);
+                }
+            } else if (c == '\r' && !keepCR && inQuotes) {
+                store(target, length++, '\n');
+                if (i + 1 < end && elementAt(i + 1) == '\n') {
+                    i++;
+                }
+            } else {
+                store(target, length++, c);
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,341 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.ICSVParser;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Tokenizes CSV records directly from a reusable {@code byte[]} window that is
+ * refilled from an {@link InputStream}.
+ * <p>This is the byte-level counterpart of {@link CharBufferTokenizer}. It
+ * understands the same grammar and reports the same fields, line numbers and
+ * errors, but it scans the undecoded input for separators, quotes and line
+ * terminators. Only the contents of fields are decoded, and only when they
+ * are asked for. Fields that are not projected are never decoded at all, and
+ * {@link #get(int)} returns a view of the raw bytes of a field that consists
+ * entirely of ASCII characters, so it can be compared without creating a
+ * {@link String}.</p>
+ * <p>This only works for character sets in which the ASCII characters are
+ * encoded as the same single bytes as in ASCII, and in which these bytes
+ * never occur as part of other characters. UTF-8, US-ASCII, the ISO 8859
+ * family and the Windows code pages qualify. UTF-16 and most of the East
+ * Asian multibyte character sets do not. The separator and the quote
+ * character must be ASCII characters. Use
+ * {@link #isSupported(Charset, char, char)} to find out whether a
+ * combination can be read. Malformed input is replaced just as
+ * {@link java.io.InputStreamReader} replaces it.</p>
+ *
+ * @since 5.5
+ */
+public class ByteBufferTokenizer extends AbstractBufferTokenizer<byte[]> {
+
+    /** The default initial size of the window in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** The field contains bytes that are not ASCII characters. */
+    private static final byte FLAG_NON_ASCII = 4;
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final InputStream in;
+    private final Charset charset;
+    private final byte separatorByte;
+    private final byte quoteByte;
+    private byte[] scratch = new byte[0];
+
+    /**
+     * The bitwise or of all bytes {@link #findInQuotes(int, int)} and
+     * {@link #findFieldEnd(int, int)} have passed over since the last call
+     * to {@link #takeScannedFlags()}. It is negative if one of them was not
+     * an ASCII character.
+     */
+    private int scannedBytes = 0;
+
+    /**
+     * Constructs a tokenizer.
+     *
+     * @param in                 The source of the CSV data
+     * @param charset            The character set of the data
+     * @param separator          The delimiter to use for separating entries
+     * @param quotechar          The character to use for quoted elements, or
+     *                           {@link ICSVParser#NULL_CHARACTER} if fields
+     *                           are never quoted
+     * @param nullFieldIndicator Which empty fields are to be returned as
+     *                           {@code null}
+     * @param keepCR             True to keep carriage returns in data read,
+     *                           false otherwise
+     * @param multilineLimit     The maximum number of lines in one record.
+     *                           Less than one means no limit.
+     * @param errorLocale        The locale for error messages. If null, the
+     *                           default locale is used.
+     * @param bufferSize         The initial size of the window in bytes.
+     *                           The window grows if a single record does not
+     *                           fit into it.
+     * @throws IllegalArgumentException If the combination of character set,
+     *   separator and quote character is not
+     *   {@link #isSupported(Charset, char, char) supported}
+     */
+    public ByteBufferTokenizer(InputStream in, Charset charset, char separator, char quotechar,
+                               CSVReaderNullFieldIndicator nullFieldIndicator, boolean keepCR,
+                               int multilineLimit, Locale errorLocale, int bufferSize) {
+        super(separator, quotechar, nullFieldIndicator, keepCR, multilineLimit, errorLocale,
+                new byte[Math.max(bufferSize, 2)]);
+        if (!isSupported(charset, separator, quotechar)) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale).getString("charset.not.ascii.compatible"),
+                    charset == null ? null : charset.name()));
+        }
+        this.in = in;
+        this.charset = charset;
+        this.separatorByte = (byte) separator;
+        this.quoteByte = (byte) quotechar;
+    }
+
+    /**
+     * Determines whether input in the given character set can be tokenized
+     * byte by byte.
+     *
+     * @param charset   The character set of the input
+     * @param separator The separator
+     * @param quotechar The quote character, or
+     *                  {@link ICSVParser#NULL_CHARACTER} if fields are
+     *                  never quoted
+     * @return Whether the character set encodes the ASCII characters as
+     *   single bytes that are not used for anything else, and the separator
+     *   and the quote character are ASCII characters
+     */
+    public static boolean isSupported(Charset charset, char separator, char quotechar) {
+        if (charset == null || separator >= 0x80 || quotechar >= 0x80 || separator == quotechar
+                || separator == '\n' || separator == '\r') {
+            return false;
+        }
+        if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+        if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f) {
+            return false;
+        }
+        byte[] ascii = new byte[0x80];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        try {
+            String decoded = charset.newDecoder().decode(ByteBuffer.wrap(ascii)).toString();
+            if (decoded.length() != ascii.length) {
+                return false;
+            }
+            for (int i = 0; i < ascii.length; i++) {
+                if (decoded.charAt(i) != i) {
+                    return false;
+                }
+            }
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    int elementAt(int index) {
+        return buf[index];
+    }
+
+    @Override
+    int findInQuotes(int from, int to) {
+        final byte[] b = buf;
+        final byte q = quoteByte;
+        int high = 0;
+        int p = from;
+        byte c = b[p];
+        while (c != q && c != LF && c != CR) {
+            high |= c;
+            if (++p == to) {
+                break;
+            }
+            c = b[p];
+        }
+        scannedBytes |= high;
+        return p;
+    }
+
+    @Override
+    int findFieldEnd(int from, int to) {
+        final byte[] b = buf;
+        final byte s = separatorByte;
+        int high = 0;
+        int p = from;
+        for (; p < to; p++) {
+            final byte c = b[p];
+            if (c == s || c == LF || (c == CR && !keepCR)) {
+                break;
+            }
+            high |= c;
+        }
+        scannedBytes |= high;
+        return p;
+    }
+
+    @Override
+    int findLineEnd(int from, int to) {
+        final byte[] b = buf;
+        for (int p = from; p < to; p++) {
+            final byte c = b[p];
+            if (c == LF || (c == CR && !keepCR)) {
+                return p;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    byte takeScannedFlags() {
+        final byte flags = scannedBytes < 0 ? FLAG_NON_ASCII : 0;
+        scannedBytes = 0;
+        return flags;
+    }
+
+    @Override
+    int read(int offset) throws IOException {
+        return in.read(buf, offset, buf.length - offset);
+    }
+
+    @Override
+    byte[] grow(byte[] window, int newLength) {
+        return Arrays.copyOf(window, newLength);
+    }
+
+    @Override
+    int capacity(byte[] window) {
+        return window.length;
+    }
+
+    @Override
+    String newString(int start, int length) {
+        return new String(buf, start, length, charset);
+    }
+
+    @Override
+    void store(byte[] target, int index, int element) {
+        target[index] = (byte) element;
+    }
+
+    /**
+     * Returns one field of the current record.
+     * If the field consists of ASCII characters only and needs no decoding,
+     * the value is a view of the raw bytes that is reused for the same column
+     * of the next record. Otherwise it is a new {@link String}.
+     *
+     * @param index The zero-based index of the field
+     * @return The field, or {@code null} if the field is empty and the null
+     *   field indicator says empty fields of its kind are null, or if the
+     *   field is not projected
+     */
+    @Override
+    public CharSequence get(int index) {
+        checkIndex(index);
+        if (!isProjected(index)) {
+            return null;
+        }
+        final byte flags = fieldFlags(index);
+        if ((flags & (FLAG_DECODE | FLAG_NON_ASCII)) != 0) {
+            return getString(index);
+        }
+        final int start = fieldStart(index);
+        final int end = fieldEnd(index);
+        AsciiSlice view = viewFor(index, AsciiSlice::new);
+        if ((flags & FLAG_QUOTED) != 0) {
+            view.slice(buf, start + 1, Math.max(end - start - 2, 0));
+        } else {
+            view.slice(buf, start, end - start);
+        }
+        return view.length() == 0 && isEmptyFieldNull((flags & FLAG_QUOTED) != 0) ? null : view;
+    }
+
+    /**
+     * Decodes one field of the current record.
+     *
+     * @param index The zero-based index of the field
+     * @return The value of the field, or {@code null} if the field is empty
+     *   and the null field indicator says empty fields of its kind are null,
+     *   or if the field is not projected
+     */
+    @Override
+    public String getString(int index) {
+        checkIndex(index);
+        if (!isProjected(index)) {
+            return null;
+        }
+        final int start = fieldStart(index);
+        final int end = fieldEnd(index);
+        final byte flags = fieldFlags(index);
+        final boolean quoted = (flags & FLAG_QUOTED) != 0;
+        // ISO 8859-1 maps every byte to the char of the same value, which
+        // makes it the cheapest way to turn ASCII bytes into a String.
+        final Charset decoder = (flags & FLAG_NON_ASCII) != 0 ? charset : StandardCharsets.ISO_8859_1;
+        final String value;
+        if ((flags & FLAG_DECODE) != 0) {
+            if (scratch.length < end - start) {
+                scratch = new byte[end - start];
+            }
+            value = new String(scratch, 0, decode(start, end, scratch), decoder);
+        } else if (quoted) {
+            value = end - start > 1 ? new String(buf, start + 1, end - start - 2, decoder) : StringUtils.EMPTY;
+        } else {
+            value = new String(buf, start, end - start, decoder);
+        }
+        return value.isEmpty() && isEmptyFieldNull(quoted) ? null : value;
+    }
+
+    /**
+     * A reusable {@link CharSequence} over a range of ASCII bytes.
+     */
+    private static final class AsciiSlice implements CharSequence {
+        private byte[] bytes;
+        private int offset;
+        private int length;
+
+        void slice(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return (char) bytes[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new String(bytes, offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CsvRecord;
+import com.opencsv.ICSVParser;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Tokenizes CSV records directly from a reusable {@code char[]} window that is
+ * refilled from a {@link Reader}.
+ * <p>{@link LineReader} and the {@link ICSVParser} implementations work on one
+ * physical line at a time: every line is materialized as a {@link String},
+ * walked again by the parser and, for multiline records, concatenated to the
+ * pending text of the previous lines. This class avoids all of that. It scans
+ * the input once, remembers where every field of the current record begins
+ * and ends in its window, and only creates a {@link String} for a field when
+ * it is asked for one. Quoted fields may span lines and buffer boundaries
+ * freely; the window is compacted or grown as needed so that the current
+ * record is always contiguous.</p>
+ * <p>The grammar understood is that of RFC 4180, as implemented by
+ * {@link com.opencsv.RFC4180Parser}: fields are separated by the separator
+ * character, a field beginning with the quote character is quoted, and a
+ * quote character inside a quoted field is escaped by doubling it. There is
+ * no escape character. Text following the closing quote of a quoted field is
+ * appended to the field. Line terminators are handled exactly as
+ * {@link LineReader} handles them: if carriage returns are not kept,
+ * "\n", "\r" and "\r\n" all end a line, and line terminators inside quoted
+ * fields are returned as "\n".</p>
+ * <p>The tokenizer is itself a {@link CsvRecord} view of the current record.
+ * The {@link CharSequence}s it returns from {@link #get(int)} are reusable
+ * slices of its window, and like all values returned for a record they are
+ * only valid until the next call to {@link #nextRecord()}.</p>
+ *
+ * @since 5.5
+ */
+public class CharBufferTokenizer extends AbstractBufferTokenizer<char[]> {
+
+    /** The default initial size of the window in characters. */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char separatorChar;
+    private final char quoteChar;
+
+    /**
+     * Constructs a tokenizer using the default buffer size and no limit on the
+     * number of lines in a record.
+     *
+     * @param reader             The source of the CSV data
+     * @param separator          The delimiter to use for separating entries
+     * @param quotechar          The character to use for quoted elements, or
+     *                           {@link ICSVParser#NULL_CHARACTER} if fields
+     *                           are never quoted
+     * @param nullFieldIndicator Which empty fields are to be returned as
+     *                           {@code null}
+     * @param keepCR             True to keep carriage returns in data read,
+     *                           false otherwise
+     */
+    public CharBufferTokenizer(Reader reader, char separator, char quotechar,
+                               CSVReaderNullFieldIndicator nullFieldIndicator, boolean keepCR) {
+        this(reader, separator, quotechar, nullFieldIndicator, keepCR, 0, Locale.getDefault(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a tokenizer.
+     *
+     * @param reader             The source of the CSV data
+     * @param separator          The delimiter to use for separating entries
+     * @param quotechar          The character to use for quoted elements, or
+     *                           {@link ICSVParser#NULL_CHARACTER} if fields
+     *                           are never quoted
+     * @param nullFieldIndicator Which empty fields are to be returned as
+     *                           {@code null}
+     * @param keepCR             True to keep carriage returns in data read,
+     *                           false otherwise
+     * @param multilineLimit     The maximum number of lines in one record.
+     *                           Less than one means no limit.
+     * @param errorLocale        The locale for error messages. If null, the
+     *                           default locale is used.
+     * @param bufferSize         The initial size of the window in characters.
+     *                           The window grows if a single record does not
+     *                           fit into it.
+     */
+    public CharBufferTokenizer(Reader reader, char separator, char quotechar,
+                               CSVReaderNullFieldIndicator nullFieldIndicator, boolean keepCR,
+                               int multilineLimit, Locale errorLocale, int bufferSize) {
+        super(separator, quotechar, nullFieldIndicator, keepCR, multilineLimit, errorLocale,
+                new char[Math.max(bufferSize, 2)]);
+        this.reader = reader;
+        this.separatorChar = separator;
+        this.quoteChar = quotechar;
+    }
+
+    @Override
+    int elementAt(int index) {
+        return buf[index];
+    }
+
+    @Override
+    int findInQuotes(int from, int to) {
+        final char[] b = buf;
+        final char q = quoteChar;
+        int p = from;
+        char c = b[p];
+        while (c != q && c != '\n' && c != '\r' && ++p < to) {
+            c = b[p];
+        }
+        return p;
+    }
+
+    @Override
+    int findFieldEnd(int from, int to) {
+        final char[] b = buf;
+        final char s = separatorChar;
+        for (int p = from; p < to; p++) {
+            final char c = b[p];
+            if (c == s || c == '\n' || (c == '\r' && !keepCR)) {
+                return p;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    int findLineEnd(int from, int to) {
+        final char[] b = buf;
+        for (int p = from; p < to; p++) {
+            final char c = b[p];
+            if (c == '\n' || (c == '\r' && !keepCR)) {
+                return p;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    int read(int offset) throws IOException {
+        return reader.read(buf, offset, buf.length - offset);
+    }
+
+    @Override
+    char[] grow(char[] window, int newLength) {
+        return Arrays.copyOf(window, newLength);
+    }
+
+    @Override
+    int capacity(char[] window) {
+        return window.length;
+    }
+
+    @Override
+    String newString(int start, int length) {
+        return new String(buf, start, length);
+    }
+
+    @Override
+    void store(char[] target, int index, int element) {
+        target[index] = (char) element;
+    }
+
+    /**
+     * @return The number of fields in the current record
+     */
+    public int getFieldCount() {
+        return size();
+    }
+
+    /**
+     * Returns a view of one field of the current record.
+     * The view is reused for the same column of the next record.
+     *
+     * @param index The zero-based index of the field
+     * @return A view of the field, or {@code null} if the field is empty and
+     *   the null field indicator says empty fields of its kind are null, or
+     *   if the field is not projected
+     */
+    @Override
+    public CharSequence get(int index) {
+        checkIndex(index);
+        if (!isProjected(index)) {
+            return null;
+        }
+        final int start = fieldStart(index);
+        final int end = fieldEnd(index);
+        final byte flags = fieldFlags(index);
+        CharSlice view = viewFor(index, CharSlice::new);
+        if ((flags & FLAG_DECODE) != 0) {
+            view.decoded(decode(start, end, view.scratch(end - start)));
+        } else if ((flags & FLAG_QUOTED) != 0) {
+            view.slice(buf, start + 1, Math.max(end - start - 2, 0));
+        } else {
+            view.slice(buf, start, end - start);
+        }
+        return view.length() == 0 && isEmptyFieldNull((flags & FLAG_QUOTED) != 0) ? null : view;
+    }
+
+    /**
+     * Creates a {@link String} for one field of the current record.
+     *
+     * @param index The zero-based index of the field
+     * @return The value of the field, or {@code null} if the field is empty
+     *   and the null field indicator says empty fields of its kind are null,
+     *   or if the field is not projected
+     */
+    @Override
+    public String getString(int index) {
+        checkIndex(index);
+        if (!isProjected(index)) {
+            return null;
+        }
+        final int start = fieldStart(index);
+        final int end = fieldEnd(index);
+        final byte flags = fieldFlags(index);
+        final boolean quoted = (flags & FLAG_QUOTED) != 0;
+        final String value;
+        if ((flags & FLAG_DECODE) != 0) {
+            char[] decoded = new char[end - start];
+            value = new String(decoded, 0, decode(start, end, decoded));
+        } else if (quoted) {
+            value = end - start > 1 ? new String(buf, start + 1, end - start - 2) : StringUtils.EMPTY;
+        } else {
+            value = new String(buf, start, end - start);
+        }
+        return value.isEmpty() && isEmptyFieldNull(quoted) ? null : value;
+    }
+
+    /**
+     * A reusable {@link CharSequence} over a range of a character array.
+     */
+    private static final class CharSlice implements CharSequence {
+        private char[] chars;
+        private int offset;
+        private int length;
+        private char[] scratch;
+
+        void slice(char[] chars, int offset, int length) {
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        char[] scratch(int capacity) {
+            if (scratch == null || scratch.length < capacity) {
+                scratch = new char[capacity];
+            }
+            return scratch;
+        }
+
+        void decoded(int length) {
+            slice(scratch, 0, length);
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return chars[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new String(chars, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, offset, length);
+        }
+    }
+}
@@ -11,14 +11,28 @@ import java.io.IOException;
  * where carriage returns were being removed.
  * This class allows the user to determine if they wish to keep or
  * remove them from the data being read.
+ * <p>Lines are cut from a buffer that is filled with bulk reads from the
+ * underlying reader, so the end of input is detected by the same read that
+ * delivers the data and no look-ahead on the reader is necessary. The
+ * reader is therefore read ahead of the last line returned, and nothing else
+ * may read from it while the line reader is in use.</p>
  *
  * @author scott
  * @since 3.3
  */
 
 public class LineReader {
+    private static final int BUFFER_SIZE = 8192;
+
     private final BufferedReader reader;
     private final boolean keepCarriageReturns;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private boolean skipLineFeed = false;
+    private boolean lineIncomplete = false;
+    /** The number of characters read before the current buffer. */
+    private long charactersBeforeBuffer = 0;
 
     /**
      * LineReader constructor.
@@ -33,20 +47,86 @@ public class LineReader {
 
     /**
      * Reads the next line from the Reader.
+     * <p>If carriage returns are removed, a line is terminated by "\n", "\r"
+     * or "\r\n", just as with {@link BufferedReader#readLine()}. If they are
+     * kept, only "\n" terminates a line, and an empty line is reported as the
+     * end of input.</p>
      *
-     * @return Line read from reader.
-     * @throws IOException On error from BufferedReader
+     * @return Line read from reader, or {@code null} at the end of input.
+     * @throws IOException On error from the underlying reader
      */
     public String readLine() throws IOException {
-        return keepCarriageReturns ? readUntilNewline() : reader.readLine();
-    }
+        StringBuilder sb = null;
+        for (;;) {
+            if (position >= limit) {
+                lineIncomplete = sb != null;
+                if (!fill()) {
+                    return sb == null || (keepCarriageReturns && sb.length() == 0) ? null : sb.toString();
+                }
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
 
-    private String readUntilNewline() throws IOException {
-        StringBuilder sb = new StringBuilder(ICSVParser.INITIAL_READ_SIZE);
-        for (int c = reader.read(); c > -1 && c != '\n'; c = reader.read()) {
-            sb.append((char) c);
+            final int start = position;
+            for (int i = start; i < limit; i++) {
+                final char c = buffer[i];
+                if (c == '\n' || (c == '\r' && !keepCarriageReturns)) {
+                    String line = sb == null
+                            ? new String(buffer, start, i - start)
+                            : sb.append(buffer, start, i - start).toString();
+                    position = i + 1;
+                    skipLineFeed = c == '\r';
+                    return keepCarriageReturns && line.isEmpty() ? null : line;
+                }
+            }
+            if (sb == null) {
+                sb = new StringBuilder(ICSVParser.INITIAL_READ_SIZE);
+            }
+            sb.append(buffer, start, limit - start);
+            position = limit;
         }
+    }
 
-        return sb.length() > 0 ? sb.toString() : null;
+    /**
+     * Tells whether the last call to {@link #readLine()} that threw an
+     * exception had already read part of a line.
+     * An exception thrown before any part of a line was read is often only a
+     * sign that the reader has been closed, whereas an exception in the
+     * middle of a line means data have been lost.
+     *
+     * @return {@code true} if the failed read had already consumed part of a
+     *   line
+     * @since 5.5
+     */
+    public boolean isLineIncomplete() {
+        return lineIncomplete;
+    }
+
+    /**
+     * @return The number of characters consumed so far, including line
+     *   terminators
+     * @since 5.5
+     */
+    public long getCharactersRead() {
+        return charactersBeforeBuffer + position;
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        charactersBeforeBuffer += limit;
+        position = 0;
+        limit = read;
+        return true;
     }
 }
@@ -0,0 +1,101 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CsvRecord;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * Reads CSV records directly from a buffer, without reading lines and
+ * passing them to an {@link com.opencsv.ICSVParser}.
+ * <p>A tokenizer is itself a {@link CsvRecord} view of the current record.
+ * All values returned for a record are only valid until the next call to
+ * {@link #nextRecord()}.</p>
+ *
+ * @see CharBufferTokenizer
+ * @see ByteBufferTokenizer
+ * @since 5.5
+ */
+public interface RecordTokenizer extends CsvRecord {
+
+    /**
+     * Restricts the fields for which values are created.
+     * Fields outside of the projection are still scanned, but are always
+     * returned as {@code null}.
+     *
+     * @param columns The zero-based indexes of the fields wanted, or
+     *   {@code null} for all fields
+     * @see com.opencsv.ICSVParser#setColumnProjection(BitSet)
+     */
+    void setColumnProjection(BitSet columns);
+
+    /**
+     * Sets the number of lines and records that precede the input, for a
+     * tokenizer that reads only part of a larger file.
+     * The numbers of lines and records read, and the line numbers and rows
+     * reported in exceptions, continue from these.
+     *
+     * @param lines   The number of lines before the input
+     * @param records The number of records before the input
+     */
+    void setPrecedingInput(long lines, long records);
+
+    /**
+     * Skips physical lines without interpreting quotes, just as
+     * {@link LineReader#readLine()} would.
+     *
+     * @param numberOfLines The number of lines to skip
+     * @throws IOException If reading from the underlying input fails
+     */
+    void skipLines(int numberOfLines) throws IOException;
+
+    /**
+     * Reads and tokenizes the next record.
+     *
+     * @return {@code true} if a record was read, {@code false} if the end of
+     *   input has been reached
+     * @throws IOException If reading from the underlying input fails, a
+     *   quoted field is not terminated before the end of input, or the record
+     *   spans more lines than permitted
+     */
+    boolean nextRecord() throws IOException;
+
+    /**
+     * Tells whether the last call to {@link #nextRecord()} or
+     * {@link #skipLines(int)} that threw an exception had already read part
+     * of a record or line.
+     *
+     * @return {@code true} if the failed read had already consumed part of a
+     *   record
+     */
+    boolean isRecordIncomplete();
+
+    /**
+     * @return All fields of the current record as {@link String}s
+     * @see #getString(int)
+     */
+    String[] getFields();
+
+    /**
+     * @return The raw text of the current record, without its final line
+     *   terminator
+     */
+    String getRecordText();
+
+    /**
+     * @return The number of physical lines consumed so far, including skipped
+     *   lines
+     */
+    long getLinesRead();
+
+    /**
+     * @return The number of records read so far
+     */
+    long getRecordsRead();
+
+    /**
+     * @return The amount of input consumed so far, including skipped lines,
+     *   in the units the tokenizer reads: characters or bytes
+     */
+    long getInputConsumed();
+}
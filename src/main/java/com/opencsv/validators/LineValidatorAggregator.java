@@ -35,6 +35,14 @@ public class LineValidatorAggregator {
         }
     }
 
+    /**
+     * @return {@code true} if no validators have been added
+     * @since 5.5
+     */
+    public boolean isEmpty() {
+        return validators.isEmpty();
+    }
+
     /**
      * Runs all LineValidators' {@link LineValidator#isValid(String)} method against the line.
      * This is a short circuit: as soon as one validator returns {@code false}
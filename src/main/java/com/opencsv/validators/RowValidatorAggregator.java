@@ -35,6 +35,14 @@ public class RowValidatorAggregator {
         }
     }
 
+    /**
+     * @return {@code true} if no validators have been added
+     * @since 5.5
+     */
+    public boolean isEmpty() {
+        return validators.isEmpty();
+    }
+
     /**
      * Runs all {@link RowValidator}s' {@link RowValidator#isValid(String[])}
      * method against the line.
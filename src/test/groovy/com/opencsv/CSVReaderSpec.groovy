@@ -16,6 +16,7 @@ class CSVReaderSpec extends Specification {
         BufferedReader br = Stub(BufferedReader.class)
         IOException ioe = exceptionClass.equals(MalformedInputException.class) ? new MalformedInputException(128) : exceptionClass.newInstance()
         br.read() >> { throw ioe }
+        br.read(_ as char[], _ as int, _ as int) >> { throw ioe }
         CSVReaderBuilder builder = new CSVReaderBuilder(br)
         CSVReader reader = builder.build()
         boolean isCaught = "will".equals(will)
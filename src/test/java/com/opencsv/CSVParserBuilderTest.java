@@ -4,7 +4,10 @@ import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class CSVParserBuilderTest {
 
@@ -99,6 +102,20 @@ public class CSVParserBuilderTest {
        assertEquals(expected, builder.build().isIgnoreLeadingWhiteSpace());
    }
 
+   @Test
+   public void testWithColumnProjection() {
+      assertNull(builder.getColumnProjection());
+      assertNull(builder.build().getColumnProjection());
+      builder.withColumnProjection(1, 3);
+      BitSet expected = new BitSet();
+      expected.set(1);
+      expected.set(3);
+      assertEquals(expected, builder.getColumnProjection());
+      assertEquals(expected, builder.build().getColumnProjection());
+      builder.withColumnProjection();
+      assertNull(builder.getColumnProjection());
+   }
+
    @Test
    public void testWithIgnoreQuotations() {
       final boolean expected = true;
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.*;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -951,4 +952,88 @@ public class CSVParserTest {
 
         }
     }
+
+    @Test
+    public void projectionReturnsOnlyProjectedColumns() throws IOException {
+        csvParser = new CSVParserBuilder().withColumnProjection(0, 2).build();
+        String[] nextLine = csvParser.parseLine("a,\"b,\"\"b\"\"\",c,d");
+        assertArrayEquals(new String[]{"a", null, "c", null}, nextLine);
+    }
+
+    @Test
+    public void projectionFollowsColumnsAcrossLines() throws IOException {
+        csvParser.setColumnProjection(BitSet.valueOf(new long[]{0b1010}));
+        String[] firstPart = csvParser.parseLineMulti("a,\"b");
+        assertArrayEquals(new String[]{null}, firstPart);
+        assertTrue(csvParser.isPending());
+        String[] secondPart = csvParser.parseLineMulti("b\",c,d");
+        assertArrayEquals(new String[]{"b\nb", null, "d"}, secondPart);
+        csvParser.setColumnProjection(null);
+        assertNull(csvParser.getColumnProjection());
+        assertArrayEquals(new String[]{"a", "b"}, csvParser.parseLine("a,b"));
+    }
+
+    @Test
+    public void longRunsOfPlainTextAroundStructuralCharacters() throws IOException {
+        String[] nextLine = csvParser.parseLine("plain text run,\"quoted text, with separator\",text \\\"escaped quote\\\" inside,emb\"edd\"ed");
+        assertArrayEquals(new String[]{"plain text run", "quoted text, with separator", "text \"escaped quote\" inside", "emb\"edd\"ed"}, nextLine);
+
+        csvParser = new CSVParserBuilder().withStrictQuotes(true).build();
+        nextLine = csvParser.parseLine("dropped text\"kept text\"dropped again,\"kept, too\"");
+        assertArrayEquals(new String[]{"kept text", "kept, too"}, nextLine);
+    }
+
+    @Test
+    public void runsOfPlainTextContinuePendingFields() throws IOException {
+        assertArrayEquals(new String[]{"first run"}, csvParser.parseLineMulti("first run,\"quoted run"));
+        assertTrue(csvParser.isPending());
+        assertArrayEquals(new String[0], csvParser.parseLineMulti("continued run"));
+        assertTrue(csvParser.isPending());
+        String[] nextLine = csvParser.parseLineMulti("last run\",tail run");
+        assertArrayEquals(new String[]{"quoted run\ncontinued run\nlast run", "tail run"}, nextLine);
+        assertFalse(csvParser.isPending());
+    }
+
+    @Test
+    public void runsOfPlainTextWithLeadingWhiteSpace() throws IOException {
+        String line = "  leading run,   \"quoted run\",  text \"in\" run  ,\t tab run";
+        csvParser = new CSVParserBuilder().withIgnoreLeadingWhiteSpace(true).build();
+        assertArrayEquals(new String[]{"  leading run", "quoted run", "  text \"in\" run  ", "\t tab run"},
+                csvParser.parseLine(line));
+
+        csvParser = new CSVParserBuilder().withIgnoreLeadingWhiteSpace(false).build();
+        assertArrayEquals(new String[]{"  leading run", "   \"quoted run", "  text \"in\" run  ", "\t tab run"},
+                csvParser.parseLine(line));
+    }
+
+    @Test
+    public void runsOfPlainTextWhenIgnoringQuotations() throws IOException {
+        csvParser = new CSVParserBuilder().withIgnoreQuotations(true).build();
+        String[] nextLine = csvParser.parseLine("run \"quoted, run\" after,\"\"\"run,plain");
+        assertArrayEquals(new String[]{"run \"quoted", " run\" after", "\"run", "plain"}, nextLine);
+
+        nextLine = csvParser.parseLineMulti("run \"open quote");
+        assertArrayEquals(new String[]{"run \"open quote"}, nextLine);
+        assertFalse(csvParser.isPending());
+    }
+
+    @Test
+    public void runsOfPlainTextEndingInAnEscapeCharacter() throws IOException {
+        String[] nextLine = csvParser.parseLine("run\\\"after,run\\\\,run\\x,\"in quotes\\\"run\"");
+        assertArrayEquals(new String[]{"run\"after", "run\\", "runx", "in quotes\"run"}, nextLine);
+
+        nextLine = csvParser.parseLine("run at end\\");
+        assertArrayEquals(new String[]{"run at end"}, nextLine);
+    }
+
+    @Test
+    public void runsOfPlainTextEndAtALetterSeparator() throws IOException {
+        csvParser = new CSVParserBuilder().withSeparator('a').build();
+        String[] nextLine = csvParser.parseLine("banana\"a quoted a\"split");
+        assertArrayEquals(new String[]{"b", "n", "n", "a quoted asplit"}, nextLine);
+
+        csvParser = new CSVParserBuilder().withSeparator('a').withStrictQuotes(true).build();
+        nextLine = csvParser.parseLine("xbanana\"quoted a\"bx");
+        assertArrayEquals(new String[]{"", "", "", "quoted a"}, nextLine);
+    }
 }
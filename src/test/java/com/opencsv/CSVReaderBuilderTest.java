@@ -4,6 +4,7 @@ import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.junit.jupiter.api.*;
 
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 import static org.junit.Assert.*;
@@ -41,6 +42,7 @@ public class CSVReaderBuilderTest {
             CSVReader.DEFAULT_SKIP_LINES,
               builder.getSkipLines());
       assertEquals(0, builder.getMultilineLimit());
+      assertFalse(builder.isUseCharBufferTokenizer());
 
       final CSVReader csvReader = builder.build();
        assertEquals(
@@ -50,6 +52,14 @@ public class CSVReaderBuilderTest {
        assertEquals(CSVReader.DEFAULT_VERIFY_READER, csvReader.verifyReader());
        assertEquals(CSVReader.DEFAULT_MULTILINE_LIMIT, csvReader.getMultilineLimit());
        assertEquals(Locale.getDefault(), csvReader.errorLocale);
+       assertNull(csvReader.tokenizer);
+   }
+
+   @Test
+   public void testWithCharBufferTokenizer() {
+       final CSVReader csvReader = builder.withCharBufferTokenizer(true).build();
+       assertTrue(builder.isUseCharBufferTokenizer());
+       assertNotNull(csvReader.tokenizer);
    }
 
     @Test
@@ -59,6 +69,13 @@ public class CSVReaderBuilderTest {
         });
    }
 
+    @Test
+   public void testNullInputStream() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            builder = new CSVReaderBuilder(null, StandardCharsets.UTF_8);
+        });
+   }
+
    @Test
    public void testWithCSVParserNull() {
       builder.withCSVParser(mock(CSVParser.class));
@@ -26,6 +26,7 @@ import java.io.*;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Locale;
 
 import static org.junit.Assert.*;
@@ -767,4 +768,53 @@ public class CSVReaderTest {
         assertArrayEquals(peeked, csvr.readNext());
         assertNotSame(peeked[1], csvr.readNext()[1]);
     }
+
+    @Test
+    public void closedReaderEndsInputWhenReaderIsVerified() throws IOException, CsvValidationException {
+        StringReader sr = new StringReader("a,b\nc,d\n");
+        CSVReader reader = new CSVReaderBuilder(sr).build();
+        sr.close();
+        assertNull(reader.readNext());
+        assertEquals(0, reader.getLinesRead());
+
+        StringReader unverified = new StringReader("a,b\nc,d\n");
+        CSVReader unverifiedReader = new CSVReaderBuilder(unverified).withVerifyReader(false).build();
+        unverified.close();
+        Assertions.assertThrows(IOException.class, unverifiedReader::readNext);
+    }
+
+    @Test
+    public void codingErrorsArePassedOutEvenWhenReaderIsVerified() {
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw new CharConversionException();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        CSVReader reader = new CSVReaderBuilder(failing).build();
+        Assertions.assertThrows(CharConversionException.class, reader::readNext);
+    }
+
+    @Test
+    public void columnProjectionKeepsColumnIndexes() throws IOException, CsvException {
+        String input = "a,\"b\nb\",c,d\ne,f,\"g\"\"\",h\n";
+        ICSVParser[] parsers = {new CSVParser(), new RFC4180Parser()};
+        for (ICSVParser parser : parsers) {
+            for (boolean useTokenizer : new boolean[]{false, true}) {
+                CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                        .withCSVParser(parser)
+                        .withCharBufferTokenizer(useTokenizer)
+                        .withColumnProjection(1, 2)
+                        .build();
+                List<String[]> lines = reader.readAll();
+                assertEquals(2, lines.size());
+                assertArrayEquals(new String[]{null, "b\nb", "c", null}, lines.get(0));
+                assertArrayEquals(new String[]{null, "f", "g\"", null}, lines.get(1));
+            }
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package com.opencsv;
+
+import com.opencsv.bean.BeanField;
+import com.opencsv.bean.CsvToBean;
+import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.bean.StatefulBeanToCsv;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.bean.mocks.SingleNumber;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvMetricsListenerTest {
+
+    private static final String MULTILINE_INPUT = "skip me\na,b\n\"multi\nline\",c\n";
+
+    private static class RecordingListener implements CsvMetricsListener {
+        final List<Long> recordLines = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> recordInput = Collections.synchronizedList(new ArrayList<>());
+        final Map<String, AtomicInteger> fieldsRead = new ConcurrentHashMap<>();
+        final AtomicInteger fieldsWritten = new AtomicInteger();
+        final AtomicInteger beansRead = new AtomicInteger();
+        final AtomicInteger beansWritten = new AtomicInteger();
+        final AtomicInteger queueDepths = new AtomicInteger();
+        final List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void recordRead(long lines, long input, long parseNanos) {
+            assertTrue(parseNanos >= 0);
+            recordLines.add(lines);
+            recordInput.add(input);
+        }
+
+        @Override
+        public void fieldRead(BeanField<?, ?> field, long nanos) {
+            fieldsRead.computeIfAbsent(field.getField().getName(), k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void fieldWritten(BeanField<?, ?> field, long nanos) {
+            fieldsWritten.incrementAndGet();
+        }
+
+        @Override
+        public void beanRead(long nanos) {
+            beansRead.incrementAndGet();
+        }
+
+        @Override
+        public void beanWritten(long nanos) {
+            beansWritten.incrementAndGet();
+        }
+
+        @Override
+        public void queueDepth(int pendingTasks, int pendingResults) {
+            assertTrue(pendingTasks >= 0 && pendingResults >= 0);
+            queueDepths.incrementAndGet();
+        }
+
+        @Override
+        public void exceptionCaught(Exception e) {
+            exceptions.add(e);
+        }
+    }
+
+    private static long sum(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Test
+    public void readerReportsLinesAndInputOfEveryRecord() throws IOException, CsvException {
+        for (boolean useTokenizer : new boolean[]{false, true}) {
+            RecordingListener listener = new RecordingListener();
+            CSVReader reader = new CSVReaderBuilder(new StringReader(MULTILINE_INPUT))
+                    .withSkipLines(1)
+                    .withCharBufferTokenizer(useTokenizer)
+                    .withMetricsListener(listener)
+                    .build();
+            assertSame(listener, reader.getMetricsListener());
+            assertEquals(2, reader.readAll().size());
+            assertEquals(Arrays.asList(1L, 2L), listener.recordLines, "Tokenizer " + useTokenizer);
+            assertEquals(MULTILINE_INPUT.length(), sum(listener.recordInput), "Tokenizer " + useTokenizer);
+            assertTrue(listener.exceptions.isEmpty());
+        }
+    }
+
+    @Test
+    public void byteTokenizerReportsBytes() throws IOException, CsvException {
+        RecordingListener listener = new RecordingListener();
+        String input = "ä,b\nc,d\n";
+        CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                .withCharBufferTokenizer(true)
+                .withMetricsListener(listener)
+                .build();
+        assertEquals(2, reader.readAll().size());
+        assertEquals(Arrays.asList(1L, 1L), listener.recordLines);
+        assertEquals(input.getBytes(StandardCharsets.UTF_8).length, sum(listener.recordInput));
+    }
+
+    @Test
+    public void readerReportsExceptions() {
+        RecordingListener listener = new RecordingListener();
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b\nc,\"d\n"))
+                .withMetricsListener(listener)
+                .build();
+        assertThrows(CsvMalformedLineException.class, reader::readAll);
+        assertEquals(1, listener.recordLines.size());
+        assertEquals(1, listener.exceptions.size());
+        assertTrue(listener.exceptions.get(0) instanceof CsvMalformedLineException);
+    }
+
+    @Test
+    public void csvToBeanReportsBeansFieldsAndExceptions() {
+        for (boolean iterate : new boolean[]{false, true}) {
+            RecordingListener listener = new RecordingListener();
+            CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader("number\n1\nx\n3\n"))
+                    .withType(SingleNumber.class)
+                    .withThrowExceptions(false)
+                    .withMetricsListener(listener)
+                    .build();
+            List<SingleNumber> beans = new ArrayList<>();
+            if (iterate) {
+                csvToBean.iterator().forEachRemaining(beans::add);
+            } else {
+                beans.addAll(csvToBean.parse());
+            }
+            assertEquals(2, beans.size());
+            assertEquals(2, listener.beansRead.get());
+            assertEquals(2, listener.fieldsRead.get("number").get());
+            assertEquals(4, listener.recordLines.size());
+            assertEquals(iterate ? 0 : 3, listener.queueDepths.get());
+            assertEquals(1, listener.exceptions.size());
+            assertTrue(listener.exceptions.get(0) instanceof CsvDataTypeMismatchException);
+        }
+    }
+
+    @Test
+    public void statefulBeanToCsvReportsBeansAndFields() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        RecordingListener listener = new RecordingListener();
+        StatefulBeanToCsv<SingleNumber> beanToCsv = new StatefulBeanToCsvBuilder<SingleNumber>(new StringWriter())
+                .withMetricsListener(listener)
+                .build();
+        SingleNumber bean = new SingleNumber();
+        beanToCsv.write(bean);
+        beanToCsv.write(Arrays.asList(bean, bean));
+        assertEquals(3, listener.beansWritten.get());
+        assertEquals(3, listener.fieldsWritten.get());
+        assertEquals(2, listener.queueDepths.get());
+        assertTrue(listener.exceptions.isEmpty());
+    }
+}
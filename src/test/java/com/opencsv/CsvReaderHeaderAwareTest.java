@@ -195,10 +195,28 @@ public class CsvReaderHeaderAwareTest {
         ICSVParser parser = mock(ICSVParser.class);
         when(parser.parseLineMulti(anyString())).thenReturn(new String[]{"myHeader"});
         CSVReaderHeaderAware reader = new CSVReaderHeaderAware(createReader(), 0, parser, false, false, 1, Locale.getDefault(),
-                new LineValidatorAggregator(), new RowValidatorAggregator());
+                new LineValidatorAggregator(), new RowValidatorAggregator(), false, null);
         assertThat(reader.readMap().keySet().iterator().next(), is("myHeader"));
     }
 
+    @Test
+    public void shouldOnlyReadProjectedHeaders() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = (CSVReaderHeaderAware) new CSVReaderHeaderAwareBuilder(createReader())
+                .withHeaderProjection("third")
+                .withColumnProjection(0)
+                .build();
+        Map<String, String> mappedLine = reader.readMap();
+        assertEquals("a", mappedLine.get("first"));
+        assertNull(mappedLine.get("second"));
+        assertEquals("c", mappedLine.get("third"));
+    }
+
+    @Test
+    public void shouldRejectUnknownProjectedHeader() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CSVReaderHeaderAwareBuilder(createReader()).withHeaderProjection("fourth").build());
+    }
+
     private StringReader createReader() {
         StringBuilder sb = new StringBuilder(ICSVParser.INITIAL_READ_SIZE);
         sb.append("first,second,third\n");
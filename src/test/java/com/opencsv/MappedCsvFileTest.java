@@ -0,0 +1,199 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedCsvFileTest {
+
+    private static Path writeTempFile(String contents, Charset charset) throws IOException {
+        File file = File.createTempFile("mappedCsvFileTest", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), contents.getBytes(charset));
+        return file.toPath();
+    }
+
+    private static String generateInput(String lineEnding) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append(i).append(',');
+            switch (i % 5) {
+                case 0:
+                    sb.append("\"multi").append(lineEnding).append("line,").append(lineEnding).append("\"\"field\"\"\"");
+                    break;
+                case 1:
+                    sb.append("\"").append(lineEnding).append("\"");
+                    break;
+                case 2:
+                    sb.append("äöü €");
+                    break;
+                case 3:
+                    sb.append("\"quoted\"");
+                    break;
+                default:
+                    break;
+            }
+            sb.append(",end").append(lineEnding);
+            if (i % 17 == 0) {
+                sb.append(lineEnding);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String[]> readWithCsvReader(String input) throws IOException, CsvException {
+        return readWithCsvReader(input, 0);
+    }
+
+    private static List<String[]> readWithCsvReader(String input, int skipLines) throws IOException, CsvException {
+        try (CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                .withCharBufferTokenizer(true)
+                .withSkipLines(skipLines)
+                .build()) {
+            return reader.readAll();
+        }
+    }
+
+    private static void assertSameRecords(List<String[]> expected, List<String[]> actual, String message) {
+        assertEquals(expected.size(), actual.size(), "Number of records, " + message);
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "Record " + i + ", " + message);
+        }
+    }
+
+    @Test
+    public void parallelStreamMatchesCsvReaderForAnyNumberOfChunks() throws IOException, CsvException {
+        for (String lineEnding : new String[]{"\n", "\r\n"}) {
+            String input = generateInput(lineEnding);
+            Path path = writeTempFile(input, StandardCharsets.UTF_8);
+            List<String[]> expected = readWithCsvReader(input);
+            for (int chunks = 1; chunks <= 20; chunks++) {
+                try (MappedCsvFile file = new MappedCsvFileBuilder(path).withChunkCount(chunks).build()) {
+                    assertTrue(file.getChunkCount() <= chunks);
+                    List<String[]> actual = file.stream(true).collect(Collectors.toList());
+                    assertSameRecords(expected, actual, chunks + " chunks");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void chunksMayBeginInsideQuotes() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append(i).append(",\"");
+            for (int j = 0; j < 10; j++) {
+                sb.append("line ").append(j).append('\n');
+            }
+            sb.append("\"\n");
+        }
+        String input = sb.toString();
+        Path path = writeTempFile(input, StandardCharsets.UTF_8);
+        try (MappedCsvFile file = new MappedCsvFileBuilder(path).withChunkCount(37).build()) {
+            assertTrue(file.getChunkCount() <= 50);
+            assertSameRecords(readWithCsvReader(input), file.stream(false).collect(Collectors.toList()), "sequential");
+        }
+    }
+
+    @Test
+    public void skippedLinesMatchCsvReader() throws IOException, CsvException {
+        for (String lineEnding : new String[]{"\n", "\r\n", "\r"}) {
+            String input = "header 1\r" + lineEnding + "header 2" + lineEnding + generateInput(lineEnding);
+            Path path = writeTempFile(input, StandardCharsets.UTF_8);
+            for (int skipLines : new int[]{1, 2, 3, 4, 1000}) {
+                List<String[]> expected = readWithCsvReader(input, skipLines);
+                for (int chunks : new int[]{1, 7}) {
+                    try (MappedCsvFile file = new MappedCsvFileBuilder(path)
+                            .withSkipLines(skipLines)
+                            .withChunkCount(chunks)
+                            .build()) {
+                        assertSameRecords(expected, file.stream(true).collect(Collectors.toList()),
+                                skipLines + " lines skipped, " + chunks + " chunks");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void skippedLinesAreCountedInLineNumbers() throws IOException {
+        Path path = writeTempFile("a,b\n1,2\n3,\"unterminated\n", StandardCharsets.UTF_8);
+        try (MappedCsvFile file = new MappedCsvFileBuilder(path).withSkipLines(1).withErrorLocale(Locale.US).build()) {
+            UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                    () -> file.stream(false).forEachOrdered(r -> {}));
+            assertTrue(e.getCause() instanceof CsvMalformedLineException);
+            assertEquals(3, ((CsvMalformedLineException) e.getCause()).getLineNumber());
+        }
+    }
+
+    @Test
+    public void emptyFile() throws IOException {
+        Path path = writeTempFile("", StandardCharsets.UTF_8);
+        try (MappedCsvFile file = new MappedCsvFileBuilder(path).build()) {
+            assertEquals(0, file.getChunkCount());
+            assertEquals(0, file.stream(true).count());
+        }
+    }
+
+    @Test
+    public void settingsAreTakenFromParser() throws IOException {
+        Path path = writeTempFile("a;'b;c';d\r\n1;;3\r\n", StandardCharsets.ISO_8859_1);
+        RFC4180Parser parser = new RFC4180ParserBuilder()
+                .withSeparator(';')
+                .withQuoteChar('\'')
+                .build();
+        parser.setColumnProjection(CSVParserBuilder.toBitSet(new int[]{1, 2}));
+        try (MappedCsvFile file = new MappedCsvFileBuilder(path)
+                .withCharset(StandardCharsets.ISO_8859_1)
+                .withCSVParser(parser)
+                .build()) {
+            List<String[]> records = file.stream(false).collect(Collectors.toList());
+            assertEquals(2, records.size());
+            assertArrayEquals(new String[]{null, "b;c", "d"}, records.get(0));
+            assertArrayEquals(new String[]{null, "", "3"}, records.get(1));
+        }
+    }
+
+    @Test
+    public void unterminatedQuoteReportsLineNumberAcrossChunks() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append(i).append(",\"two\nlines\"\n");
+        }
+        sb.append("100,\"unterminated\n");
+        Path path = writeTempFile(sb.toString(), StandardCharsets.UTF_8);
+        try (MappedCsvFile file = new MappedCsvFileBuilder(path).withChunkCount(8).withErrorLocale(Locale.US).build()) {
+            assertTrue(file.getChunkCount() > 1);
+            UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                    () -> file.stream(true).forEachOrdered(r -> {}));
+            assertTrue(e.getCause() instanceof CsvMalformedLineException);
+            assertEquals(201, ((CsvMalformedLineException) e.getCause()).getLineNumber());
+        }
+    }
+
+    @Test
+    public void unsupportedCharsetIsRejected() throws IOException {
+        Path path = writeTempFile("a,b\n", StandardCharsets.UTF_16);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedCsvFileBuilder(path).withCharset(StandardCharsets.UTF_16).build());
+    }
+
+    @Test
+    public void nullPathIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedCsvFileBuilder(null));
+    }
+}
@@ -16,7 +16,9 @@ package com.opencsv.bean;
  limitations under the License.
  */
 
+import com.opencsv.bean.mocks.MinimalCsvBindByPositionBeanForWriting;
 import com.opencsv.bean.mocks.MockBean;
+import com.opencsv.exceptions.CsvException;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Locale;
 
@@ -94,6 +97,47 @@ public class ColumnPositionMappingStrategyTest {
       assertEquals(1, bean.getNum());
    }
 
+   @Test
+   public void testColumnMappingWithGaps() throws CsvException {
+      strat.setColumnMapping("name", null, "id");
+
+      List<MockBean> list = new CsvToBeanBuilder<MockBean>(new StringReader("kyle,123456,emp123,1\n"))
+              .withMappingStrategy(strat)
+              .build().parse();
+      assertEquals(1, list.size());
+      MockBean bean = list.get(0);
+      assertEquals("kyle", bean.getName());
+      assertNull(bean.getOrderNumber());
+      assertEquals("emp123", bean.getId());
+      assertEquals(0, bean.getNum());
+
+      StringWriter w = new StringWriter();
+      new StatefulBeanToCsvBuilder<MockBean>(w)
+              .withMappingStrategy(strat)
+              .withApplyQuotesToAll(false)
+              .build().write(bean);
+      assertEquals("kyle,,emp123\n", w.toString());
+   }
+
+   @Test
+   public void testAnnotatedPositionsWithGaps() throws CsvException {
+      List<MinimalCsvBindByPositionBeanForWriting> list = new CsvToBeanBuilder<MinimalCsvBindByPositionBeanForWriting>(
+              new StringReader("0,1,2,3,4\n"))
+              .withType(MinimalCsvBindByPositionBeanForWriting.class)
+              .build().parse();
+      assertEquals(1, list.size());
+      MinimalCsvBindByPositionBeanForWriting bean = list.get(0);
+      assertEquals(1, bean.getB());
+      assertEquals(2, bean.getC());
+      assertEquals(3, bean.getA());
+
+      StringWriter w = new StringWriter();
+      new StatefulBeanToCsvBuilder<MinimalCsvBindByPositionBeanForWriting>(w)
+              .withApplyQuotesToAll(false)
+              .build().write(bean);
+      assertEquals(",1,2,3\n", w.toString());
+   }
+
    @Test
    public void testParseEmptyInput() {
       String[] columns = new String[]{"name", "orderNumber", "id", "num"};
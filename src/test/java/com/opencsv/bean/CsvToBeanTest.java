@@ -4,11 +4,23 @@ import static org.junit.Assert.*;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -612,4 +624,285 @@ public class CsvToBeanTest {
             assertEquals(expectedString, e.getMessage());
         }
     }
+
+    @Test
+    public void orderIsKeptAcrossGapsInLargeInput() {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < 20000; i++) {
+            // Every seventh number is negative and rejected by the verifier,
+            // every odd number is filtered out by it.
+            sb.append(i % 7 == 0 ? -i - 1 : i).append('\n');
+        }
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(sb.toString()))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .withThrowExceptions(false)
+                .withOrderedResults(true)
+                .build();
+        List<SingleNumber> beans = csvToBean.parse();
+        int expected = 0;
+        for (SingleNumber bean : beans) {
+            while (expected % 7 == 0 || expected % 2 != 0) {
+                expected++;
+            }
+            assertEquals(expected++, bean.getNumber());
+        }
+        assertEquals(20000 / 7 + 1, csvToBean.getCapturedExceptions().size());
+    }
+
+    @Test
+    public void streamWithCapacityDoesNotReadAhead() {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i % 7 == 0 ? -i - 1 : i).append('\n');
+        }
+        for (boolean ordered : new boolean[]{true, false}) {
+            CSVReader reader = new CSVReader(new StringReader(sb.toString()));
+            CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(reader)
+                    .withType(SingleNumber.class)
+                    .withVerifier(new PositiveEvensOnly())
+                    .withThrowExceptions(false)
+                    .withOrderedResults(ordered)
+                    .withQueueCapacity(16)
+                    .build();
+            Iterator<SingleNumber> beans = csvToBean.stream().iterator();
+            for (int i = 0; i < 10; i++) {
+                assertTrue(beans.hasNext());
+                beans.next();
+            }
+            // Every bean consumed frees a slot, and so does every record
+            // discarded on the way, but the reader may never get further
+            // than the capacity ahead of what has been consumed or discarded.
+            assertTrue(reader.getRecordsRead() < 20000);
+
+            List<Integer> numbers = new ArrayList<>();
+            beans.forEachRemaining(b -> numbers.add(b.getNumber()));
+            assertEquals(20000 / 2 - (20000 / 14 + 1) - 10, numbers.size());
+            if (ordered) {
+                for (int i = 1; i < numbers.size(); i++) {
+                    assertTrue(numbers.get(i - 1) < numbers.get(i));
+                }
+            }
+            assertEquals(20000 / 7 + 1, csvToBean.getCapturedExceptions().size());
+        }
+    }
+
+    @Test
+    public void closingStreamWithCapacityStopsReading() {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i).append('\n');
+        }
+        CSVReader reader = new CSVReader(new StringReader(sb.toString()));
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(reader)
+                .withType(SingleNumber.class)
+                .withQueueCapacity(8)
+                .build();
+        try (Stream<SingleNumber> beans = csvToBean.stream()) {
+            assertEquals(5, beans.limit(5).count());
+        }
+        assertTrue(reader.getRecordsRead() < 20000);
+    }
+
+    @Test
+    public void waitingForSlowInputDoesNotSpin() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (boolean ordered : new boolean[]{true, false}) {
+            // Hands out two characters every 50 milliseconds, and never
+            // has more ready.
+            Reader slowReader = new StringReader("number\n1\n2\n3\n4\n5\n6\n") {
+                @Override
+                public boolean ready() {
+                    return false;
+                }
+
+                @Override
+                public int read(char[] cbuf, int off, int len) throws IOException {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return super.read(cbuf, off, Math.min(len, 2));
+                }
+            };
+            CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(slowReader)
+                    .withType(SingleNumber.class)
+                    .withOrderedResults(ordered)
+                    .build();
+            Stream<SingleNumber> beans = csvToBean.stream();
+            long wallStart = System.nanoTime();
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            List<Integer> numbers = beans.map(SingleNumber::getNumber).collect(Collectors.toList());
+            long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+            long wall = System.nanoTime() - wallStart;
+            assertEquals(6, numbers.size());
+            assertTrue("Consumer used " + cpu + " ns of CPU in " + wall + " ns", cpu < wall / 2);
+        }
+    }
+
+    @Test
+    public void linesBeforeBlockingInputAreDelivered() throws InterruptedException {
+        for (boolean ordered : new boolean[]{true, false}) {
+            // Hands out five records and then blocks until the test is done.
+            CountDownLatch endOfInput = new CountDownLatch(1);
+            Reader blockingReader = new StringReader("number\n1\n2\n3\n4\n5\n") {
+                @Override
+                public boolean ready() {
+                    return false;
+                }
+
+                @Override
+                public int read(char[] cbuf, int off, int len) throws IOException {
+                    int read = super.read(cbuf, off, len);
+                    if (read < 0) {
+                        try {
+                            endOfInput.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                    }
+                    return read;
+                }
+            };
+            // Converting the first record slowly keeps its batch busy while
+            // the following records pile up behind it.
+            CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(blockingReader)
+                    .withType(SingleNumber.class)
+                    .withVerifier(bean -> {
+                        if (bean.getNumber() == 1) {
+                            try {
+                                Thread.sleep(200);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return true;
+                    })
+                    .withOrderedResults(ordered)
+                    .build();
+            Iterator<SingleNumber> beans = csvToBean.stream().iterator();
+            List<Integer> numbers = Collections.synchronizedList(new ArrayList<>());
+            Thread consumer = new Thread(() -> {
+                for (int i = 0; i < 5; i++) {
+                    numbers.add(beans.next().getNumber());
+                }
+            });
+            consumer.start();
+            try {
+                consumer.join(10000);
+                List<Integer> taken = new ArrayList<>(numbers);
+                if (!ordered) {
+                    taken.sort(null);
+                }
+                assertEquals(Arrays.asList(1, 2, 3, 4, 5), taken);
+            } finally {
+                endOfInput.countDown();
+            }
+            assertFalse(beans.hasNext());
+        }
+    }
+
+    @Test
+    public void parseWithParallelismAndExecutor() {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i % 7 == 0 ? -i - 1 : i).append('\n');
+        }
+        ForkJoinPool pool = new ForkJoinPool(2);
+        AtomicInteger jobs = new AtomicInteger();
+        Executor countingExecutor = job -> {
+            jobs.incrementAndGet();
+            pool.execute(job);
+        };
+        try {
+            for (int parallelism : new int[]{1, 2, -1}) {
+                for (boolean ordered : new boolean[]{true, false}) {
+                    jobs.set(0);
+                    CsvToBeanBuilder<SingleNumber> builder = new CsvToBeanBuilder<SingleNumber>(new StringReader(sb.toString()))
+                            .withType(SingleNumber.class)
+                            .withVerifier(new PositiveEvensOnly())
+                            .withThrowExceptions(false)
+                            .withOrderedResults(ordered);
+                    // -1 stands for the shared executor here.
+                    if (parallelism < 0) {
+                        builder.withExecutor(countingExecutor);
+                    } else {
+                        builder.withParallelism(parallelism);
+                    }
+                    CsvToBean<SingleNumber> csvToBean = builder.build();
+                    List<Integer> numbers = csvToBean.parse().stream()
+                            .map(SingleNumber::getNumber)
+                            .collect(Collectors.toList());
+                    if (!ordered) {
+                        numbers.sort(null);
+                    }
+                    List<Integer> expected = new ArrayList<>();
+                    for (int i = 0; i < 5000; i++) {
+                        if (i % 7 != 0 && i % 2 == 0) {
+                            expected.add(i);
+                        }
+                    }
+                    String context = "Parallelism " + parallelism + ", ordered " + ordered;
+                    assertEquals(context, expected, numbers);
+                    assertEquals(context, 5000 / 7 + 1, csvToBean.getCapturedExceptions().size());
+                    if (parallelism < 0) {
+                        // Records are converted in batches.
+                        assertTrue(context, jobs.get() > 0 && jobs.get() <= 5000);
+                    } else {
+                        assertEquals(context, 0, jobs.get());
+                    }
+                }
+            }
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void parseInBatches() {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < 3000; i++) {
+            sb.append(i % 7 == 0 ? "x" : String.valueOf(i)).append('\n');
+        }
+        for (int batchSize : new int[]{1, 3, 100, 4096}) {
+            for (boolean ordered : new boolean[]{true, false}) {
+                for (int capacity : new int[]{0, 5}) {
+                    String context = "Batch size " + batchSize + ", ordered " + ordered + ", capacity " + capacity;
+                    CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(sb.toString()))
+                            .withType(SingleNumber.class)
+                            .withVerifier(new PositiveEvensOnly())
+                            .withThrowExceptions(false)
+                            .withOrderedResults(ordered)
+                            .withQueueCapacity(capacity)
+                            .withBatchSize(batchSize)
+                            .build();
+                    List<Integer> numbers = csvToBean.stream()
+                            .map(SingleNumber::getNumber)
+                            .collect(Collectors.toList());
+                    if (!ordered) {
+                        numbers.sort(null);
+                    }
+                    List<Integer> expected = new ArrayList<>();
+                    List<Long> expectedLines = new ArrayList<>();
+                    for (int i = 0; i < 3000; i++) {
+                        if (i % 7 == 0) {
+                            expectedLines.add(i + 2L);
+                        } else if (i % 2 == 0) {
+                            expected.add(i);
+                        }
+                    }
+                    assertEquals(context, expected, numbers);
+                    List<Long> lines = csvToBean.getCapturedExceptions().stream()
+                            .map(CsvException::getLineNumber)
+                            .collect(Collectors.toList());
+                    if (!ordered) {
+                        lines.sort(null);
+                    }
+                    assertEquals(context, expectedLines, lines);
+                }
+            }
+        }
+    }
 }
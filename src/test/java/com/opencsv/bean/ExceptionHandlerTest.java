@@ -5,6 +5,7 @@ import com.opencsv.bean.exceptionhandler.ExceptionHandlerIgnore;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerIgnoreThenThrowAfter;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerQueueThenThrowAfter;
 import com.opencsv.bean.mocks.AnnotatedMockBeanFull;
+import com.opencsv.bean.mocks.SingleNumber;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
@@ -17,6 +18,8 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.Assert.*;
 
@@ -302,4 +305,39 @@ public class ExceptionHandlerTest {
             assertFalse(capturedExceptions.isEmpty());
         }
     }
+
+    @Test
+    public void testReadWithQueueThenThrowHandlerCapturesEveryQueuedException() {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < 2000; i++) {
+            sb.append("x\n");
+        }
+        for (boolean ordered : new boolean[]{true, false}) {
+            for (int run = 0; run < 20; run++) {
+                ExceptionHandlerQueueThenThrowAfter limit = new ExceptionHandlerQueueThenThrowAfter(50);
+                Set<CsvException> queued = ConcurrentHashMap.newKeySet();
+                CsvToBean<SingleNumber> ctb = new CsvToBeanBuilder<SingleNumber>(new StringReader(sb.toString()))
+                        .withType(SingleNumber.class)
+                        .withOrderedResults(ordered)
+                        .withParallelism(4)
+                        .withBatchSize(4)
+                        .withExceptionHandler(e -> {
+                            CsvException captured = limit.handleException(e);
+                            queued.add(captured);
+                            return captured;
+                        })
+                        .build();
+                try {
+                    ctb.parse();
+                    fail("CsvException should have been thrown.");
+                } catch (RuntimeException re) {
+                    assertTrue(re.getCause() instanceof CsvException);
+                    List<CsvException> capturedExceptions = ctb.getCapturedExceptions();
+                    assertEquals(50, queued.size());
+                    assertTrue("Ordered " + ordered + ", run " + run,
+                            capturedExceptions.containsAll(queued));
+                }
+            }
+        }
+    }
 }
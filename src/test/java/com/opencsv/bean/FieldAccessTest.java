@@ -0,0 +1,159 @@
+package com.opencsv.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that {@link FieldAccess} reaches member variables the same way
+ * reflection did before it used method handles.
+ */
+public class FieldAccessTest {
+
+    private static class PrivateFields {
+        private int number;
+        private String text;
+        private double fraction;
+        private boolean flag;
+    }
+
+    private static class PrimitiveAccessors {
+        private long total;
+        private int setterCalls = 0;
+        private int optional;
+
+        public void setTotal(long total) {
+            setterCalls++;
+            this.total = total;
+        }
+
+        public void setOptional(Optional<Integer> optional) {
+            this.optional = optional.orElse(-1);
+        }
+    }
+
+    private static class Accessors {
+        private String name;
+        private Optional<Integer> count = Optional.empty();
+        private Integer wrapped;
+        private int getterCalls = 0;
+
+        public String getName() {
+            getterCalls++;
+            return name;
+        }
+
+        public Accessors setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Optional<Integer> getWrapped() {
+            return Optional.ofNullable(wrapped);
+        }
+
+        public void setWrapped(Optional<Integer> wrapped) {
+            this.wrapped = wrapped.orElse(null);
+        }
+
+        public Optional<Integer> getCount() {
+            return count;
+        }
+
+        public void setCount(Optional<Integer> count) {
+            if(count == null) {
+                throw new IllegalStateException();
+            }
+            this.count = count;
+        }
+    }
+
+    private static <T> FieldAccess<T> access(Class<?> type, String name) throws NoSuchFieldException {
+        return new FieldAccess<>(type.getDeclaredField(name));
+    }
+
+    @Test
+    public void testPrivateFieldsWithoutAccessors() throws ReflectiveOperationException {
+        PrivateFields bean = new PrivateFields();
+        FieldAccess<Object> number = access(PrivateFields.class, "number");
+        FieldAccess<Object> text = access(PrivateFields.class, "text");
+        number.setField(bean, 42);
+        text.setField(bean, "forty-two");
+        assertEquals(42, bean.number);
+        assertEquals(42, number.getField(bean));
+        assertEquals("forty-two", text.getField(bean));
+        text.setField(bean, null);
+        assertNull(text.getField(bean));
+    }
+
+    @Test
+    public void testAccessorsAreUsed() throws ReflectiveOperationException {
+        Accessors bean = new Accessors();
+        FieldAccess<Object> name = access(Accessors.class, "name");
+        name.setField(bean, "opencsv");
+        assertEquals("opencsv", name.getField(bean));
+        assertEquals(1, bean.getterCalls);
+    }
+
+    @Test
+    public void testOptionalAccessorsAreWrappedAndUnwrapped() throws ReflectiveOperationException {
+        Accessors bean = new Accessors();
+        FieldAccess<Object> wrapped = access(Accessors.class, "wrapped");
+        assertNull(wrapped.getField(bean));
+        wrapped.setField(bean, 7);
+        assertEquals(Integer.valueOf(7), bean.wrapped);
+        assertEquals(7, wrapped.getField(bean));
+        wrapped.setField(bean, null);
+        assertNull(bean.wrapped);
+    }
+
+    @Test
+    public void testExceptionsFromAccessorsAreWrapped() throws NoSuchFieldException {
+        FieldAccess<Object> count = access(Accessors.class, "count");
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> count.setField(new Accessors(), null));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testMismatchedValuesAreRejected() throws NoSuchFieldException {
+        PrivateFields fields = new PrivateFields();
+        FieldAccess<Object> number = access(PrivateFields.class, "number");
+        assertThrows(IllegalArgumentException.class, () -> number.setField(fields, "42"));
+        assertThrows(IllegalArgumentException.class, () -> number.setField(fields, null));
+        assertThrows(IllegalArgumentException.class, () -> number.getField(new Accessors()));
+
+        FieldAccess<Object> name = access(Accessors.class, "name");
+        assertThrows(IllegalArgumentException.class, () -> name.setField(new Accessors(), 42));
+        assertThrows(IllegalArgumentException.class, () -> name.setField(fields, "name"));
+    }
+
+    @Test
+    public void testPrimitivesAreWrittenWithoutBoxing() throws ReflectiveOperationException {
+        PrivateFields fields = new PrivateFields();
+        access(PrivateFields.class, "number").setInt(fields, 42);
+        access(PrivateFields.class, "fraction").setDouble(fields, 0.5);
+        access(PrivateFields.class, "flag").setBoolean(fields, true);
+        assertEquals(42, fields.number);
+        assertEquals(0.5, fields.fraction);
+        assertTrue(fields.flag);
+
+        PrimitiveAccessors accessors = new PrimitiveAccessors();
+        access(PrimitiveAccessors.class, "total").setLong(accessors, 7L);
+        assertEquals(7L, accessors.total);
+        assertEquals(1, accessors.setterCalls);
+        access(PrimitiveAccessors.class, "optional").setInt(accessors, 3);
+        assertEquals(3, accessors.optional);
+    }
+
+    @Test
+    public void testMismatchedPrimitivesAreRejected() throws NoSuchFieldException {
+        PrivateFields fields = new PrivateFields();
+        FieldAccess<Object> number = access(PrivateFields.class, "number");
+        assertThrows(IllegalArgumentException.class, () -> number.setLong(fields, 42L));
+        assertThrows(IllegalArgumentException.class, () -> number.setInt(new Accessors(), 42));
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.*;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -153,4 +154,62 @@ public class HeaderColumnNameMappingStrategyTest {
             strat.generateHeader(new MockBean());
         });
    }
+
+   @Test
+   public void testOnlyBoundColumnsAreRead() throws IOException {
+      strat.setType(MockBean.class);
+      CSVReader reader = new CSVReader(new StringReader("name,unbound,orderNumber,num\nkyle,x,abc123456,123\n"));
+      List<MockBean> list = new CsvToBeanBuilder<MockBean>(reader)
+              .withMappingStrategy(strat)
+              .withReadBoundColumnsOnly(true)
+              .build().parse();
+      assertEquals(1, list.size());
+      assertEquals("kyle", list.get(0).getName());
+      assertEquals("abc123456", list.get(0).getOrderNumber());
+      assertEquals(123, list.get(0).getNum());
+      BitSet expected = new BitSet();
+      expected.set(0);
+      expected.set(2, 4);
+      assertEquals(expected, strat.getBoundColumns());
+      assertEquals(expected, reader.getColumnProjection());
+   }
+
+   @Test
+   public void testAllColumnsAreReadByDefault() {
+      strat.setType(MockBean.class);
+      CSVReader reader = new CSVReader(new StringReader("name,unbound,num\nkyle,x,abc\n"));
+      CsvToBean<MockBean> csvToBean = new CsvToBeanBuilder<MockBean>(reader)
+              .withMappingStrategy(strat)
+              .withThrowExceptions(false)
+              .build();
+      assertTrue(csvToBean.parse().isEmpty());
+      assertNull(reader.getColumnProjection());
+      assertEquals(1, csvToBean.getCapturedExceptions().size());
+      assertArrayEquals(new String[]{"kyle", "x", "abc"}, csvToBean.getCapturedExceptions().get(0).getLine());
+   }
+
+   @Test
+   public void testFilterSeesAllColumns() {
+      strat.setType(MockBean.class);
+      CSVReader reader = new CSVReader(new StringReader("name,unbound\nkyle,x\n"));
+      List<MockBean> list = new CsvToBeanBuilder<MockBean>(reader)
+              .withMappingStrategy(strat)
+              .withFilter(line -> "x".equals(line[1]))
+              .withReadBoundColumnsOnly(true)
+              .build().parse();
+      assertEquals(1, list.size());
+      assertNull(reader.getColumnProjection());
+   }
+
+   @Test
+   public void testStrategyReusedWithDifferentHeader() {
+      List<MockBean> list = createTestParseResult(TEST_STRING);
+      assertEquals("kyle", list.get(0).getName());
+      list = new CsvToBeanBuilder<MockBean>(new StringReader("num,name\n789,nick\n"))
+              .withMappingStrategy(strat).build().parse();
+      assertEquals(1, list.size());
+      assertEquals("nick", list.get(0).getName());
+      assertNull(list.get(0).getOrderNumber());
+      assertEquals(789, list.get(0).getNum());
+   }
 }
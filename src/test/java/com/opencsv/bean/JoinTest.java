@@ -1054,6 +1054,49 @@ public class JoinTest {
                 w.toString()));
     }
     
+    /**
+     * Tests that the values of a multivalued field are written in the order
+     * of the map, whatever order the columns are written in.
+     *
+     * @throws CsvException Never
+     */
+    @Test
+    public void testWriteMultipleValuesInOrder() throws CsvException {
+        GoodJoinByNameAnnotations bean = new GoodJoinByNameAnnotations();
+        MultiValuedMap<String, Integer> map1 = new ArrayListValuedHashMap<>();
+        map1.put("index", 3);
+        map1.put("index", 1);
+        map1.put("index", 2);
+        bean.setMap1(map1);
+        MultiValuedMap<String, Date> map2 = new ArrayListValuedHashMap<>();
+        map2.put("date2", new GregorianCalendar(2018, 1, 7).getTime());
+        map2.put("date1", new GregorianCalendar(1978, 0, 15).getTime());
+        bean.setMap2(map2);
+        MultiValuedMap<String, Integer> map4 = new ArrayListValuedHashMap<>();
+        map4.put("conversion", 20000);
+        map4.put("conversion", 10000);
+        bean.setMap4(map4);
+
+        for(boolean reversed : new boolean[]{false, true}) {
+            HeaderColumnNameMappingStrategy<GoodJoinByNameAnnotations> strategy = new HeaderColumnNameMappingStrategy<>();
+            strategy.setType(GoodJoinByNameAnnotations.class);
+            if(reversed) {
+                strategy.setColumnOrderOnWrite(Comparator.reverseOrder());
+            }
+            StringWriter w = new StringWriter();
+            new StatefulBeanToCsvBuilder<GoodJoinByNameAnnotations>(w)
+                    .withMappingStrategy(strategy)
+                    .withApplyQuotesToAll(false)
+                    .build().write(bean);
+            assertEquals(reversed
+                    ? "index,index,index,date2,date1,conversion,conversion\n"
+                            + "3,1,2,07. Februar 2018,15. Januar 1978,x20.000,x10.000\n"
+                    : "conversion,conversion,date1,date2,index,index,index\n"
+                            + "x20.000,x10.000,15. Januar 1978,07. Februar 2018,3,1,2\n",
+                    w.toString());
+        }
+    }
+
     @Test
     public void testWriteEmptyRequiredFieldInFirstBean() throws CsvException {
         for(MultiValuedMap<String, Integer> map1 : Arrays.asList(null, new ArrayListValuedHashMap<String, Integer>())) {
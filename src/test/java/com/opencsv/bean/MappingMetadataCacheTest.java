@@ -0,0 +1,184 @@
+package com.opencsv.bean;
+
+import com.opencsv.bean.mocks.AnnotatedMockBeanCustom;
+import com.opencsv.bean.mocks.MinimalCsvBindByPositionBeanForWriting;
+import com.opencsv.bean.mocks.SingleNumber;
+import com.opencsv.bean.mocks.profile.ProfileNameMock;
+import com.opencsv.bean.processor.ProcessorTestBean;
+import org.apache.commons.collections4.MultiValuedMap;
+import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappingMetadataCacheTest {
+
+    @BeforeEach
+    public void clearCache() {
+        MappingMetadataCache.setMaximumSize(MappingMetadataCache.DEFAULT_MAXIMUM_SIZE);
+        MappingMetadataCache.clear();
+    }
+
+    @AfterEach
+    public void restoreCache() {
+        MappingMetadataCache.setMaximumSize(MappingMetadataCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    private static <T> HeaderColumnNameMappingStrategy<T> byName(Class<? extends T> type, String profile, Locale errorLocale) {
+        HeaderColumnNameMappingStrategy<T> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setErrorLocale(errorLocale);
+        strategy.setProfile(profile);
+        strategy.setType(type);
+        return strategy;
+    }
+
+    @Test
+    public void testStrategiesShareBeanFieldsButNotFieldMaps() {
+        HeaderColumnNameMappingStrategy<SingleNumber> first = byName(SingleNumber.class, null, Locale.GERMAN);
+        HeaderColumnNameMappingStrategy<SingleNumber> second = byName(SingleNumber.class, null, Locale.GERMAN);
+        assertEquals(1, MappingMetadataCache.size());
+        assertNotSame(first.getFieldMap(), second.getFieldMap());
+        assertSame(first.getFieldMap().get("NUMBER"), second.getFieldMap().get("NUMBER"));
+
+        HeaderColumnNameMappingStrategy<SingleNumber> english = byName(SingleNumber.class, null, Locale.ENGLISH);
+        assertNotSame(first.getFieldMap().get("NUMBER"), english.getFieldMap().get("NUMBER"));
+        assertEquals(2, MappingMetadataCache.size());
+    }
+
+    @Test
+    public void testProfilesAreKeptApart() {
+        HeaderColumnNameMappingStrategy<ProfileNameMock> profile2 = byName(ProfileNameMock.class, "profile 2", Locale.GERMAN);
+        HeaderColumnNameMappingStrategy<ProfileNameMock> profile3 = byName(ProfileNameMock.class, "profile 3", Locale.GERMAN);
+        assertNull(profile2.getFieldMap().get("STRING1"));
+        assertNotNull(profile3.getFieldMap().get("STRING1"));
+        assertNotSame(profile2.getFieldMap().get("INT1"), profile3.getFieldMap().get("INT1"));
+        assertNull(byName(ProfileNameMock.class, "profile 2", Locale.GERMAN).getFieldMap().get("STRING1"));
+    }
+
+    @Test
+    public void testChangingTheLocaleLeavesOtherStrategiesAlone() {
+        HeaderColumnNameMappingStrategy<SingleNumber> first = byName(SingleNumber.class, null, Locale.GERMAN);
+        HeaderColumnNameMappingStrategy<SingleNumber> second = byName(SingleNumber.class, null, Locale.GERMAN);
+        BeanField<SingleNumber, String> shared = first.getFieldMap().get("NUMBER");
+        second.setErrorLocale(Locale.ENGLISH);
+        assertSame(shared, first.getFieldMap().get("NUMBER"));
+        assertNotSame(shared, second.getFieldMap().get("NUMBER"));
+        assertEquals(Locale.GERMAN, ((AbstractBeanField<SingleNumber, String>) shared).errorLocale);
+    }
+
+    @Test
+    public void testIgnoredFieldsAreNotShared() throws NoSuchFieldException {
+        HeaderColumnNameMappingStrategy<SingleNumber> cached = byName(SingleNumber.class, null, Locale.GERMAN);
+        HeaderColumnNameMappingStrategy<SingleNumber> ignoring = byName(SingleNumber.class, null, Locale.GERMAN);
+        MultiValuedMap<Class<?>, Field> ignored = new ArrayListValuedHashMap<>();
+        ignored.put(SingleNumber.class, SingleNumber.class.getDeclaredField("number"));
+        ignoring.ignoreFields(ignored);
+        assertNull(ignoring.getFieldMap().get("NUMBER"));
+        assertNotNull(cached.getFieldMap().get("NUMBER"));
+        assertNotNull(byName(SingleNumber.class, null, Locale.GERMAN).getFieldMap().get("NUMBER"));
+    }
+
+    @Test
+    public void testUserSuppliedClassesAreNotShared() {
+        HeaderColumnNameMappingStrategy<AnnotatedMockBeanCustom> first = byName(AnnotatedMockBeanCustom.class, null, Locale.GERMAN);
+        HeaderColumnNameMappingStrategy<AnnotatedMockBeanCustom> second = byName(AnnotatedMockBeanCustom.class, null, Locale.GERMAN);
+        assertNotNull(first.getFieldMap().get("BOOL1"));
+        assertNotSame(first.getFieldMap().get("BOOL1"), second.getFieldMap().get("BOOL1"));
+
+        HeaderColumnNameMappingStrategy<ProcessorTestBean> processed = byName(ProcessorTestBean.class, null, Locale.GERMAN);
+        assertNotNull(processed.getFieldMap().get("ID"));
+        assertNotSame(processed.getFieldMap().get("ID"), byName(ProcessorTestBean.class, null, Locale.GERMAN).getFieldMap().get("ID"));
+        assertEquals(0, MappingMetadataCache.size());
+    }
+
+    @Test
+    public void testPositionStrategiesReadWithSharedFields() {
+        for (int i = 0; i < 2; i++) {
+            List<MinimalCsvBindByPositionBeanForWriting> beans = new CsvToBeanBuilder<MinimalCsvBindByPositionBeanForWriting>(
+                    new StringReader(i == 0 ? "0,1,2,3\n" : "0,4,5,6,7\n"))
+                    .withType(MinimalCsvBindByPositionBeanForWriting.class)
+                    .build().parse();
+            assertEquals(1, beans.size());
+            assertEquals(i == 0 ? 1 : 4, beans.get(0).getB());
+            assertEquals(i == 0 ? 3 : 6, beans.get(0).getA());
+        }
+        assertEquals(1, MappingMetadataCache.size());
+    }
+
+    /** Loads its own copy of {@link SingleNumber}, and delegates everything else. */
+    private static class SingleNumberLoader extends ClassLoader {
+        SingleNumberLoader() {
+            super(MappingMetadataCacheTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(SingleNumber.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        ByteArrayOutputStream code = new ByteArrayOutputStream();
+                        byte[] buffer = new byte[4096];
+                        for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                            code.write(buffer, 0, n);
+                        }
+                        c = defineClass(name, code.toByteArray(), 0, code.size());
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return c;
+            }
+        }
+    }
+
+    private static WeakReference<ClassLoader> cacheTypeFromOwnLoader() throws ClassNotFoundException {
+        ClassLoader loader = new SingleNumberLoader();
+        Class<?> type = loader.loadClass(SingleNumber.class.getName());
+        assertNotSame(SingleNumber.class, type);
+        assertNotNull(byName(type, null, Locale.GERMAN).getFieldMap().get("NUMBER"));
+        assertEquals(1, MappingMetadataCache.size());
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    public void testCachedTypesCanBeUnloaded() throws ClassNotFoundException, InterruptedException {
+        WeakReference<ClassLoader> loader = cacheTypeFromOwnLoader();
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loader.get());
+        assertEquals(0, MappingMetadataCache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        MappingMetadataCache.setMaximumSize(1);
+        HeaderColumnNameMappingStrategy<SingleNumber> first = byName(SingleNumber.class, null, Locale.GERMAN);
+        byName(SingleNumber.class, null, Locale.ENGLISH);
+        assertEquals(1, MappingMetadataCache.size());
+        assertNotSame(first.getFieldMap().get("NUMBER"),
+                byName(SingleNumber.class, null, Locale.GERMAN).getFieldMap().get("NUMBER"));
+
+        MappingMetadataCache.setMaximumSize(0);
+        assertEquals(0, MappingMetadataCache.size());
+        byName(SingleNumber.class, null, Locale.GERMAN);
+        assertEquals(0, MappingMetadataCache.size());
+        assertThrows(IllegalArgumentException.class, () -> MappingMetadataCache.setMaximumSize(-1));
+    }
+}
@@ -31,8 +31,13 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -411,4 +416,34 @@ public class NumberTest {
         assertEquals(";\n",
                 w.toString());
     }
+
+    /**
+     * Tests that one converter, as shared by all threads converting a
+     * column, reads and writes correctly from many threads at once.
+     */
+    @Test
+    public void testConcurrentConversion() throws InterruptedException, ExecutionException {
+        ConverterNumber converter = new ConverterNumber(Long.class, null, null,
+                Locale.US, "#,##0", "0.00");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for(int t = 0; t < 4; t++) {
+                final long offset = t * 1000000L;
+                results.add(executor.submit(() -> {
+                    for(long i = offset; i < offset + 20000; i++) {
+                        assertEquals(i, converter.convertToRead(String.format(Locale.US, "%,d", i)));
+                        assertEquals(i + ".00", converter.convertToWrite(i));
+                    }
+                    return null;
+                }));
+            }
+            for(Future<Void> result : results) {
+                result.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
 }
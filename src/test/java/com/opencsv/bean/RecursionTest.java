@@ -7,7 +7,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -227,6 +230,84 @@ public class RecursionTest {
         checkReadingResults(beans);
     }
 
+    /** Overrides the deprecated hooks that map beans by type. */
+    private static class LegacyHookStrategy extends HeaderColumnNameMappingStrategy<RecursionMockLevelZero> {
+        private int beansCreated = 0;
+
+        @Override
+        protected Map<Class<?>, Object> createBean() {
+            beansCreated++;
+            return super.createBean();
+        }
+
+        @Override
+        protected Map<Class<?>, Object> indexBean(RecursionMockLevelZero bean)
+                throws IllegalAccessException, InvocationTargetException {
+            Map<Class<?>, Object> beans = super.indexBean(bean);
+            RecursionMockLevelOne substitute = new RecursionMockLevelOne();
+            substitute.setStringLevelOne("substitute");
+            beans.put(RecursionMockLevelOne.class, substitute);
+            return beans;
+        }
+    }
+
+    @Test
+    public void testDeprecatedHooksAreHonored() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        LegacyHookStrategy strategy = new LegacyHookStrategy();
+        strategy.setType(RecursionMockLevelZero.class);
+        int beansCreatedBySetup = strategy.beansCreated;
+        List<RecursionMockLevelZero> beans = new CsvToBeanBuilder<RecursionMockLevelZero>(new StringReader(HEADER + DATA + DATA))
+                .withMappingStrategy(strategy)
+                .build().parse();
+        assertEquals(2, beans.size());
+        assertEquals(beansCreatedBySetup + 2, strategy.beansCreated);
+        checkReadingResults(beans.subList(0, 1));
+
+        strategy = new LegacyHookStrategy();
+        strategy.setType(RecursionMockLevelZero.class);
+        StringWriter w = new StringWriter();
+        new StatefulBeanToCsvBuilder<RecursionMockLevelZero>(w)
+                .withMappingStrategy(strategy)
+                .withApplyQuotesToAll(false)
+                .build()
+                .write(oneGoodMock());
+        assertEquals("BOOLEANLEVELTHREE,CHARLEVELTWO,FLOATLEVELTHREE,INTLEVELZERO,SHORTLEVELTHREE,STRINGLEVELONE\n" +
+                "true,c,4.0,10,32,substitute\n", w.toString());
+    }
+
+    @Test
+    public void testEveryRowGetsItsOwnBeans() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        MappingStrategy<RecursionMockLevelZero> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(RecursionMockLevelZero.class);
+        List<RecursionMockLevelZero> beans = new CsvToBeanBuilder<RecursionMockLevelZero>(
+                new StringReader(HEADER + DATA + "20,21,d,5.0,false,64\n"))
+                .withMappingStrategy(strategy)
+                .build().parse();
+        assertEquals(2, beans.size());
+        checkReadingResults(beans.subList(0, 1));
+        RecursionMockLevelZero first = beans.get(0), second = beans.get(1);
+        assertNotSame(first.getLevelOne(), second.getLevelOne());
+        assertNotSame(first.getLevelOne().getLevelTwo(), second.getLevelOne().getLevelTwo());
+        RecursionMockLevelTwo l2 = second.getLevelOne().getLevelTwo();
+        assertEquals(20, second.getIntLevelZero());
+        assertEquals("21", second.getLevelOne().getStringLevelOne());
+        assertEquals('d', l2.getCharLevelTwo());
+        assertEquals(5.0f, l2.procureTheThirdLevelPointZero().getFloatLevelThree());
+        assertFalse(l2.getLevelThreePointOne().isBooleanLevelThree());
+        assertEquals((short)64, l2.getLevelThreePointTwo().getShortLevelThree());
+
+        StringWriter w = new StringWriter();
+        strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(RecursionMockLevelZero.class);
+        new StatefulBeanToCsvBuilder<RecursionMockLevelZero>(w)
+                .withMappingStrategy(strategy)
+                .withApplyQuotesToAll(false)
+                .build().write(beans);
+        assertEquals("BOOLEANLEVELTHREE,CHARLEVELTWO,FLOATLEVELTHREE,INTLEVELZERO,SHORTLEVELTHREE,STRINGLEVELONE\n" +
+                "true,c,4.0,10,32,11\n" +
+                "false,d,5.0,20,64,21\n", w.toString());
+    }
+
     @Test
     public void testEmbeddedBeanNoNullaryConstructor() {
         try {
@@ -282,6 +363,23 @@ public class RecursionTest {
         assertEquals("10,11,,,,\n", w.toString());
     }
 
+    @Test
+    public void testNullMemberVariableHeaderNames() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        StringWriter w = new StringWriter();
+        MappingStrategy<RecursionMockLevelZero> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(RecursionMockLevelZero.class);
+        StatefulBeanToCsv<RecursionMockLevelZero> b2c = new StatefulBeanToCsvBuilder<RecursionMockLevelZero>(w)
+                .withMappingStrategy(strategy)
+                .withApplyQuotesToAll(false)
+                .build();
+        RecursionMockLevelZero bean = oneGoodMock();
+        bean.getLevelOne().setLevelTwo(null);
+        b2c.write(Arrays.asList(bean, oneGoodMock()));
+        assertEquals("BOOLEANLEVELTHREE,CHARLEVELTWO,FLOATLEVELTHREE,INTLEVELZERO,SHORTLEVELTHREE,STRINGLEVELONE\n" +
+                ",,,10,,11\n" +
+                "true,c,4.0,10,32,11\n", w.toString());
+    }
+
     @Test
     public void testNullMemberVariableRequired() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
         StringWriter w = new StringWriter();
@@ -33,6 +33,9 @@ import java.io.StringWriter;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -1058,6 +1061,97 @@ public class StatefulBeanToCsvTest {
         }
     }
 
+    @Test
+    public void writeWithParallelismAndExecutor() throws CsvException {
+        List<SingleNumber> beans = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SingleNumber bean = new SingleNumber();
+            bean.setNumber(i);
+            beans.add(bean);
+        }
+        StringWriter expected = new StringWriter();
+        new StatefulBeanToCsvBuilder<SingleNumber>(expected).build().write(beans);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        AtomicInteger jobs = new AtomicInteger();
+        Executor countingExecutor = job -> {
+            jobs.incrementAndGet();
+            pool.execute(job);
+        };
+        try {
+            for (int parallelism : new int[]{1, 2}) {
+                StringWriter writer = new StringWriter();
+                new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                        .withParallelism(parallelism)
+                        .build()
+                        .write(beans);
+                assertEquals(expected.toString(), writer.toString(), "Parallelism " + parallelism);
+            }
+
+            StringWriter writer = new StringWriter();
+            new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                    .withExecutor(countingExecutor)
+                    .build()
+                    .write(beans);
+            assertEquals(expected.toString(), writer.toString());
+            assertEquals(1000, jobs.get());
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void writeIteratorWritesLinesWhileConverting() throws CsvException {
+        final int capacity = 10;
+        List<SingleNumber> beans = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            SingleNumber bean = new SingleNumber();
+            bean.setNumber(i);
+            beans.add(bean);
+        }
+        StringWriter expected = new StringWriter();
+        new StatefulBeanToCsvBuilder<SingleNumber>(expected).build().write(beans);
+
+        for (boolean ordered : new boolean[]{true, false}) {
+            StringWriter writer = new StringWriter();
+            Iterator<SingleNumber> source = beans.iterator();
+            Iterator<SingleNumber> checkingIterator = new Iterator<SingleNumber>() {
+                private int taken = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                @Override
+                public SingleNumber next() {
+                    // The header is the first line written.
+                    long linesWritten = writer.toString().chars().filter(c -> c == '\n').count() - 1;
+                    assertTrue(taken - linesWritten <= capacity,
+                            taken + " beans taken, but only " + linesWritten + " lines written");
+                    taken++;
+                    return source.next();
+                }
+            };
+            new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                    .withParallelism(2)
+                    .withOrderedResults(ordered)
+                    .withQueueCapacity(capacity)
+                    .build()
+                    .write(checkingIterator);
+            if (ordered) {
+                assertEquals(expected.toString(), writer.toString());
+            } else {
+                List<String> expectedLines = new ArrayList<>(Arrays.asList(expected.toString().split("\n")));
+                List<String> lines = new ArrayList<>(Arrays.asList(writer.toString().split("\n")));
+                expectedLines.sort(null);
+                lines.sort(null);
+                assertEquals(expectedLines, lines);
+            }
+        }
+    }
+
     private static class SFirstCollator implements Comparator<String> {
         private final Comparator<Object> c;
 
@@ -1,8 +1,11 @@
 package com.opencsv.bean.processor;
 
 import com.opencsv.bean.CsvToBean;
+import com.opencsv.bean.CsvBindByName;
 import com.opencsv.bean.CsvToBeanBuilder;
+import com.opencsv.bean.HeaderColumnNameMappingStrategy;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -10,9 +13,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BeanFieldProcessorTest {
     private static final String GOOD_NAME = "A good name";
@@ -66,4 +71,92 @@ public class BeanFieldProcessorTest {
         assertEquals(bigNumber, bean.getBigNumber());
     }
 
+    public static class CountingProcessor implements StringProcessor {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public CountingProcessor() {
+            instances.incrementAndGet();
+        }
+
+        @Override
+        public String processString(String value) {
+            return value;
+        }
+
+        @Override
+        public void setParameterString(String value) {
+        }
+    }
+
+    public static class ThreadSafeCountingProcessor extends CountingProcessor {
+        static final AtomicInteger threadSafeInstances = new AtomicInteger();
+
+        public ThreadSafeCountingProcessor() {
+            threadSafeInstances.incrementAndGet();
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    public static class CountedBean {
+        @PreAssignmentProcessor(processor = CountingProcessor.class)
+        @CsvBindByName(column = "id")
+        private int id;
+
+        @PreAssignmentProcessor(processor = ThreadSafeCountingProcessor.class)
+        @CsvBindByName(column = "name")
+        private String name;
+    }
+
+    @DisplayName("Processors are created once per field and thread, not once per value")
+    @Test
+    public void testProcessorsAreReused() {
+        StringBuilder sb = new StringBuilder("id,name\n");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i).append(",n").append(i).append('\n');
+        }
+        CountingProcessor.instances.set(0);
+        ThreadSafeCountingProcessor.threadSafeInstances.set(0);
+        List<CountedBean> beans = new CsvToBeanBuilder<CountedBean>(new StringReader(sb.toString()))
+                .withType(CountedBean.class)
+                .withParallelism(2)
+                .withBatchSize(1)
+                .build()
+                .parse();
+        assertEquals(1000, beans.size());
+        assertEquals(1, ThreadSafeCountingProcessor.threadSafeInstances.get());
+        // One for every converting thread, and one created when the field is bound
+        assertTrue(CountingProcessor.instances.get() - ThreadSafeCountingProcessor.threadSafeInstances.get() <= 3);
+    }
+
+    private static void parseCounted(HeaderColumnNameMappingStrategy<CountedBean> strategy) {
+        List<CountedBean> beans = new CsvToBeanBuilder<CountedBean>(new StringReader("id,name\n1,a\n2,b\n"))
+                .withMappingStrategy(strategy)
+                .withParallelism(1)
+                .build()
+                .parse();
+        assertEquals(2, beans.size());
+    }
+
+    @DisplayName("Processors are kept by the mapping strategy from file to file, and only a new strategy creates new ones")
+    @Test
+    public void testProcessorsAreCreatedPerStrategy() {
+        CountingProcessor.instances.set(0);
+        ThreadSafeCountingProcessor.threadSafeInstances.set(0);
+        HeaderColumnNameMappingStrategy<CountedBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(CountedBean.class);
+        parseCounted(strategy);
+        parseCounted(strategy);
+        assertEquals(1, ThreadSafeCountingProcessor.threadSafeInstances.get());
+        assertEquals(1, CountingProcessor.instances.get() - ThreadSafeCountingProcessor.threadSafeInstances.get());
+
+        HeaderColumnNameMappingStrategy<CountedBean> another = new HeaderColumnNameMappingStrategy<>();
+        another.setType(CountedBean.class);
+        parseCounted(another);
+        assertEquals(2, ThreadSafeCountingProcessor.threadSafeInstances.get());
+        assertEquals(2, CountingProcessor.instances.get() - ThreadSafeCountingProcessor.threadSafeInstances.get());
+    }
 }
@@ -0,0 +1,206 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.ICSVParser;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteBufferTokenizerTest {
+
+    private static final String[] INPUTS = {
+            "a,b,c\nd,e,f\n",
+            "a,b,c\r\nd,e,f",
+            "a,\"b,b\",c\n\"\"\"quoted\"\"\",,\"\"\n",
+            "a,\"PO Box 123,\nKippax,ACT. 2615.\nAustralia\",d.\nx,y,z",
+            "a,\"multi\r\nline\",c\r\nlast,line,\r\n",
+            "\n\nempty,lines\n\n",
+            "trailing,separator,\n,leading\n",
+            "a\"b,c\n",
+            "Grüße,\"Straße, €\",\"\"\"ñ\"\"\"x\n日本語,\"\r\n\"\n"
+    };
+
+    private static List<String[]> tokenizeAll(ByteBufferTokenizer tokenizer) throws IOException {
+        List<String[]> records = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            records.add(tokenizer.getFields());
+        }
+        return records;
+    }
+
+    private static ByteBufferTokenizer tokenizer(String input, Charset charset, CSVReaderNullFieldIndicator indicator,
+                                                 int bufferSize) {
+        return new ByteBufferTokenizer(new ByteArrayInputStream(input.getBytes(charset)), charset, ',', '"',
+                indicator, false, 0, Locale.US, bufferSize);
+    }
+
+    private static List<String[]> tokenizeChars(String input, CSVReaderNullFieldIndicator indicator) throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader(input), ',', '"',
+                indicator, false, 0, Locale.US, CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        List<String[]> records = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            records.add(tokenizer.getFields());
+        }
+        return records;
+    }
+
+    private static void assertSameRecords(List<String[]> expected, List<String[]> actual, String input) {
+        assertEquals(expected.size(), actual.size(), "Number of records for [" + input + "]");
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "Record " + i + " for [" + input + "]");
+        }
+    }
+
+    @Test
+    public void producesTheSameRecordsAsTheCharBufferTokenizer() throws IOException {
+        for (String input : INPUTS) {
+            for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+                List<String[]> expected = tokenizeChars(input, indicator);
+                for (int bufferSize : new int[]{2, 3, 5, 7, ByteBufferTokenizer.DEFAULT_BUFFER_SIZE}) {
+                    assertSameRecords(expected,
+                            tokenizeAll(tokenizer(input, StandardCharsets.UTF_8, indicator, bufferSize)), input);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void agreesWithTheCharBufferTokenizerInEveryMode() throws IOException {
+        for (String input : INPUTS) {
+            for (boolean keepCR : new boolean[]{false, true}) {
+                for (char quotechar : new char[]{'"', ICSVParser.NULL_CHARACTER}) {
+                    CharBufferTokenizer chars = new CharBufferTokenizer(new StringReader(input), ',', quotechar,
+                            CSVReaderNullFieldIndicator.NEITHER, keepCR, 0, Locale.US, 3);
+                    ByteBufferTokenizer bytes = new ByteBufferTokenizer(
+                            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+                            ',', quotechar, CSVReaderNullFieldIndicator.NEITHER, keepCR, 0, Locale.US, 3);
+                    boolean more;
+                    do {
+                        more = chars.nextRecord();
+                        assertEquals(more, bytes.nextRecord(), input);
+                        if (more) {
+                            assertArrayEquals(chars.getFields(), bytes.getFields(), input);
+                            assertEquals(chars.getRecordText(), bytes.getRecordText(), input);
+                        }
+                        assertEquals(chars.getLinesRead(), bytes.getLinesRead(), input);
+                    } while (more);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void decodesSingleByteCharacterSets() throws IOException {
+        String input = "Grüße,\"naïve\"\n";
+        List<String[]> records = tokenizeAll(tokenizer(input, StandardCharsets.ISO_8859_1, CSVReaderNullFieldIndicator.NEITHER, 4));
+        assertEquals(1, records.size());
+        assertArrayEquals(new String[]{"Grüße", "naïve"}, records.get(0));
+    }
+
+    @Test
+    public void fieldViewsMatchMaterializedFields() throws IOException {
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            for (String input : INPUTS) {
+                ByteBufferTokenizer tokenizer = tokenizer(input, StandardCharsets.UTF_8, indicator, 4);
+                while (tokenizer.nextRecord()) {
+                    String[] fields = tokenizer.getFields();
+                    assertEquals(fields.length, tokenizer.size());
+                    for (int i = 0; i < fields.length; i++) {
+                        CharSequence view = tokenizer.get(i);
+                        assertEquals(fields[i], view == null ? null : view.toString(), "Field " + i + " of [" + input + "]");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void asciiFieldViewsAreReused() throws IOException {
+        ByteBufferTokenizer tokenizer = tokenizer("abc,ä\nxy,z\n", StandardCharsets.UTF_8, CSVReaderNullFieldIndicator.NEITHER, 16);
+        assertTrue(tokenizer.nextRecord());
+        CharSequence first = tokenizer.get(0);
+        assertEquals("abc", first.toString());
+        assertEquals('b', first.charAt(1));
+        assertEquals("bc", first.subSequence(1, 3).toString());
+        assertEquals("ä", tokenizer.get(1).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.get(2));
+        assertTrue(tokenizer.nextRecord());
+        assertSame(first, tokenizer.get(0));
+        assertEquals("xy", first.toString());
+    }
+
+    @Test
+    public void projectedFieldsAreNull() throws IOException {
+        ByteBufferTokenizer tokenizer = tokenizer("a,\"b\"\"\",ü\n", StandardCharsets.UTF_8, CSVReaderNullFieldIndicator.NEITHER, 16);
+        BitSet columns = new BitSet();
+        columns.set(2);
+        tokenizer.setColumnProjection(columns);
+        assertTrue(tokenizer.nextRecord());
+        assertArrayEquals(new String[]{null, null, "ü"}, tokenizer.getFields());
+        assertNull(tokenizer.get(0));
+    }
+
+    @Test
+    public void countsLinesAndRecords() throws IOException {
+        ByteBufferTokenizer tokenizer = tokenizer("skip me\na,\"b\r\nb\",c\r\nd\n", StandardCharsets.UTF_8,
+                CSVReaderNullFieldIndicator.NEITHER, 8);
+        tokenizer.skipLines(1);
+        assertEquals(1, tokenizer.getLinesRead());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(3, tokenizer.getLinesRead());
+        assertEquals("a,\"b\r\nb\",c", tokenizer.getRecordText());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(4, tokenizer.getLinesRead());
+        assertFalse(tokenizer.nextRecord());
+        assertEquals(2, tokenizer.getRecordsRead());
+    }
+
+    @Test
+    public void unterminatedQuoteThrowsException() {
+        ByteBufferTokenizer tokenizer = tokenizer("a,b\nc,\"d\ne\n", StandardCharsets.UTF_8,
+                CSVReaderNullFieldIndicator.NEITHER, 8);
+        CsvMalformedLineException e = assertThrows(CsvMalformedLineException.class, () -> tokenizeAll(tokenizer));
+        assertEquals(2, e.getLineNumber());
+        assertEquals("c,\"d\ne\n", e.getContext());
+    }
+
+    @Test
+    public void unsupportedCharacterSetsAreRecognized() {
+        assertTrue(ByteBufferTokenizer.isSupported(StandardCharsets.UTF_8, ',', '"'));
+        assertTrue(ByteBufferTokenizer.isSupported(StandardCharsets.ISO_8859_1, ';', ICSVParser.NULL_CHARACTER));
+        assertFalse(ByteBufferTokenizer.isSupported(StandardCharsets.UTF_16, ',', '"'));
+        assertFalse(ByteBufferTokenizer.isSupported(StandardCharsets.UTF_8, '§', '"'));
+        assertThrows(IllegalArgumentException.class, () -> tokenizer("a", StandardCharsets.UTF_16BE,
+                CSVReaderNullFieldIndicator.NEITHER, 8));
+    }
+
+    @Test
+    public void csvReaderReadsBytesWithTokenizer() throws IOException, CsvException {
+        for (Charset charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.UTF_16}) {
+            for (String input : INPUTS) {
+                CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(input.getBytes(charset)), charset)
+                        .withCSVParser(new RFC4180ParserBuilder().build())
+                        .withCharBufferTokenizer(true)
+                        .build();
+                List<String[]> expected = tokenizeChars(input, CSVReaderNullFieldIndicator.NEITHER);
+                assertSameRecords(expected, reader.readAll(), input);
+                assertEquals(expected.size(), reader.getRecordsRead());
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CsvRecord;
+import com.opencsv.ICSVParser;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvMultilineLimitBrokenException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.validators.LineValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CharBufferTokenizerTest {
+
+    private static final String[] INPUTS = {
+            "a,b,c\nd,e,f\n",
+            "a,b,c\r\nd,e,f",
+            "a,\"b,b\",c\n\"\"\"quoted\"\"\",,\"\"\n",
+            "a,\"PO Box 123,\nKippax,ACT. 2615.\nAustralia\",d.\nx,y,z",
+            "a,\"multi\r\nline\",c\r\nlast,line,\r\n",
+            "\n\nempty,lines\n\n",
+            "trailing,separator,\n,leading\n",
+            "a\"b,c\n"
+    };
+
+    private static List<String[]> tokenizeAll(String input, boolean keepCR, CSVReaderNullFieldIndicator indicator, int bufferSize) throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader(input), ',', '"',
+                indicator, keepCR, 0, Locale.US, bufferSize);
+        List<String[]> records = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            records.add(tokenizer.getFields());
+        }
+        return records;
+    }
+
+    private static List<String[]> parseAll(String input, boolean keepCR, CSVReaderNullFieldIndicator indicator) throws IOException, CsvException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                .withCSVParser(new RFC4180ParserBuilder().withFieldAsNull(indicator).build())
+                .withKeepCarriageReturn(keepCR)
+                .build();
+        return reader.readAll();
+    }
+
+    private static void assertSameRecords(List<String[]> expected, List<String[]> actual, String input) {
+        assertEquals(expected.size(), actual.size(), "Number of records for [" + input + "]");
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "Record " + i + " for [" + input + "]");
+        }
+    }
+
+    @Test
+    public void producesTheSameRecordsAsTheRfc4180Parser() throws IOException, CsvException {
+        for (String input : INPUTS) {
+            for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+                List<String[]> expected = parseAll(input, false, indicator);
+                assertSameRecords(expected, tokenizeAll(input, false, indicator, CharBufferTokenizer.DEFAULT_BUFFER_SIZE), input);
+            }
+        }
+    }
+
+    @Test
+    public void recordsMayCrossBufferBoundaries() throws IOException {
+        for (String input : INPUTS) {
+            List<String[]> expected = tokenizeAll(input, false, CSVReaderNullFieldIndicator.NEITHER, CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+            for (int bufferSize = 2; bufferSize < 12; bufferSize++) {
+                assertSameRecords(expected, tokenizeAll(input, false, CSVReaderNullFieldIndicator.NEITHER, bufferSize), input);
+            }
+        }
+    }
+
+    @Test
+    public void keepsCarriageReturnsIfAsked() throws IOException {
+        List<String[]> records = tokenizeAll("a,\"b\r\nc\"\r\nd,e\r\n", true, CSVReaderNullFieldIndicator.NEITHER, 3);
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"a", "b\r\nc\r"}, records.get(0));
+        assertArrayEquals(new String[]{"d", "e\r"}, records.get(1));
+    }
+
+    @Test
+    public void normalizesLineTerminatorsInQuotes() throws IOException {
+        List<String[]> records = tokenizeAll("\"a\rb\r\nc\nd\"\n", false, CSVReaderNullFieldIndicator.NEITHER, 4);
+        assertEquals(1, records.size());
+        assertArrayEquals(new String[]{"a\nb\nc\nd"}, records.get(0));
+    }
+
+    @Test
+    public void countsLinesAndRecords() throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader("skip me\na,\"b\r\nb\",c\r\nd\n"),
+                ',', '"', CSVReaderNullFieldIndicator.NEITHER, false);
+        tokenizer.skipLines(1);
+        assertEquals(1, tokenizer.getLinesRead());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(3, tokenizer.getLinesRead());
+        assertEquals("a,\"b\r\nb\",c", tokenizer.getRecordText());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(4, tokenizer.getLinesRead());
+        assertFalse(tokenizer.nextRecord());
+        assertEquals(2, tokenizer.getRecordsRead());
+    }
+
+    @Test
+    public void withoutQuoteCharacterQuotesAreData() throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader("\"a,b\"\n"),
+                ',', ICSVParser.NULL_CHARACTER, CSVReaderNullFieldIndicator.NEITHER, false);
+        assertTrue(tokenizer.nextRecord());
+        assertArrayEquals(new String[]{"\"a", "b\""}, tokenizer.getFields());
+    }
+
+    @Test
+    public void textAfterClosingQuoteIsAppended() throws IOException {
+        List<String[]> records = tokenizeAll("\"a,b\"c,d\n", false, CSVReaderNullFieldIndicator.NEITHER, 4);
+        assertEquals(1, records.size());
+        assertArrayEquals(new String[]{"a,bc", "d"}, records.get(0));
+    }
+
+    @Test
+    public void unterminatedQuoteThrowsException() {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader("a,b\nc,\"d\ne\n"),
+                ',', '"', CSVReaderNullFieldIndicator.NEITHER, false);
+        CsvMalformedLineException e = assertThrows(CsvMalformedLineException.class, () -> {
+            while (tokenizer.nextRecord()) {
+                tokenizer.getFields();
+            }
+        });
+        assertEquals(2, e.getLineNumber());
+        assertEquals("c,\"d\ne\n", e.getContext());
+    }
+
+    @Test
+    public void multilineLimitIsEnforced() {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader("\"a\nb\nc\",d\n"),
+                ',', '"', CSVReaderNullFieldIndicator.NEITHER, false, 2, Locale.US, 8);
+        CsvMultilineLimitBrokenException e = assertThrows(CsvMultilineLimitBrokenException.class, tokenizer::nextRecord);
+        assertEquals(1, e.getRow());
+        assertEquals(2, e.getMultilineLimit());
+    }
+
+    @Test
+    public void csvReaderReadsWithTokenizer() throws IOException, CsvException {
+        for (String input : INPUTS) {
+            CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                    .withCSVParser(new RFC4180ParserBuilder().build())
+                    .withCharBufferTokenizer(true)
+                    .build();
+            List<String[]> actual = reader.readAll();
+            List<String[]> expected = parseAll(input, false, CSVReaderNullFieldIndicator.NEITHER);
+            assertSameRecords(expected, actual, input);
+            assertEquals(expected.size(), reader.getRecordsRead());
+        }
+    }
+
+    @Test
+    public void csvReaderWithTokenizerTreatsClosedReaderAsEndOfInput() throws IOException, CsvException {
+        StringReader sr = new StringReader("a,b\n");
+        CSVReader reader = new CSVReaderBuilder(sr)
+                .withCharBufferTokenizer(true)
+                .build();
+        sr.close();
+        assertNull(reader.readNext());
+    }
+
+    @Test
+    public void fieldViewsMatchMaterializedFields() throws IOException {
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            for (String input : INPUTS) {
+                CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader(input), ',', '"',
+                        indicator, false, 0, Locale.US, 4);
+                while (tokenizer.nextRecord()) {
+                    String[] fields = tokenizer.getFields();
+                    assertEquals(fields.length, tokenizer.size());
+                    for (int i = 0; i < fields.length; i++) {
+                        CharSequence view = tokenizer.get(i);
+                        assertEquals(fields[i], view == null ? null : view.toString(), "Field " + i + " of [" + input + "]");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fieldViewsAreReusedForTheNextRecord() throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(new StringReader("abc,\"d\"\"e\"\nxy,z\n"), ',', '"',
+                CSVReaderNullFieldIndicator.NEITHER, false);
+        assertTrue(tokenizer.nextRecord());
+        CharSequence first = tokenizer.get(0);
+        CharSequence second = tokenizer.get(1);
+        assertEquals("abc", first.toString());
+        assertEquals("d\"e", second.toString());
+        assertEquals('"', second.charAt(1));
+        assertEquals("bc", first.subSequence(1, 3).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.get(2));
+        assertTrue(tokenizer.nextRecord());
+        assertSame(first, tokenizer.get(0));
+        assertEquals("xy", first.toString());
+    }
+
+    @Test
+    public void csvReaderReadsRecordViews() throws IOException, CsvException {
+        for (String input : INPUTS) {
+            for (boolean useTokenizer : new boolean[]{true, false}) {
+                CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                        .withCSVParser(new RFC4180ParserBuilder().build())
+                        .withCharBufferTokenizer(useTokenizer)
+                        .build();
+                List<String[]> actual = new ArrayList<>();
+                CsvRecord record;
+                while ((record = reader.readNextRecord()) != null) {
+                    actual.add(record.materialize());
+                }
+                List<String[]> expected = parseAll(input, false, CSVReaderNullFieldIndicator.NEITHER);
+                assertSameRecords(expected, actual, input);
+                assertEquals(expected.size(), reader.getRecordsRead());
+            }
+        }
+    }
+
+    @Test
+    public void csvReaderRunsValidatorsOnRecordViews() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b\nbad,c\n"))
+                .withCharBufferTokenizer(true)
+                .withLineValidator(new LineValidator() {
+                    @Override
+                    public boolean isValid(String line) {
+                        return !line.startsWith("bad");
+                    }
+
+                    @Override
+                    public void validate(String line) throws CsvValidationException {
+                        if (!isValid(line)) {
+                            throw new CsvValidationException(line);
+                        }
+                    }
+                })
+                .build();
+        assertDoesNotThrow(() -> assertEquals("b", reader.readNextRecord().getString(1)));
+        assertThrows(CsvValidationException.class, reader::readNextRecord);
+    }
+}
@@ -4,9 +4,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class LineReaderTest {
     private static final String ORIGINAL = "This is the original string\r\n";
@@ -55,4 +56,66 @@ public class LineReaderTest {
         LineReader reader = createLineReaderforString(EMPTY_STRING, false);
         assertEquals(NULL_STRING, reader.readLine());
     }
+
+    @Test
+    public void lineReaderNoCRRecognizesAllLineTerminators() throws IOException {
+        LineReader reader = createLineReaderforString("a\rb\r\nc\nd", false);
+        assertEquals("a", reader.readLine());
+        assertEquals("b", reader.readLine());
+        assertEquals("c", reader.readLine());
+        assertEquals("d", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void lineReaderHandlesLinesLongerThanItsBuffer() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        String longLine = sb.toString();
+        LineReader reader = createLineReaderforString(longLine + "\r\n" + longLine, false);
+        assertEquals(longLine, reader.readLine());
+        assertEquals(longLine, reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void lineReaderReportsWhetherAFailedReadConsumedPartOfALine() throws IOException {
+        Reader failing = new Reader() {
+            private boolean first = true;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (first) {
+                    first = false;
+                    cbuf[off] = 'a';
+                    cbuf[off + 1] = '\n';
+                    cbuf[off + 2] = 'b';
+                    return 3;
+                }
+                throw new IOException();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        LineReader reader = new LineReader(new BufferedReader(failing), false);
+        assertEquals("a", reader.readLine());
+        try {
+            reader.readLine();
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertTrue(reader.isLineIncomplete());
+        }
+
+        LineReader closed = new LineReader(new BufferedReader(failing), false);
+        try {
+            closed.readLine();
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertFalse(closed.isLineIncomplete());
+        }
+    }
 }